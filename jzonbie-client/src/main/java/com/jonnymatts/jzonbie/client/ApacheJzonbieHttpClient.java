@@ -118,11 +118,21 @@ public class ApacheJzonbieHttpClient implements JzonbieClient {
         );
     }
 
+    @Override
+    public void prime(List<ZombiePriming> primings) {
+        final HttpUriRequest primeZombieRequest = apacheJzonbieRequestFactory.createPrimeZombieBatchRequest(primings);
+        execute(
+                primeZombieRequest,
+                httpResponse -> deserializer.deserializeCollection(getHttpResponseBody(httpResponse), ZombiePriming.class),
+                format("Failed to prime batch of %d primings.", primings.size())
+        );
+    }
+
     @Override
     public void prime(File file) {
         final HttpUriRequest primeZombieRequest = apacheJzonbieRequestFactory.createPrimeZombieWithFileRequest(file);
         execute(
-                primeZombieRequest, httpResponse -> deserializer.deserializeCollection(getHttpResponseBody(httpResponse), PrimedMapping.class),
+                primeZombieRequest, identity(),
                 format("Failed to prime with file %s.", file.getAbsolutePath())
         );
     }
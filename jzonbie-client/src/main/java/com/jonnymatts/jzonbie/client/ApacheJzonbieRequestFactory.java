@@ -12,6 +12,7 @@ import org.apache.http.entity.mime.MultipartEntityBuilder;
 import org.apache.http.entity.mime.content.FileBody;
 
 import java.io.File;
+import java.util.List;
 
 public class ApacheJzonbieRequestFactory {
 
@@ -49,6 +50,10 @@ public class ApacheJzonbieRequestFactory {
         return createPostRequest(new ZombiePriming(appRequest, appResponse), "priming");
     }
 
+    public HttpUriRequest createPrimeZombieBatchRequest(List<ZombiePriming> zombiePrimings) {
+        return createPostRequest(zombiePrimings, "priming-batch");
+    }
+
     public HttpUriRequest createPrimeZombieForDefaultRequest(AppRequest appRequest, AppResponse appResponse) {
         return createPostRequest(new ZombiePriming(appRequest, appResponse), "priming-default");
     }
@@ -5,6 +5,7 @@ import com.jonnymatts.jzonbie.JzonbieClient;
 import com.jonnymatts.jzonbie.history.Exchange;
 import com.jonnymatts.jzonbie.junit.JzonbieExtension;
 import com.jonnymatts.jzonbie.priming.PrimedMapping;
+import com.jonnymatts.jzonbie.priming.ZombiePriming;
 import com.jonnymatts.jzonbie.requests.AppRequest;
 import com.jonnymatts.jzonbie.responses.AppResponse;
 import com.jonnymatts.jzonbie.responses.defaults.DefaultAppResponse;
@@ -72,6 +73,16 @@ class ApacheJzonbieHttpClientTest {
         assertThat(jzonbie.getCurrentPriming()).containsExactly(primedMapping);
     }
 
+    @Test
+    void primeZombieWithBatchAddsAllPrimings(Jzonbie jzonbie) {
+        underTest.prime(asList(new ZombiePriming(REQUEST, RESPONSE), new ZombiePriming(get("/other"), RESPONSE)));
+
+        final DefaultingQueue otherQueue = new DefaultingQueue();
+        otherQueue.add(RESPONSE);
+
+        assertThat(jzonbie.getCurrentPriming()).containsExactly(primedMapping, new PrimedMapping(get("/other"), otherQueue));
+    }
+
     @Test
     void primeZombieWithDefaultResponseAddsPriming(Jzonbie jzonbie) {
         underTest.prime(REQUEST, DEFAULT_RESPONSE);
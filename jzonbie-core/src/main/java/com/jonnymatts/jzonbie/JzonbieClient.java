@@ -2,6 +2,8 @@ package com.jonnymatts.jzonbie;
 
 import com.jonnymatts.jzonbie.history.Exchange;
 import com.jonnymatts.jzonbie.priming.PrimedMapping;
+import com.jonnymatts.jzonbie.priming.PrimingBatch;
+import com.jonnymatts.jzonbie.priming.ZombiePriming;
 import com.jonnymatts.jzonbie.requests.AppRequest;
 import com.jonnymatts.jzonbie.responses.AppResponse;
 import com.jonnymatts.jzonbie.responses.defaults.DefaultAppResponse;
@@ -30,6 +32,17 @@ public interface JzonbieClient {
      */
     void prime(AppRequest request, AppResponse response);
 
+    /**
+     * Prime this Jzonbie with all the given request/response primings at once.
+     * <p>
+     * Each priming is a one-time priming, as if primed individually in order. Priming many
+     * requests this way is much faster than priming them one by one.
+     * A {@link PrimingBatch} can be used to collect primings and prime them in batches.
+     *
+     * @param primings the primings to add
+     */
+    void prime(List<ZombiePriming> primings);
+
     /**
      * Prime this Jzonbie to return response when an incoming request matches the input request
      * and there are no responses primed.
@@ -1,8 +1,24 @@
 package com.jonnymatts.jzonbie;
 
+import com.google.common.io.CharStreams;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.io.Reader;
+import java.io.UncheckedIOException;
 import java.util.List;
 import java.util.Map;
 
+import static java.nio.charset.StandardCharsets.UTF_8;
+
+/**
+ * An incoming request.
+ * <p>
+ * Implementations must override at least one of {@link #getPrimingFile()} and
+ * {@link #getPrimingFileContent()}, as each is implemented by default with the other.
+ */
 public interface Request {
 
     String getPath();
@@ -15,6 +31,30 @@ public interface Request {
 
     Map<String, List<String>> getQueryParams();
 
-    String getPrimingFileContent();
+    /**
+     * Returns the uploaded priming file as a stream, to be closed by the caller, or null if
+     * the request does not contain a priming file.
+     */
+    default InputStream getPrimingFile() {
+        final String content = getPrimingFileContent();
+        return content == null ? null : new ByteArrayInputStream(content.getBytes(UTF_8));
+    }
+
+    /**
+     * Returns the content of the uploaded priming file, or null if the request does not
+     * contain a priming file.
+     *
+     * @deprecated reads the whole file into memory, use {@link #getPrimingFile()} instead
+     */
+    @Deprecated
+    default String getPrimingFileContent() {
+        final InputStream primingFile = getPrimingFile();
+        if(primingFile == null) return null;
+        try (Reader reader = new InputStreamReader(primingFile, UTF_8)) {
+            return CharStreams.toString(reader);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
 
 }
@@ -3,10 +3,14 @@ package com.jonnymatts.jzonbie.body;
 
 import com.jonnymatts.jzonbie.Body;
 
+import com.jonnymatts.jzonbie.util.ContentMatcher;
+import com.jonnymatts.jzonbie.util.JsonFingerprint;
+
+import java.io.UncheckedIOException;
 import java.util.ArrayList;
 import java.util.List;
-
-import static com.jonnymatts.jzonbie.util.Matching.listsMatchesRegex;
+import java.util.OptionalLong;
+import java.util.function.Function;
 
 /**
  * Request/response body containing a {@link List}. This will be recognized as
@@ -22,28 +26,96 @@ import static com.jonnymatts.jzonbie.util.Matching.listsMatchesRegex;
  * <pre>
  * [1, 2, 3]
  * </pre>
+ * <p>
+ * Body content created from raw JSON with {@link #arrayBody(String, Function)} is only
+ * deserialized when its content is first needed. Until then it is matched against primed
+ * content by streaming over the raw JSON.
  */
 public class ArrayBodyContent extends BodyContent<List<Object>> {
 
-    private List<Object> content;
+    private volatile List<Object> content;
+    private volatile ContentMatcher matcher;
+    private final String json;
+    private final Function<String, List<Object>> deserializer;
 
     ArrayBodyContent(List<?> content) {
         this.content = content == null ? null : new ArrayList<>(content);
+        this.json = null;
+        this.deserializer = null;
+    }
+
+    private ArrayBodyContent(String json, Function<String, List<Object>> deserializer) {
+        this.json = json;
+        this.deserializer = deserializer;
     }
 
     @Override
     public boolean matches(Body<?> other) {
-        return other instanceof ArrayBodyContent && listsMatchesRegex(content, ((ArrayBodyContent)other).getContent());
+        if(!(other instanceof ArrayBodyContent)) return false;
+
+        final ArrayBodyContent that = (ArrayBodyContent) other;
+        if(that.isDeserialized())
+            return matcher().matches(that.getContent());
+
+        try {
+            return matcher().matchesJson(that.json);
+        } catch (UncheckedIOException e) {
+            // Deserialize to report malformed JSON the same way as a deserialized body would
+            return matcher().matches(that.getContent());
+        }
+    }
+
+    @Override
+    public OptionalLong fingerprint() {
+        if(isDeserialized()) {
+            final List<Object> content = getContent();
+            return content == null ? OptionalLong.empty() : OptionalLong.of(JsonFingerprint.of(content));
+        }
+
+        try {
+            return OptionalLong.of(JsonFingerprint.ofJson(json));
+        } catch (UncheckedIOException e) {
+            return OptionalLong.empty();
+        }
+    }
+
+    @Override
+    public OptionalLong exactFingerprint() {
+        final List<Object> content = getContent();
+        return content != null && JsonFingerprint.isExact(content) ? OptionalLong.of(JsonFingerprint.of(content)) : OptionalLong.empty();
+    }
+
+    private boolean isDeserialized() {
+        return json == null || content != null;
+    }
+
+    @Override
+    public void prepareForMatching() {
+        matcher();
+    }
+
+    private ContentMatcher matcher() {
+        ContentMatcher compiled = matcher;
+        if(compiled == null) {
+            compiled = ContentMatcher.compile(getContent());
+            matcher = compiled;
+        }
+        return compiled;
     }
 
     @Override
     public ArrayBodyContent copy() {
-        return new ArrayBodyContent(new ArrayList<>(content));
+        return new ArrayBodyContent(new ArrayList<>(getContent()));
     }
 
     @Override
     public List<Object> getContent() {
-        return content;
+        List<Object> deserialized = content;
+        if(deserialized == null && json != null) {
+            deserialized = deserializer.apply(json);
+            content = deserialized;
+        }
+        return deserialized;
     }
 
     @Override
@@ -61,6 +133,18 @@ public class ArrayBodyContent extends BodyContent<List<Object>> {
         return new ArrayBodyContent(content);
     }
 
+    /**
+     * Creates an {@link ArrayBodyContent} body content from a raw JSON array, which is
+     * deserialized with the given function when its content is first needed.
+     *
+     * @param json raw JSON array
+     * @param deserializer function deserializing the raw JSON into list content
+     * @return list body content
+     */
+    public static ArrayBodyContent arrayBody(String json, Function<String, List<Object>> deserializer) {
+        return new ArrayBodyContent(json, deserializer);
+    }
+
     @Override
     public boolean equals(Object o) {
         if (this == o) return true;
@@ -68,18 +152,21 @@ public class ArrayBodyContent extends BodyContent<List<Object>> {
 
         ArrayBodyContent that = (ArrayBodyContent) o;
 
-        return content != null ? content.equals(that.content) : that.content == null;
+        final List<Object> content = getContent();
+        final List<Object> thatContent = that.getContent();
+        return content != null ? content.equals(thatContent) : thatContent == null;
     }
 
     @Override
     public int hashCode() {
+        final List<Object> content = getContent();
         return content != null ? content.hashCode() : 0;
     }
 
     @Override
     public String toString() {
         return "ArrayBodyContent{" +
-                "content=" + content +
+                "content=" + getContent() +
                 '}';
     }
 }
\ No newline at end of file
@@ -2,6 +2,8 @@ package com.jonnymatts.jzonbie.body;
 
 import com.jonnymatts.jzonbie.Body;
 
+import java.util.OptionalLong;
+
 /**
  * Abstract class to define request and response bodies.
  *
@@ -15,4 +17,32 @@ public abstract class BodyContent<T> implements Body<T> {
     public abstract BodyContentType getType();
     public abstract BodyContent<T> copy();
 
+    /**
+     * Prepares this body for matching other bodies against it, eg. by compiling its patterns.
+     * <p>
+     * This is called when the body is primed, so the content must not be modified afterwards.
+     *
+     * @throws IllegalArgumentException if the content contains an invalid regex pattern
+     */
+    public void prepareForMatching() {}
+
+    /**
+     * Returns the fingerprint of this body as an incoming body, if it has one.
+     *
+     * @return fingerprint of the content, or empty if this type of body is not fingerprinted
+     */
+    public OptionalLong fingerprint() {
+        return OptionalLong.empty();
+    }
+
+    /**
+     * Returns the fingerprint of this body as a primed body, if it only matches incoming bodies
+     * with the same {@link #fingerprint()}.
+     *
+     * @return fingerprint of the content, or empty if the body contains patterns
+     */
+    public OptionalLong exactFingerprint() {
+        return OptionalLong.empty();
+    }
+
 }
\ No newline at end of file
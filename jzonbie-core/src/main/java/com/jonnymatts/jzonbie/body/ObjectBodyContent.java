@@ -3,10 +3,16 @@ package com.jonnymatts.jzonbie.body;
 
 import com.jonnymatts.jzonbie.Body;
 
+import com.jonnymatts.jzonbie.util.ContentMatcher;
+import com.jonnymatts.jzonbie.util.JsonFingerprint;
+
+import java.io.UncheckedIOException;
 import java.util.HashMap;
 import java.util.Map;
+import java.util.OptionalLong;
+import java.util.function.Function;
 
-import static com.jonnymatts.jzonbie.util.Matching.mapValuesMatchWithRegex;
+import static java.util.Collections.emptyMap;
 
 /**
  * Request/response body containing a {@link Map}. This will be recognized as
@@ -22,28 +28,100 @@ import static com.jonnymatts.jzonbie.util.Matching.mapValuesMatchWithRegex;
  * <pre>
  * {"key": "value"}
  * </pre>
+ * <p>
+ * Body content created from raw JSON with {@link #objectBody(String, Function)} is only
+ * deserialized when its content is first needed. Until then it is matched against primed
+ * content by streaming over the raw JSON.
  */
 public class ObjectBodyContent extends BodyContent<Map<String, Object>> {
 
-    private Map<String, Object> content;
+    private volatile Map<String, Object> content;
+    private volatile ContentMatcher matcher;
+    private final String json;
+    private final Function<String, Map<String, Object>> deserializer;
 
     private ObjectBodyContent(Map<String, ?> content) {
         this.content = content == null ? null : new HashMap<>(content);
+        this.json = null;
+        this.deserializer = null;
+    }
+
+    private ObjectBodyContent(String json, Function<String, Map<String, Object>> deserializer) {
+        this.json = json;
+        this.deserializer = deserializer;
     }
 
     @Override
     public Map<String, Object> getContent() {
-        return content;
+        Map<String, Object> deserialized = content;
+        if(deserialized == null && json != null) {
+            deserialized = deserializer.apply(json);
+            content = deserialized;
+        }
+        return deserialized;
     }
 
     @Override
     public boolean matches(Body<?> other) {
-        return other instanceof ObjectBodyContent && mapValuesMatchWithRegex(content, ((ObjectBodyContent)other).getContent());
+        if(!(other instanceof ObjectBodyContent)) return false;
+
+        final ObjectBodyContent that = (ObjectBodyContent) other;
+        if(that.isDeserialized()) {
+            final Map<String, Object> otherContent = that.getContent();
+            final Map<String, Object> primedContent = getContent();
+            return otherContent == null ? primedContent == null || primedContent.isEmpty() : matcher().matches(otherContent);
+        }
+
+        try {
+            return matcher().matchesJson(that.json);
+        } catch (UncheckedIOException e) {
+            // Deserialize to report malformed JSON the same way as a deserialized body would
+            return matcher().matches(that.getContent());
+        }
+    }
+
+    @Override
+    public OptionalLong fingerprint() {
+        if(isDeserialized()) {
+            final Map<String, Object> content = getContent();
+            return content == null ? OptionalLong.empty() : OptionalLong.of(JsonFingerprint.of(content));
+        }
+
+        try {
+            return OptionalLong.of(JsonFingerprint.ofJson(json));
+        } catch (UncheckedIOException e) {
+            return OptionalLong.empty();
+        }
+    }
+
+    @Override
+    public OptionalLong exactFingerprint() {
+        final Map<String, Object> content = getContent();
+        return content != null && JsonFingerprint.isExact(content) ? OptionalLong.of(JsonFingerprint.of(content)) : OptionalLong.empty();
+    }
+
+    private boolean isDeserialized() {
+        return json == null || content != null;
+    }
+
+    @Override
+    public void prepareForMatching() {
+        matcher();
+    }
+
+    private ContentMatcher matcher() {
+        ContentMatcher compiled = matcher;
+        if(compiled == null) {
+            final Map<String, Object> primedContent = getContent();
+            compiled = ContentMatcher.compile(primedContent == null ? emptyMap() : primedContent);
+            matcher = compiled;
+        }
+        return compiled;
     }
 
     @Override
     public ObjectBodyContent copy() {
-        return new ObjectBodyContent(new HashMap<>(content));
+        return new ObjectBodyContent(new HashMap<>(getContent()));
     }
 
     @Override
@@ -61,6 +139,18 @@ public class ObjectBodyContent extends BodyContent<Map<String, Object>> {
         return new ObjectBodyContent(content);
     }
 
+    /**
+     * Creates an {@link ObjectBodyContent} body content from a raw JSON object, which is
+     * deserialized with the given function when its content is first needed.
+     *
+     * @param json raw JSON object
+     * @param deserializer function deserializing the raw JSON into map content
+     * @return map body content
+     */
+    public static ObjectBodyContent objectBody(String json, Function<String, Map<String, Object>> deserializer) {
+        return new ObjectBodyContent(json, deserializer);
+    }
+
     @Override
     public boolean equals(Object o) {
         if (this == o) return true;
@@ -68,18 +158,21 @@ public class ObjectBodyContent extends BodyContent<Map<String, Object>> {
 
         ObjectBodyContent that = (ObjectBodyContent) o;
 
-        return content != null ? content.equals(that.content) : that.content == null;
+        final Map<String, Object> content = getContent();
+        final Map<String, Object> thatContent = that.getContent();
+        return content != null ? content.equals(thatContent) : thatContent == null;
     }
 
     @Override
     public int hashCode() {
+        final Map<String, Object> content = getContent();
         return content != null ? content.hashCode() : 0;
     }
 
     @Override
     public String toString() {
         return "ObjectBodyContent{" +
-                "content=" + content +
+                "content=" + getContent() +
                 '}';
     }
 }
\ No newline at end of file
@@ -3,13 +3,20 @@ package com.jonnymatts.jzonbie.history;
 import com.jonnymatts.jzonbie.requests.AppRequest;
 import com.jonnymatts.jzonbie.responses.AppResponse;
 
+import java.time.Duration;
+import java.util.Optional;
+
+import static java.util.Optional.ofNullable;
+
 /**
- * {@link AppRequest}/{@link AppResponse} pair
+ * {@link AppRequest}/{@link AppResponse} pair, with the delay sampled for the exchange if the
+ * response has a {@link com.jonnymatts.jzonbie.responses.delay.DelayProfile}
  */
 public class Exchange {
 
     private AppRequest request;
     private AppResponse response;
+    private Duration delay;
 
     public Exchange() {}
 
@@ -18,6 +25,12 @@ public class Exchange {
         this.response = response;
     }
 
+    public Exchange(AppRequest request, AppResponse response, Duration delay) {
+        this.request = request;
+        this.response = response;
+        this.delay = delay;
+    }
+
     public AppRequest getRequest() {
         return request;
     }
@@ -34,6 +47,14 @@ public class Exchange {
         this.response = response;
     }
 
+    public Optional<Duration> getDelay() {
+        return ofNullable(delay);
+    }
+
+    public void setDelay(Duration delay) {
+        this.delay = delay;
+    }
+
     @Override
     public boolean equals(Object o) {
         if (this == o) return true;
@@ -43,13 +64,16 @@ public class Exchange {
 
         if (request != null ? !request.equals(that.request) : that.request != null)
             return false;
-        return response != null ? response.equals(that.response) : that.response == null;
+        if (response != null ? !response.equals(that.response) : that.response != null)
+            return false;
+        return delay != null ? delay.equals(that.delay) : that.delay == null;
     }
 
     @Override
     public int hashCode() {
         int result = request != null ? request.hashCode() : 0;
         result = 31 * result + (response != null ? response.hashCode() : 0);
+        result = 31 * result + (delay != null ? delay.hashCode() : 0);
         return result;
     }
 
@@ -58,6 +82,7 @@ public class Exchange {
         return "Exchange{" +
                 "request=" + request +
                 ", response=" + response +
+                ", delay=" + delay +
                 '}';
     }
 }
@@ -0,0 +1,99 @@
+package com.jonnymatts.jzonbie.priming;
+
+import com.jonnymatts.jzonbie.JzonbieClient;
+import com.jonnymatts.jzonbie.requests.AppRequest;
+import com.jonnymatts.jzonbie.responses.AppResponse;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static java.lang.String.format;
+
+/**
+ * Collects primings and primes a {@link JzonbieClient} with them in batches, using
+ * {@link JzonbieClient#prime(List)}.
+ * <p>
+ * Primings are sent once the batch reaches its maximum size, when {@link #flush()} is called
+ * or when the batch is closed, and are added to the Jzonbie in the order they were primed.
+ * <p>
+ * {@code
+ * try(PrimingBatch batch = primingBatch(jzonbie)) {
+ *     orders.forEach(order -> batch.prime(get("/orders/" + order.getId()), ok().withBody(order)));
+ * }
+ * }
+ */
+public class PrimingBatch implements AutoCloseable {
+
+    public static final int DEFAULT_MAX_SIZE = 1000;
+
+    private final JzonbieClient client;
+    private final int maxSize;
+    private final List<ZombiePriming> primings;
+
+    private PrimingBatch(JzonbieClient client, int maxSize) {
+        if(maxSize < 1) throw new IllegalArgumentException(format("Maximum batch size must be positive: %d", maxSize));
+
+        this.client = client;
+        this.maxSize = maxSize;
+        this.primings = new ArrayList<>();
+    }
+
+    /**
+     * Creates a batch for the client, sending primings every {@value #DEFAULT_MAX_SIZE} primings.
+     *
+     * @param client client to prime
+     * @return priming batch
+     */
+    public static PrimingBatch primingBatch(JzonbieClient client) {
+        return new PrimingBatch(client, DEFAULT_MAX_SIZE);
+    }
+
+    /**
+     * Creates a batch for the client, sending primings once the given number have been collected.
+     *
+     * @param client client to prime
+     * @param maxSize maximum number of primings to collect before sending them
+     * @return priming batch
+     */
+    public static PrimingBatch primingBatch(JzonbieClient client, int maxSize) {
+        return new PrimingBatch(client, maxSize);
+    }
+
+    /**
+     * Adds a one-time priming to this batch, sending the batch if it is full.
+     *
+     * @param request  the request to match against
+     * @param response the response the Jzonbie will return
+     * @return this batch
+     */
+    public synchronized PrimingBatch prime(AppRequest request, AppResponse response) {
+        primings.add(new ZombiePriming(request, response));
+        if(primings.size() >= maxSize) flush();
+        return this;
+    }
+
+    /**
+     * Sends all primings collected by this batch.
+     */
+    public synchronized void flush() {
+        if(primings.isEmpty()) return;
+
+        final List<ZombiePriming> batch = new ArrayList<>(primings);
+        primings.clear();
+        client.prime(batch);
+    }
+
+    /**
+     * Returns the number of primings collected but not yet sent.
+     *
+     * @return number of pending primings
+     */
+    public synchronized int size() {
+        return primings.size();
+    }
+
+    @Override
+    public void close() {
+        flush();
+    }
+}
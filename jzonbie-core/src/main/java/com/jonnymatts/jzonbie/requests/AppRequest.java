@@ -1,18 +1,17 @@
 package com.jonnymatts.jzonbie.requests;
 
-import com.google.common.collect.Sets;
+import com.google.common.base.Suppliers;
 import com.jonnymatts.jzonbie.body.*;
 
 import java.math.BigDecimal;
 import java.util.*;
+import java.util.function.Supplier;
 
 import static com.jonnymatts.jzonbie.body.ArrayBodyContent.arrayBody;
 import static com.jonnymatts.jzonbie.body.LiteralBodyContent.literalBody;
 import static com.jonnymatts.jzonbie.body.ObjectBodyContent.objectBody;
 import static com.jonnymatts.jzonbie.util.Copier.copyBodyContent;
 import static com.jonnymatts.jzonbie.util.Copier.copyMap;
-import static com.jonnymatts.jzonbie.util.Matching.bodyContentsMatch;
-import static com.jonnymatts.jzonbie.util.Matching.mapValuesMatchWithRegex;
 import static java.lang.String.format;
 import static java.util.Collections.singletonMap;
 
@@ -41,7 +40,9 @@ public class AppRequest {
     private Map<String, String> headers;
     private String method;
     private BodyContent<?> body;
+    private Supplier<BodyContent<?>> lazyBody;
     private Map<String, List<String>> queryParams;
+    private volatile AppRequestMatcher matcher;
 
     public AppRequest() {
         this.headers = new HashMap<>();
@@ -104,11 +105,12 @@ public class AppRequest {
     }
 
     public BodyContent<?> getBody() {
-        return body;
+        return lazyBody == null ? body : lazyBody.get();
     }
 
     public void setBody(BodyContent<?> body) {
         this.body = body;
+        this.lazyBody = null;
     }
 
     private void setBasicAuth(Map<String, String> basicAuth) {
@@ -157,6 +159,19 @@ public class AppRequest {
         return this;
     }
 
+    /**
+     * Configures this request with a body that is only created when it is first read.
+     * The supplier is called at most once, even when the body is read from multiple threads.
+     *
+     * @param body supplier of the body content
+     * @return this request with a body
+     */
+    public AppRequest withLazyBody(Supplier<? extends BodyContent<?>> body) {
+        this.body = null;
+        this.lazyBody = Suppliers.memoize(body::get);
+        return this;
+    }
+
     /**
      * Configures this request with an {@link ObjectBodyContent} body.
      *
@@ -339,7 +354,9 @@ public class AppRequest {
         if(path != null ? !path.equals(request.path) : request.path != null) return false;
         if(headers != null ? !headers.equals(request.headers) : request.headers != null) return false;
         if(method != null ? !method.equals(request.method) : request.method != null) return false;
-        if(body != null ? !body.equals(request.body) : request.body != null) return false;
+        final BodyContent<?> body = getBody();
+        final BodyContent<?> requestBody = request.getBody();
+        if(body != null ? !body.equals(requestBody) : requestBody != null) return false;
         return queryParams != null ? queryParams.equals(request.queryParams) : request.queryParams == null;
 
     }
@@ -349,20 +366,30 @@ public class AppRequest {
         int result = path != null ? path.hashCode() : 0;
         result = 31 * result + (headers != null ? headers.hashCode() : 0);
         result = 31 * result + (method != null ? method.hashCode() : 0);
+        final BodyContent<?> body = getBody();
         result = 31 * result + (body != null ? body.hashCode() : 0);
         result = 31 * result + (queryParams != null ? queryParams.hashCode() : 0);
         return result;
     }
 
+    /**
+     * Returns whether the incoming request matches this request.
+     * <p>
+     * The patterns are compiled from a copy of this request, so this request and its body
+     * are not modified. The compiled patterns are reused until this request changes.
+     *
+     * @param that incoming request
+     * @return whether the incoming request matches this request
+     */
     public boolean matches(AppRequest that) {
         if(this == that) return true;
 
-        if(path != null ? !that.path.matches(path) : that.path != null) return false;
-        if(method != null ? !method.equals(that.method) : that.method != null) return false;
-        if(queryParams != null ? !primedMapValuesAreContainedWithinOtherMap(queryParams, that.queryParams) : that.queryParams != null) return false;
-        if(headers != null ? !primedMapValuesAreContainedWithinOtherMap(headers, that.headers) : that.headers != null) return false;
-
-        return bodyContentsMatch(body, that.body);
+        AppRequestMatcher compiled = matcher;
+        if(compiled == null || !compiled.getAppRequest().equals(this)) {
+            compiled = AppRequestMatcher.compile(new AppRequest(this));
+            matcher = compiled;
+        }
+        return compiled.matches(that);
     }
 
     @Override
@@ -371,20 +398,8 @@ public class AppRequest {
                 "path='" + path + '\'' +
                 ", headers=" + headers +
                 ", method='" + method + '\'' +
-                ", body=" + body +
+                ", body=" + getBody() +
                 ", queryParams=" + queryParams +
                 '}';
     }
-
-    private boolean primedMapValuesAreContainedWithinOtherMap(Map<String, ?> primedParams, Map<String, ?> otherParams) {
-        final Set<String> primedParamsKeys = primedParams.keySet();
-        final Set<String> otherParamsKeys = otherParams.keySet();
-
-        if(!otherParamsKeys.containsAll(primedParamsKeys)) return false;
-
-        final HashMap<String, ?> copy = new HashMap<>(otherParams);
-        Sets.difference(otherParamsKeys, primedParamsKeys).forEach(copy::remove);
-
-        return mapValuesMatchWithRegex(primedParams, copy);
-    }
 }
\ No newline at end of file
@@ -0,0 +1,124 @@
+package com.jonnymatts.jzonbie.requests;
+
+import com.jonnymatts.jzonbie.body.BodyContent;
+import com.jonnymatts.jzonbie.util.StringMatcher;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import static com.jonnymatts.jzonbie.util.Matching.bodyContentsMatch;
+import static com.jonnymatts.jzonbie.util.StringMatcher.patternMatcher;
+import static com.jonnymatts.jzonbie.util.StringMatcher.valueMatcher;
+
+/**
+ * Compiled form of an {@link AppRequest} used to match incoming requests.
+ * <p>
+ * The path, header value, query param value and body patterns of the primed request
+ * are compiled once when the matcher is created. Matching an incoming request
+ * then only applies the compiled patterns, or plain equals checks for literal values.
+ * The body of an incoming request is only read if the primed request has a body pattern.
+ * <p>
+ * Compiling a request with an invalid regex pattern throws an {@link IllegalArgumentException}.
+ */
+public class AppRequestMatcher {
+
+    private final AppRequest appRequest;
+    private final StringMatcher path;
+    private final String method;
+    private final Map<String, StringMatcher> headers;
+    private final Map<String, List<StringMatcher>> queryParams;
+    private final BodyContent<?> body;
+
+    private AppRequestMatcher(AppRequest appRequest) {
+        this.appRequest = appRequest;
+        this.path = appRequest.getPath() == null ? null : patternMatcher(appRequest.getPath());
+        this.method = appRequest.getMethod();
+        this.headers = compileHeaders(appRequest.getHeaders());
+        this.queryParams = compileQueryParams(appRequest.getQueryParams());
+        this.body = appRequest.getBody();
+        if(body != null) body.prepareForMatching();
+    }
+
+    /**
+     * Compiles the patterns of the given request.
+     *
+     * @param appRequest primed request
+     * @return matcher for the request
+     * @throws IllegalArgumentException if the request contains an invalid regex pattern
+     */
+    public static AppRequestMatcher compile(AppRequest appRequest) {
+        return new AppRequestMatcher(appRequest);
+    }
+
+    public AppRequest getAppRequest() {
+        return appRequest;
+    }
+
+    public boolean matches(AppRequest that) {
+        if(path != null ? !path.matches(that.getPath()) : that.getPath() != null) return false;
+        if(method != null ? !method.equals(that.getMethod()) : that.getMethod() != null) return false;
+        if(queryParams != null ? !queryParamsMatch(that.getQueryParams()) : that.getQueryParams() != null) return false;
+        if(headers != null ? !headersMatch(that.getHeaders()) : that.getHeaders() != null) return false;
+
+        return body == null || bodyContentsMatch(body, that.getBody());
+    }
+
+    private boolean headersMatch(Map<String, String> otherHeaders) {
+        if(otherHeaders == null) return false;
+        for(Map.Entry<String, StringMatcher> header : headers.entrySet()) {
+            final String name = header.getKey();
+            if(!otherHeaders.containsKey(name) || !header.getValue().matches(otherHeaders.get(name))) return false;
+        }
+        return true;
+    }
+
+    private boolean queryParamsMatch(Map<String, List<String>> otherQueryParams) {
+        if(otherQueryParams == null) return false;
+        for(Map.Entry<String, List<StringMatcher>> queryParam : queryParams.entrySet()) {
+            final String name = queryParam.getKey();
+            if(!otherQueryParams.containsKey(name) || !valuesMatch(queryParam.getValue(), otherQueryParams.get(name))) return false;
+        }
+        return true;
+    }
+
+    private static boolean valuesMatch(List<StringMatcher> matchers, List<String> values) {
+        if(matchers == null || values == null) return matchers == null && values == null;
+        if(matchers.size() != values.size()) return false;
+
+        for(int i = 0; i < matchers.size(); i++) {
+            if(!matchers.get(i).matches(values.get(i))) return false;
+        }
+        return true;
+    }
+
+    private static Map<String, StringMatcher> compileHeaders(Map<String, String> headers) {
+        if(headers == null) return null;
+        final Map<String, StringMatcher> compiled = new HashMap<>();
+        headers.forEach((name, value) -> compiled.put(name, valueMatcher(value)));
+        return compiled;
+    }
+
+    private static Map<String, List<StringMatcher>> compileQueryParams(Map<String, List<String>> queryParams) {
+        if(queryParams == null) return null;
+        final Map<String, List<StringMatcher>> compiled = new HashMap<>();
+        queryParams.forEach((name, values) -> {
+            if(values == null) {
+                compiled.put(name, null);
+            } else {
+                final List<StringMatcher> matchers = new ArrayList<>(values.size());
+                values.forEach(value -> matchers.add(valueMatcher(value)));
+                compiled.put(name, matchers);
+            }
+        });
+        return compiled;
+    }
+
+    @Override
+    public String toString() {
+        return "AppRequestMatcher{" +
+                "appRequest=" + appRequest +
+                '}';
+    }
+}
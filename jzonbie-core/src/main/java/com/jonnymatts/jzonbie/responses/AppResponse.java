@@ -5,6 +5,7 @@ import com.jonnymatts.jzonbie.body.ArrayBodyContent;
 import com.jonnymatts.jzonbie.body.BodyContent;
 import com.jonnymatts.jzonbie.body.LiteralBodyContent;
 import com.jonnymatts.jzonbie.body.ObjectBodyContent;
+import com.jonnymatts.jzonbie.responses.delay.DelayProfile;
 
 import java.math.BigDecimal;
 import java.time.Duration;
@@ -22,7 +23,8 @@ import static java.util.Optional.ofNullable;
  * <p>
  * A response must be configured with a status code. Static factory methods are provided
  * for the most common response status codes. The response headers, body, and a delay before
- * responding can also be configured.
+ * responding can also be configured. The delay can be fixed, or sampled for each request from a
+ * {@link DelayProfile}. The body can be trickled out at a limited rate with a {@link Throttle}.
  * <p>
  * When creating responses, it is recommended to use the builder "withX" methods.
  * <p>
@@ -41,6 +43,8 @@ public class AppResponse implements Response {
     private int statusCode;
     private Map<String, String> headers;
     private Duration delay;
+    private DelayProfile delayProfile;
+    private Throttle throttle;
     private BodyContent<?> body;
     private boolean templated;
 
@@ -71,6 +75,8 @@ public class AppResponse implements Response {
         setHeaders(copyMap(response.getHeaders()));
         setBody(copyBodyContent(response.getBody()));
         response.getDelay().ifPresent(this::setDelay);
+        response.getDelayProfile().ifPresent(this::setDelayProfile);
+        response.getThrottle().ifPresent(this::setThrottle);
         setTemplated(response.isTemplated());
     }
 
@@ -110,6 +116,22 @@ public class AppResponse implements Response {
         return ofNullable(delay);
     }
 
+    public void setDelayProfile(DelayProfile delayProfile) {
+        this.delayProfile = delayProfile;
+    }
+
+    public Optional<DelayProfile> getDelayProfile() {
+        return ofNullable(delayProfile);
+    }
+
+    public void setThrottle(Throttle throttle) {
+        this.throttle = throttle;
+    }
+
+    public Optional<Throttle> getThrottle() {
+        return ofNullable(throttle);
+    }
+
     @Override
     public boolean isTemplated() {
         return templated;
@@ -209,6 +231,30 @@ public class AppResponse implements Response {
         return this;
     }
 
+    /**
+     * Sets the profile Jzonbie should sample a delay from each time it responds with this response.
+     * <p>
+     * A delay profile takes precedence over a fixed delay.
+     *
+     * @param delayProfile delay profile
+     * @return this response with a delay profile
+     */
+    public AppResponse withDelay(DelayProfile delayProfile) {
+        this.setDelayProfile(delayProfile);
+        return this;
+    }
+
+    /**
+     * Sets the throttle Jzonbie should limit the rate it writes the body of this response at.
+     *
+     * @param throttle body throttle
+     * @return this response with a throttle
+     */
+    public AppResponse withThrottle(Throttle throttle) {
+        this.setThrottle(throttle);
+        return this;
+    }
+
     /**
      * Sets the "Content-Type" header of this response.
      *
@@ -228,12 +274,14 @@ public class AppResponse implements Response {
                 templated == that.templated &&
                 Objects.equals(headers, that.headers) &&
                 Objects.equals(delay, that.delay) &&
+                Objects.equals(delayProfile, that.delayProfile) &&
+                Objects.equals(throttle, that.throttle) &&
                 Objects.equals(body, that.body);
     }
 
     @Override
     public int hashCode() {
-        return Objects.hash(statusCode, headers, delay, body, templated);
+        return Objects.hash(statusCode, headers, delay, delayProfile, throttle, body, templated);
     }
 
     @Override
@@ -242,6 +290,8 @@ public class AppResponse implements Response {
                 "statusCode=" + statusCode +
                 ", headers=" + headers +
                 ", delay=" + delay +
+                ", delayProfile=" + delayProfile +
+                ", throttle=" + throttle +
                 ", body=" + body +
                 ", templated=" + templated +
                 '}';
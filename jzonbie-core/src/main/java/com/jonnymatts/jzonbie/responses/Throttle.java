@@ -0,0 +1,126 @@
+package com.jonnymatts.jzonbie.responses;
+
+import java.time.Duration;
+import java.util.Objects;
+
+import static java.time.Duration.ZERO;
+
+/**
+ * Limits the rate Jzonbie writes a response body at, to imitate a slow upstream.
+ * <p>
+ * Response headers are sent as soon as the response is ready. The body then starts after the
+ * time to first byte and is written in chunks, paced so it arrives at the configured number of
+ * bytes per second. Unless a chunk size is given, the body is written in twenty chunks a second.
+ * <p>
+ * {@code
+ * final AppResponse response = ok()
+ *                 .withBody(largeBody)
+ *                 .withThrottle(bytesPerSecond(1024).withTimeToFirstByte(Duration.ofMillis(200)));
+ * }
+ */
+public class Throttle {
+    private static final int CHUNKS_PER_SECOND = 20;
+
+    private final long bytesPerSecond;
+    private final int chunkSize;
+    private final Duration timeToFirstByte;
+
+    /**
+     * Returns a {@code Throttle}.
+     * <p>
+     * Use {@link #bytesPerSecond factory method} instead.
+     *
+     * @param bytesPerSecond rate the body is written at
+     * @param chunkSize number of bytes written at a time, or null to write twenty chunks a second
+     * @param timeToFirstByte time between the headers and the first byte of the body, or null for none
+     */
+    public Throttle(long bytesPerSecond, Integer chunkSize, Duration timeToFirstByte) {
+        if(bytesPerSecond <= 0) {
+            throw new IllegalArgumentException("Bytes per second must be positive but was " + bytesPerSecond);
+        }
+        if(chunkSize != null && chunkSize <= 0) {
+            throw new IllegalArgumentException("Chunk size must be positive but was " + chunkSize);
+        }
+        if(timeToFirstByte != null && timeToFirstByte.isNegative()) {
+            throw new IllegalArgumentException("Time to first byte must not be negative but was " + timeToFirstByte);
+        }
+        this.bytesPerSecond = bytesPerSecond;
+        this.chunkSize = chunkSize != null ? chunkSize : (int) Math.min(Integer.MAX_VALUE, Math.max(1, bytesPerSecond / CHUNKS_PER_SECOND));
+        this.timeToFirstByte = timeToFirstByte != null ? timeToFirstByte : ZERO;
+    }
+
+    public long getBytesPerSecond() {
+        return bytesPerSecond;
+    }
+
+    public int getChunkSize() {
+        return chunkSize;
+    }
+
+    public Duration getTimeToFirstByte() {
+        return timeToFirstByte;
+    }
+
+    /**
+     * Returns the time between writing one chunk and the next.
+     *
+     * @return chunk interval
+     */
+    public Duration chunkInterval() {
+        return Duration.ofNanos(chunkSize * 1_000_000_000L / bytesPerSecond);
+    }
+
+    /**
+     * Returns a copy of this throttle that writes the body in chunks of the given size.
+     *
+     * @param chunkSize number of bytes written at a time
+     * @return throttle with the chunk size
+     */
+    public Throttle withChunkSize(int chunkSize) {
+        return new Throttle(bytesPerSecond, chunkSize, timeToFirstByte);
+    }
+
+    /**
+     * Returns a copy of this throttle that waits before writing the first byte of the body.
+     *
+     * @param timeToFirstByte time between the headers and the first byte of the body
+     * @return throttle with the time to first byte
+     */
+    public Throttle withTimeToFirstByte(Duration timeToFirstByte) {
+        return new Throttle(bytesPerSecond, chunkSize, timeToFirstByte);
+    }
+
+    /**
+     * Returns a throttle writing the body at the given rate.
+     *
+     * @param bytesPerSecond rate the body is written at
+     * @return throttle
+     */
+    public static Throttle bytesPerSecond(long bytesPerSecond) {
+        return new Throttle(bytesPerSecond, null, null);
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) return true;
+        if (o == null || getClass() != o.getClass()) return false;
+        Throttle that = (Throttle) o;
+        return bytesPerSecond == that.bytesPerSecond &&
+                chunkSize == that.chunkSize &&
+                Objects.equals(timeToFirstByte, that.timeToFirstByte);
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(bytesPerSecond, chunkSize, timeToFirstByte);
+    }
+
+    @Override
+    public String toString() {
+        return "Throttle{" +
+                "bytesPerSecond=" + bytesPerSecond +
+                ", chunkSize=" + chunkSize +
+                ", timeToFirstByte=" + timeToFirstByte +
+                '}';
+    }
+}
@@ -3,26 +3,44 @@ package com.jonnymatts.jzonbie.responses.defaults;
 import com.google.common.collect.Lists;
 import com.jonnymatts.jzonbie.responses.AppResponse;
 
-import java.util.ArrayDeque;
 import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
+import java.util.concurrent.ConcurrentLinkedDeque;
 
 import static java.util.Arrays.asList;
 import static java.util.Optional.ofNullable;
 
+/**
+ * Queue of primed responses that falls back to a default response once empty.
+ * <p>
+ * The queue is lock-free and safe to poll from multiple threads, so consuming
+ * a response never blocks requests for other mappings.
+ */
 public class DefaultingQueue {
 
-    private final ArrayDeque<AppResponse> deque;
-    private DefaultAppResponse defaultResponse;
+    private final ConcurrentLinkedDeque<AppResponse> deque;
+    private volatile DefaultAppResponse defaultResponse;
 
     public DefaultingQueue() {
-        deque = new ArrayDeque<>();
+        deque = new ConcurrentLinkedDeque<>();
     }
 
     public AppResponse poll() {
-        final AppResponse dequeElement = deque.poll();
-        return (dequeElement == null && defaultResponse != null) ? defaultResponse.getResponse() : dequeElement;
+        final AppResponse dequeElement = pollPrimed();
+        if(dequeElement != null) return dequeElement;
+
+        final DefaultAppResponse currentDefault = defaultResponse;
+        return currentDefault != null ? currentDefault.getResponse() : null;
+    }
+
+    /**
+     * Removes and returns the next primed response without falling back to the default.
+     *
+     * @return next primed response, or null if there are none left
+     */
+    public AppResponse pollPrimed() {
+        return deque.poll();
     }
 
     public void add(AppResponse element) {
@@ -37,6 +55,15 @@ public class DefaultingQueue {
         return deque.size();
     }
 
+    /**
+     * Returns whether the queue has no primed responses left and no default to fall back to.
+     *
+     * @return true if polling the queue would return null
+     */
+    public boolean isExhausted() {
+        return deque.isEmpty() && defaultResponse == null;
+    }
+
     public List<AppResponse> getPrimed() {
         return Lists.newArrayList(deque.iterator());
     }
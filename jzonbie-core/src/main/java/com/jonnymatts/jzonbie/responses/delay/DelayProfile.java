@@ -0,0 +1,118 @@
+package com.jonnymatts.jzonbie.responses.delay;
+
+import java.time.Duration;
+import java.util.Map;
+import java.util.Random;
+import java.util.SplittableRandom;
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * Base class for distributions Jzonbie samples a response delay from.
+ * <p>
+ * Each exchange served with a profiled response waits for a new sample. Sampling uses a random
+ * number generator local to the sampling thread. Unseeded profiles use {@link ThreadLocalRandom}.
+ * A seeded profile gives each thread its own generator, seeded in turn from the profile's seed,
+ * so a profile sampled from a single thread always produces the same delays. Jzonbie gives each
+ * primed response its own copy of a seeded profile, so primings do not draw from each other's
+ * generators, but requests for one priming served on different threads still do not share a
+ * sequence of delays.
+ * <p>
+ * Profiles are immutable and can be shared between responses.
+ */
+public abstract class DelayProfile {
+
+    private final Long seed;
+    private final ThreadLocal<Random> seededRandoms;
+
+    DelayProfile(Long seed) {
+        this.seed = seed;
+        if(seed == null) {
+            this.seededRandoms = null;
+        } else {
+            final SplittableRandom seeds = new SplittableRandom(seed);
+            this.seededRandoms = ThreadLocal.withInitial(() -> {
+                synchronized (seeds) {
+                    return new Random(seeds.nextLong());
+                }
+            });
+        }
+    }
+
+    public Long getSeed() {
+        return seed;
+    }
+
+    /**
+     * Returns a copy of this profile that samples from generators seeded with the seed.
+     *
+     * @param seed random seed
+     * @return seeded profile
+     */
+    public abstract DelayProfile withSeed(long seed);
+
+    /**
+     * Samples a delay from this profile.
+     *
+     * @return non-negative delay
+     */
+    public Duration sample() {
+        final Random random = seededRandoms == null ? ThreadLocalRandom.current() : seededRandoms.get();
+        return Duration.ofNanos(Math.max(0, sampleNanos(random)));
+    }
+
+    abstract long sampleNanos(Random random);
+
+    /**
+     * Returns a profile with delays spread evenly between the minimum and maximum.
+     *
+     * @param min shortest delay
+     * @param max longest delay
+     * @return uniform profile
+     */
+    public static UniformDelayProfile uniform(Duration min, Duration max) {
+        return new UniformDelayProfile(min, max, null);
+    }
+
+    /**
+     * Returns a profile with normally distributed delays. Samples below zero are treated as no delay.
+     *
+     * @param mean mean delay
+     * @param standardDeviation standard deviation of the delay
+     * @return normal profile
+     */
+    public static NormalDelayProfile normal(Duration mean, Duration standardDeviation) {
+        return new NormalDelayProfile(mean, standardDeviation, null);
+    }
+
+    /**
+     * Returns a profile with log-normally distributed delays, the long tailed shape of most
+     * real service latencies.
+     *
+     * @param median median delay
+     * @param sigma standard deviation of the natural logarithm of the delay
+     * @return log-normal profile
+     */
+    public static LogNormalDelayProfile logNormal(Duration median, double sigma) {
+        return new LogNormalDelayProfile(median, sigma, null);
+    }
+
+    /**
+     * Returns a profile that follows a table of latency percentiles, such as p50, p99 and p999.
+     * <p>
+     * Delays between two percentiles are interpolated linearly. Delays below the lowest
+     * percentile are interpolated from no delay, unless the 0th percentile is given, and delays
+     * above the highest percentile are the highest percentile's delay.
+     *
+     * @param percentiles delays keyed by percentile, between 0 and 100
+     * @return percentile profile
+     */
+    public static PercentileDelayProfile percentiles(Map<Double, Duration> percentiles) {
+        return new PercentileDelayProfile(percentiles, null);
+    }
+
+    static void requireNonNegative(Duration duration, String name) {
+        if(duration == null || duration.isNegative()) {
+            throw new IllegalArgumentException(name + " must be a non-negative duration but was " + duration);
+        }
+    }
+}
@@ -0,0 +1,77 @@
+package com.jonnymatts.jzonbie.responses.delay;
+
+import java.time.Duration;
+import java.util.Objects;
+import java.util.Random;
+
+/**
+ * A delay profile with log-normally distributed delays.
+ * <p>
+ * Half of the delays are shorter than the median. Sigma controls the length of the tail: the
+ * 99th percentile is roughly {@code median * exp(2.33 * sigma)}.
+ */
+public class LogNormalDelayProfile extends DelayProfile {
+    private final Duration median;
+    private final double sigma;
+
+    /**
+     * Returns a {@code LogNormalDelayProfile}.
+     * <p>
+     * Use {@link DelayProfile#logNormal factory method} instead.
+     *
+     * @param median median delay
+     * @param sigma standard deviation of the natural logarithm of the delay
+     * @param seed random seed, or null to sample unseeded
+     */
+    public LogNormalDelayProfile(Duration median, double sigma, Long seed) {
+        super(seed);
+        requireNonNegative(median, "median");
+        if(sigma < 0 || Double.isNaN(sigma) || Double.isInfinite(sigma)) {
+            throw new IllegalArgumentException("sigma must be a non-negative number but was " + sigma);
+        }
+        this.median = median;
+        this.sigma = sigma;
+    }
+
+    public Duration getMedian() {
+        return median;
+    }
+
+    public double getSigma() {
+        return sigma;
+    }
+
+    @Override
+    public LogNormalDelayProfile withSeed(long seed) {
+        return new LogNormalDelayProfile(median, sigma, seed);
+    }
+
+    @Override
+    long sampleNanos(Random random) {
+        return (long) (median.toNanos() * Math.exp(sigma * random.nextGaussian()));
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) return true;
+        if (o == null || getClass() != o.getClass()) return false;
+        LogNormalDelayProfile that = (LogNormalDelayProfile) o;
+        return Double.compare(that.sigma, sigma) == 0 &&
+                Objects.equals(median, that.median) &&
+                Objects.equals(getSeed(), that.getSeed());
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(median, sigma, getSeed());
+    }
+
+    @Override
+    public String toString() {
+        return "LogNormalDelayProfile{" +
+                "median=" + median +
+                ", sigma=" + sigma +
+                ", seed=" + getSeed() +
+                '}';
+    }
+}
@@ -0,0 +1,72 @@
+package com.jonnymatts.jzonbie.responses.delay;
+
+import java.time.Duration;
+import java.util.Objects;
+import java.util.Random;
+
+/**
+ * A delay profile with normally distributed delays. Samples below zero are treated as no delay.
+ */
+public class NormalDelayProfile extends DelayProfile {
+    private final Duration mean;
+    private final Duration standardDeviation;
+
+    /**
+     * Returns a {@code NormalDelayProfile}.
+     * <p>
+     * Use {@link DelayProfile#normal factory method} instead.
+     *
+     * @param mean mean delay
+     * @param standardDeviation standard deviation of the delay
+     * @param seed random seed, or null to sample unseeded
+     */
+    public NormalDelayProfile(Duration mean, Duration standardDeviation, Long seed) {
+        super(seed);
+        requireNonNegative(mean, "mean");
+        requireNonNegative(standardDeviation, "standardDeviation");
+        this.mean = mean;
+        this.standardDeviation = standardDeviation;
+    }
+
+    public Duration getMean() {
+        return mean;
+    }
+
+    public Duration getStandardDeviation() {
+        return standardDeviation;
+    }
+
+    @Override
+    public NormalDelayProfile withSeed(long seed) {
+        return new NormalDelayProfile(mean, standardDeviation, seed);
+    }
+
+    @Override
+    long sampleNanos(Random random) {
+        return mean.toNanos() + (long) (random.nextGaussian() * standardDeviation.toNanos());
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) return true;
+        if (o == null || getClass() != o.getClass()) return false;
+        NormalDelayProfile that = (NormalDelayProfile) o;
+        return Objects.equals(mean, that.mean) &&
+                Objects.equals(standardDeviation, that.standardDeviation) &&
+                Objects.equals(getSeed(), that.getSeed());
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(mean, standardDeviation, getSeed());
+    }
+
+    @Override
+    public String toString() {
+        return "NormalDelayProfile{" +
+                "mean=" + mean +
+                ", standardDeviation=" + standardDeviation +
+                ", seed=" + getSeed() +
+                '}';
+    }
+}
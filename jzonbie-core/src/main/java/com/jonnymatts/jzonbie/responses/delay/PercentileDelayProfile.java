@@ -0,0 +1,100 @@
+package com.jonnymatts.jzonbie.responses.delay;
+
+import java.time.Duration;
+import java.util.*;
+
+import static java.util.Collections.unmodifiableSortedMap;
+
+/**
+ * A delay profile following a table of latency percentiles, such as p50, p99 and p999.
+ * <p>
+ * Delays between two percentiles are interpolated linearly. Delays below the lowest percentile
+ * are interpolated from no delay, unless the 0th percentile is given, and delays above the
+ * highest percentile are the highest percentile's delay.
+ */
+public class PercentileDelayProfile extends DelayProfile {
+    private final SortedMap<Double, Duration> percentiles;
+    private final double[] points;
+    private final long[] nanos;
+
+    /**
+     * Returns a {@code PercentileDelayProfile}.
+     * <p>
+     * Use {@link DelayProfile#percentiles factory method} instead.
+     *
+     * @param percentiles delays keyed by percentile, between 0 and 100
+     * @param seed random seed, or null to sample unseeded
+     */
+    public PercentileDelayProfile(Map<Double, Duration> percentiles, Long seed) {
+        super(seed);
+        if(percentiles == null || percentiles.isEmpty()) {
+            throw new IllegalArgumentException("At least one percentile must be given");
+        }
+        this.percentiles = unmodifiableSortedMap(new TreeMap<>(percentiles));
+
+        final boolean hasZeroth = this.percentiles.firstKey() == 0;
+        final int size = this.percentiles.size() + (hasZeroth ? 0 : 1);
+        this.points = new double[size];
+        this.nanos = new long[size];
+
+        int i = hasZeroth ? 0 : 1;
+        for(Map.Entry<Double, Duration> percentile : this.percentiles.entrySet()) {
+            final double point = percentile.getKey();
+            if(point < 0 || point > 100) {
+                throw new IllegalArgumentException("Percentile must be between 0 and 100 but was " + point);
+            }
+            requireNonNegative(percentile.getValue(), "p" + point);
+            if(i > 0 && percentile.getValue().toNanos() < nanos[i - 1]) {
+                throw new IllegalArgumentException("p" + point + " " + percentile.getValue() + " must not be shorter than lower percentiles");
+            }
+            points[i] = point;
+            nanos[i] = percentile.getValue().toNanos();
+            i++;
+        }
+    }
+
+    public SortedMap<Double, Duration> getPercentiles() {
+        return percentiles;
+    }
+
+    @Override
+    public PercentileDelayProfile withSeed(long seed) {
+        return new PercentileDelayProfile(percentiles, seed);
+    }
+
+    @Override
+    long sampleNanos(Random random) {
+        final double point = random.nextDouble() * 100;
+
+        int upper = Arrays.binarySearch(points, point);
+        if(upper >= 0) return nanos[upper];
+        upper = -upper - 1;
+        if(upper == points.length) return nanos[points.length - 1];
+
+        final int lower = upper - 1;
+        final double fraction = (point - points[lower]) / (points[upper] - points[lower]);
+        return nanos[lower] + (long) (fraction * (nanos[upper] - nanos[lower]));
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) return true;
+        if (o == null || getClass() != o.getClass()) return false;
+        PercentileDelayProfile that = (PercentileDelayProfile) o;
+        return Objects.equals(percentiles, that.percentiles) &&
+                Objects.equals(getSeed(), that.getSeed());
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(percentiles, getSeed());
+    }
+
+    @Override
+    public String toString() {
+        return "PercentileDelayProfile{" +
+                "percentiles=" + percentiles +
+                ", seed=" + getSeed() +
+                '}';
+    }
+}
@@ -0,0 +1,76 @@
+package com.jonnymatts.jzonbie.responses.delay;
+
+import java.time.Duration;
+import java.util.Objects;
+import java.util.Random;
+
+/**
+ * A delay profile with delays spread evenly between a minimum and maximum.
+ */
+public class UniformDelayProfile extends DelayProfile {
+    private final Duration min;
+    private final Duration max;
+
+    /**
+     * Returns a {@code UniformDelayProfile}.
+     * <p>
+     * Use {@link DelayProfile#uniform factory method} instead.
+     *
+     * @param min shortest delay
+     * @param max longest delay
+     * @param seed random seed, or null to sample unseeded
+     */
+    public UniformDelayProfile(Duration min, Duration max, Long seed) {
+        super(seed);
+        requireNonNegative(min, "min");
+        requireNonNegative(max, "max");
+        if(min.compareTo(max) > 0) {
+            throw new IllegalArgumentException("min " + min + " must not be greater than max " + max);
+        }
+        this.min = min;
+        this.max = max;
+    }
+
+    public Duration getMin() {
+        return min;
+    }
+
+    public Duration getMax() {
+        return max;
+    }
+
+    @Override
+    public UniformDelayProfile withSeed(long seed) {
+        return new UniformDelayProfile(min, max, seed);
+    }
+
+    @Override
+    long sampleNanos(Random random) {
+        final long minNanos = min.toNanos();
+        return minNanos + (long) (random.nextDouble() * (max.toNanos() - minNanos));
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) return true;
+        if (o == null || getClass() != o.getClass()) return false;
+        UniformDelayProfile that = (UniformDelayProfile) o;
+        return Objects.equals(min, that.min) &&
+                Objects.equals(max, that.max) &&
+                Objects.equals(getSeed(), that.getSeed());
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(min, max, getSeed());
+    }
+
+    @Override
+    public String toString() {
+        return "UniformDelayProfile{" +
+                "min=" + min +
+                ", max=" + max +
+                ", seed=" + getSeed() +
+                '}';
+    }
+}
@@ -0,0 +1,254 @@
+package com.jonnymatts.jzonbie.util;
+
+import com.fasterxml.jackson.core.JsonFactory;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.math.BigDecimal;
+import java.util.*;
+
+/**
+ * Matches incoming JSON content against a primed JSON pattern.
+ * <p>
+ * The pattern is compiled once into a tree of typed matchers with the same semantics as
+ * {@link Matching#matchRegexRecursively(Object, Object)}: strings are matched with
+ * {@link StringMatcher#valueMatcher(String)}, numbers are compared by value, objects must have
+ * exactly the primed keys and arrays must have the primed elements in order. Matching an
+ * incoming value is then a single walk of the tree, without re-inspecting the pattern.
+ * <p>
+ * Raw JSON can also be matched without deserializing it, by walking the tree alongside the
+ * token stream of a {@link JsonParser}. Matching stops at the first token that cannot match,
+ * so a mismatching body is usually rejected after reading only a few tokens.
+ * <p>
+ * Compiling a pattern containing an invalid regex throws an {@link IllegalArgumentException}.
+ */
+public abstract class ContentMatcher {
+
+    private static final JsonFactory JSON_FACTORY = new JsonFactory();
+
+    private ContentMatcher() {}
+
+    public abstract boolean matches(Object value);
+
+    /**
+     * Matches the given raw JSON against the pattern, reading only as much of it as is needed
+     * to decide. Numbers are compared the way they would be after default Jackson
+     * deserialization, so the result is the same as matching the deserialized JSON.
+     *
+     * @param json raw JSON
+     * @return whether the JSON matches the pattern
+     * @throws UncheckedIOException if the JSON is malformed before a mismatch is found
+     */
+    public boolean matchesJson(String json) {
+        try(JsonParser parser = JSON_FACTORY.createParser(json)) {
+            parser.nextToken();
+            return matchesCurrentValue(parser);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    /**
+     * Matches the value starting at the current token of the parser. If the value matches,
+     * the parser is left on the last token of the value.
+     */
+    abstract boolean matchesCurrentValue(JsonParser parser) throws IOException;
+
+    /**
+     * Compiles the given pattern.
+     *
+     * @param pattern primed content made of maps, lists, strings, numbers, booleans and nulls
+     * @return matcher for the pattern
+     */
+    public static ContentMatcher compile(Object pattern) {
+        if(pattern instanceof String)
+            return new StringContentMatcher(StringMatcher.valueMatcher((String) pattern));
+        if(pattern instanceof Number)
+            return new NumberContentMatcher(new BigDecimal(pattern.toString()));
+        if(pattern instanceof Map)
+            return new MapContentMatcher((Map<?, ?>) pattern);
+        if(pattern instanceof List)
+            return new ListContentMatcher((List<?>) pattern);
+        return new EqualsContentMatcher(pattern);
+    }
+
+    private static class StringContentMatcher extends ContentMatcher {
+        private final StringMatcher matcher;
+
+        private StringContentMatcher(StringMatcher matcher) {
+            this.matcher = matcher;
+        }
+
+        @Override
+        public boolean matches(Object value) {
+            return value instanceof String && matcher.matches((String) value);
+        }
+
+        @Override
+        boolean matchesCurrentValue(JsonParser parser) throws IOException {
+            return parser.currentToken() == JsonToken.VALUE_STRING && matcher.matches(parser.getText());
+        }
+    }
+
+    /**
+     * Compares numbers by value. Integral and double values are compared against values derived
+     * from the pattern when it is compiled, so only other number types are parsed when matching.
+     */
+    private static class NumberContentMatcher extends ContentMatcher {
+        private final BigDecimal number;
+        private final boolean longExact;
+        private final long longValue;
+        private final boolean doubleExact;
+        private final double doubleValue;
+
+        private NumberContentMatcher(BigDecimal number) {
+            this.number = number;
+
+            long exactLong = 0;
+            boolean isLongExact;
+            try {
+                exactLong = number.setScale(0).longValueExact();
+                isLongExact = true;
+            } catch (ArithmeticException e) {
+                isLongExact = false;
+            }
+            this.longExact = isLongExact;
+            this.longValue = exactLong;
+
+            this.doubleValue = number.doubleValue();
+            this.doubleExact = !Double.isInfinite(doubleValue) && new BigDecimal(Double.toString(doubleValue)).compareTo(number) == 0;
+        }
+
+        @Override
+        public boolean matches(Object value) {
+            if(value instanceof Integer || value instanceof Long || value instanceof Short || value instanceof Byte)
+                return longExact && ((Number) value).longValue() == longValue;
+            if(value instanceof Double)
+                return doubleExact && (Double) value == doubleValue;
+            return value instanceof Number && new BigDecimal(value.toString()).compareTo(number) == 0;
+        }
+
+        @Override
+        boolean matchesCurrentValue(JsonParser parser) throws IOException {
+            final JsonToken token = parser.currentToken();
+            if(token == JsonToken.VALUE_NUMBER_FLOAT)
+                return doubleExact && parser.getDoubleValue() == doubleValue;
+            if(token != JsonToken.VALUE_NUMBER_INT)
+                return false;
+            if(parser.getNumberType() == JsonParser.NumberType.BIG_INTEGER)
+                return new BigDecimal(parser.getBigIntegerValue()).compareTo(number) == 0;
+            return longExact && parser.getLongValue() == longValue;
+        }
+    }
+
+    private static class MapContentMatcher extends ContentMatcher {
+        private final Object[] keys;
+        private final ContentMatcher[] values;
+        private final Map<String, Integer> keyIndexes;
+
+        private MapContentMatcher(Map<?, ?> pattern) {
+            final Map<Object, ContentMatcher> compiled = new LinkedHashMap<>();
+            pattern.forEach((key, value) -> compiled.put(key, compile(value)));
+            this.keys = compiled.keySet().toArray();
+            this.values = compiled.values().toArray(new ContentMatcher[0]);
+            this.keyIndexes = new HashMap<>();
+            for(int i = 0; i < keys.length; i++) {
+                if(keys[i] instanceof String) keyIndexes.put((String) keys[i], i);
+            }
+        }
+
+        @Override
+        public boolean matches(Object value) {
+            if(!(value instanceof Map)) return false;
+
+            final Map<?, ?> map = (Map<?, ?>) value;
+            if(map.size() != keys.length) return false;
+
+            for(int i = 0; i < keys.length; i++) {
+                final Object entry = map.get(keys[i]);
+                if(entry == null && !map.containsKey(keys[i])) return false;
+                if(!values[i].matches(entry)) return false;
+            }
+            return true;
+        }
+
+        @Override
+        boolean matchesCurrentValue(JsonParser parser) throws IOException {
+            if(parser.currentToken() != JsonToken.START_OBJECT) return false;
+
+            final boolean[] seen = new boolean[keys.length];
+            int seenCount = 0;
+            while(parser.nextToken() == JsonToken.FIELD_NAME) {
+                final Integer index = keyIndexes.get(parser.getCurrentName());
+                if(index == null) return false;
+
+                parser.nextToken();
+                if(!values[index].matchesCurrentValue(parser)) return false;
+                if(!seen[index]) {
+                    seen[index] = true;
+                    seenCount++;
+                }
+            }
+            return seenCount == keys.length;
+        }
+    }
+
+    private static class ListContentMatcher extends ContentMatcher {
+        private final ContentMatcher[] elements;
+
+        private ListContentMatcher(List<?> pattern) {
+            final List<ContentMatcher> compiled = new ArrayList<>(pattern.size());
+            pattern.forEach(element -> compiled.add(compile(element)));
+            this.elements = compiled.toArray(new ContentMatcher[0]);
+        }
+
+        @Override
+        public boolean matches(Object value) {
+            if(!(value instanceof List)) return false;
+
+            final List<?> list = (List<?>) value;
+            if(list.size() != elements.length) return false;
+
+            for(int i = 0; i < elements.length; i++) {
+                if(!elements[i].matches(list.get(i))) return false;
+            }
+            return true;
+        }
+
+        @Override
+        boolean matchesCurrentValue(JsonParser parser) throws IOException {
+            if(parser.currentToken() != JsonToken.START_ARRAY) return false;
+
+            int index = 0;
+            while(parser.nextToken() != JsonToken.END_ARRAY) {
+                if(index == elements.length || !elements[index].matchesCurrentValue(parser)) return false;
+                index++;
+            }
+            return index == elements.length;
+        }
+    }
+
+    private static class EqualsContentMatcher extends ContentMatcher {
+        private final Object expected;
+
+        private EqualsContentMatcher(Object expected) {
+            this.expected = expected;
+        }
+
+        @Override
+        public boolean matches(Object value) {
+            return Objects.equals(expected, value);
+        }
+
+        @Override
+        boolean matchesCurrentValue(JsonParser parser) {
+            final JsonToken token = parser.currentToken();
+            if(token == JsonToken.VALUE_NULL) return expected == null;
+            if(token == JsonToken.VALUE_TRUE) return Boolean.TRUE.equals(expected);
+            if(token == JsonToken.VALUE_FALSE) return Boolean.FALSE.equals(expected);
+            return false;
+        }
+    }
+}
@@ -0,0 +1,189 @@
+package com.jonnymatts.jzonbie.util;
+
+import com.fasterxml.jackson.core.JsonFactory;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.math.BigDecimal;
+import java.util.List;
+import java.util.Map;
+
+import static com.jonnymatts.jzonbie.util.Matching.isRegex;
+
+/**
+ * 64-bit fingerprint of JSON content that does not depend on its representation.
+ * <p>
+ * Object keys are hashed independently of their order and numbers are hashed by value, the same
+ * way {@link ContentMatcher} compares them, so {@code 1}, {@code 1.0} and {@code 1L} all have the
+ * same fingerprint. Content matching a regex-free pattern therefore always has the fingerprint of
+ * the pattern, while different content usually has a different one. Raw JSON is fingerprinted
+ * from its token stream, giving the same result as fingerprinting the deserialized JSON.
+ */
+public class JsonFingerprint {
+
+    private static final JsonFactory JSON_FACTORY = new JsonFactory();
+
+    private static final long NULL = 0x9E3779B97F4A7C15L;
+    private static final long TRUE = 0xC2B2AE3D27D4EB4FL;
+    private static final long FALSE = 0x165667B19E3779F9L;
+    private static final long NON_FINITE = 0xD6E8FEB86659FD93L;
+    private static final long STRING = 1;
+    private static final long INTEGRAL = 2;
+    private static final long DECIMAL = 3;
+    private static final long OBJECT = 4;
+    private static final long ARRAY = 5;
+
+    private JsonFingerprint() {}
+
+    /**
+     * Returns whether the given content only matches content with the same fingerprint, which
+     * is the case unless it contains a string treated as a regex.
+     *
+     * @param pattern primed content made of maps, lists, strings, numbers, booleans and nulls
+     * @return whether the pattern contains no regex
+     */
+    public static boolean isExact(Object pattern) {
+        if(pattern instanceof String) return !isRegex((String) pattern);
+        if(pattern instanceof Map) {
+            for(Map.Entry<?, ?> entry : ((Map<?, ?>) pattern).entrySet()) {
+                if(!(entry.getKey() instanceof String) || !isExact(entry.getValue())) return false;
+            }
+            return true;
+        }
+        if(pattern instanceof List) {
+            for(Object element : (List<?>) pattern) {
+                if(!isExact(element)) return false;
+            }
+            return true;
+        }
+        return pattern == null || pattern instanceof Number || pattern instanceof Boolean;
+    }
+
+    /**
+     * Fingerprints the given content.
+     *
+     * @param value content made of maps, lists, strings, numbers, booleans and nulls
+     * @return fingerprint of the content
+     */
+    public static long of(Object value) {
+        if(value == null) return NULL;
+        if(value instanceof String) return hash(STRING, (String) value);
+        if(value instanceof Boolean) return (Boolean) value ? TRUE : FALSE;
+        if(value instanceof Integer || value instanceof Long || value instanceof Short || value instanceof Byte)
+            return integral(((Number) value).longValue());
+        if(value instanceof Double) return ofDouble((Double) value);
+        if(value instanceof Number) return ofDecimal(new BigDecimal(value.toString()));
+        if(value instanceof Map) {
+            long hash = OBJECT;
+            for(Map.Entry<?, ?> entry : ((Map<?, ?>) value).entrySet()) {
+                hash += entry(String.valueOf(entry.getKey()), of(entry.getValue()));
+            }
+            return mix(hash);
+        }
+        if(value instanceof List) {
+            long hash = ARRAY;
+            for(Object element : (List<?>) value) {
+                hash = hash * 31 + of(element);
+            }
+            return mix(hash);
+        }
+        return hash(STRING, value.toString());
+    }
+
+    /**
+     * Fingerprints the given raw JSON, without deserializing it.
+     *
+     * @param json raw JSON
+     * @return fingerprint of the JSON
+     * @throws UncheckedIOException if the JSON is malformed
+     */
+    public static long ofJson(String json) {
+        try(JsonParser parser = JSON_FACTORY.createParser(json)) {
+            parser.nextToken();
+            return ofCurrentValue(parser);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    private static long ofCurrentValue(JsonParser parser) throws IOException {
+        final JsonToken token = parser.currentToken();
+        if(token == null) throw new IOException("Unexpected end of JSON");
+
+        switch(token) {
+            case START_OBJECT:
+                long objectHash = OBJECT;
+                while(parser.nextToken() == JsonToken.FIELD_NAME) {
+                    final String key = parser.getCurrentName();
+                    parser.nextToken();
+                    objectHash += entry(key, ofCurrentValue(parser));
+                }
+                return mix(objectHash);
+            case START_ARRAY:
+                long arrayHash = ARRAY;
+                while(parser.nextToken() != JsonToken.END_ARRAY) {
+                    arrayHash = arrayHash * 31 + ofCurrentValue(parser);
+                }
+                return mix(arrayHash);
+            case VALUE_STRING:
+                return hash(STRING, parser.getText());
+            case VALUE_NUMBER_INT:
+                return parser.getNumberType() == JsonParser.NumberType.BIG_INTEGER ?
+                        ofDecimal(new BigDecimal(parser.getBigIntegerValue())) :
+                        integral(parser.getLongValue());
+            case VALUE_NUMBER_FLOAT:
+                return ofDouble(parser.getDoubleValue());
+            case VALUE_TRUE:
+                return TRUE;
+            case VALUE_FALSE:
+                return FALSE;
+            case VALUE_NULL:
+                return NULL;
+            default:
+                throw new IOException("Unexpected token: " + token);
+        }
+    }
+
+    private static long ofDouble(double value) {
+        if(Double.isNaN(value) || Double.isInfinite(value)) return NON_FINITE;
+        if(value == Math.rint(value) && Math.abs(value) < 0x1p63) return integral((long) value);
+        return ofDecimal(BigDecimal.valueOf(value));
+    }
+
+    private static long ofDecimal(BigDecimal value) {
+        final BigDecimal stripped = value.signum() == 0 ? BigDecimal.ZERO : value.stripTrailingZeros();
+        if(stripped.scale() <= 0 && stripped.compareTo(BigDecimal.valueOf(Long.MIN_VALUE)) >= 0 && stripped.compareTo(BigDecimal.valueOf(Long.MAX_VALUE)) <= 0)
+            return integral(stripped.longValueExact());
+        return stripped.scale() <= 0 ?
+                hash(DECIMAL, stripped.toBigIntegerExact().toString()) :
+                hash(DECIMAL, stripped.unscaledValue().toString() + 'e' + stripped.scale());
+    }
+
+    private static long integral(long value) {
+        return mix(INTEGRAL * 0x9E3779B97F4A7C15L + value);
+    }
+
+    private static long entry(String key, long valueHash) {
+        return mix(hash(STRING, key) * 31 + valueHash);
+    }
+
+    private static long hash(long type, String value) {
+        long hash = 0xCBF29CE484222325L ^ type;
+        for(int i = 0; i < value.length(); i++) {
+            hash ^= value.charAt(i);
+            hash *= 0x100000001B3L;
+        }
+        return mix(hash);
+    }
+
+    private static long mix(long hash) {
+        hash ^= hash >>> 33;
+        hash *= 0xFF51AFD7ED558CCDL;
+        hash ^= hash >>> 33;
+        hash *= 0xC4CEB9FE1A85EC53L;
+        hash ^= hash >>> 33;
+        return hash;
+    }
+}
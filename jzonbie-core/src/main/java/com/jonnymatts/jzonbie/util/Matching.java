@@ -16,11 +16,11 @@ public class Matching {
 
         if(!patterns.keySet().equals(values.keySet())) return false;
 
-        return patterns.entrySet().parallelStream().allMatch(e -> {
-            final Object pattern = e.getValue();
-            final Object value = values.get(e.getKey());
-            return matchRegexRecursively(pattern, value);
-        });
+        for(Map.Entry<?, ?> e : patterns.entrySet()) {
+            if(!matchRegexRecursively(e.getValue(), values.get(e.getKey())))
+                return false;
+        }
+        return true;
     }
 
     public static boolean listsMatchesRegex(List<?> patterns, List<?> values) {
@@ -57,16 +57,18 @@ public class Matching {
         return map == null || map.isEmpty();
     }
 
-    private static boolean stringsMatch(String pattern, String value) {
-        boolean isRegex = false;
+    public static boolean isRegex(String value) {
+        if(value == null) return false;
         for(char c : REGEX_CHARACTERS) {
-            if (pattern.indexOf(c) > -1) {
-                isRegex = true;
-                break;
+            if (value.indexOf(c) > -1) {
+                return true;
             }
         }
+        return false;
+    }
 
-        return isRegex ? value.matches(pattern) : value.equals(pattern);
+    private static boolean stringsMatch(String pattern, String value) {
+        return isRegex(pattern) ? value.matches(pattern) : value.equals(pattern);
     }
 
     private static boolean numbersEqual(Number number1, Number number2) {
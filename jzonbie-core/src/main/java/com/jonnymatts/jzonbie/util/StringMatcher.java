@@ -0,0 +1,154 @@
+package com.jonnymatts.jzonbie.util;
+
+import java.util.Objects;
+import java.util.regex.Pattern;
+import java.util.regex.PatternSyntaxException;
+
+import static java.lang.String.format;
+
+/**
+ * Matches incoming strings against a primed string value.
+ * <p>
+ * Regex patterns are compiled once when the matcher is created, so an invalid
+ * pattern is rejected up front rather than when the first value is matched.
+ * Values without any regex characters are matched with a plain equals check.
+ */
+public abstract class StringMatcher {
+
+    private static final String PATTERN_CHARACTERS = "\\^$.|?*+()[]{}";
+    private static final String QUANTIFIER_CHARACTERS = "?*+{";
+
+    private StringMatcher() {}
+
+    public abstract boolean matches(String value);
+
+    /**
+     * Returns a matcher that treats the value as a regex only if it contains
+     * one of the regex characters recognised by {@link Matching}.
+     *
+     * @param value primed value
+     * @return matcher for the value
+     */
+    public static StringMatcher valueMatcher(String value) {
+        return Matching.isRegex(value) ? new RegexMatcher(compile(value)) : new LiteralMatcher(value);
+    }
+
+    /**
+     * Returns a matcher that always treats the value as a regex, falling back to
+     * an equals check when the value contains no special characters.
+     *
+     * @param pattern primed pattern
+     * @return matcher for the pattern
+     */
+    public static StringMatcher patternMatcher(String pattern) {
+        return containsPatternCharacters(pattern) ? new RegexMatcher(compile(pattern)) : new LiteralMatcher(pattern);
+    }
+
+    /**
+     * Returns the literal text every string matching the pattern must start with.
+     * <p>
+     * The whole pattern is returned if it contains no special characters. Patterns
+     * with a top-level alternation have no guaranteed prefix.
+     *
+     * @param pattern regex pattern
+     * @return literal prefix of the pattern
+     */
+    public static String literalPrefix(String pattern) {
+        int end = 0;
+        while(end < pattern.length() && PATTERN_CHARACTERS.indexOf(pattern.charAt(end)) < 0) end++;
+
+        if(end == pattern.length()) return pattern;
+        if(hasTopLevelAlternation(pattern)) return "";
+        if(QUANTIFIER_CHARACTERS.indexOf(pattern.charAt(end)) > -1) end = Math.max(0, end - 1);
+
+        return pattern.substring(0, end);
+    }
+
+    private static boolean hasTopLevelAlternation(String pattern) {
+        int depth = 0;
+        for(int i = 0; i < pattern.length(); i++) {
+            final char c = pattern.charAt(i);
+            if(c == '\\') {
+                i++;
+            } else if(c == '[') {
+                i = endOfCharacterClass(pattern, i);
+            } else if(c == '(') {
+                depth++;
+            } else if(c == ')') {
+                depth--;
+            } else if(c == '|' && depth <= 0) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private static int endOfCharacterClass(String pattern, int start) {
+        int i = start + 1;
+        if(i < pattern.length() && pattern.charAt(i) == '^') i++;
+        if(i < pattern.length() && pattern.charAt(i) == ']') i++;
+        for(; i < pattern.length(); i++) {
+            final char c = pattern.charAt(i);
+            if(c == '\\') i++;
+            else if(c == '[') i = endOfCharacterClass(pattern, i);
+            else if(c == ']') return i;
+        }
+        return i;
+    }
+
+    private static boolean containsPatternCharacters(String pattern) {
+        if(pattern == null) return false;
+        for(int i = 0; i < pattern.length(); i++) {
+            if(PATTERN_CHARACTERS.indexOf(pattern.charAt(i)) > -1) return true;
+        }
+        return false;
+    }
+
+    private static Pattern compile(String pattern) {
+        try {
+            return Pattern.compile(pattern);
+        } catch (PatternSyntaxException e) {
+            throw new IllegalArgumentException(format("Invalid pattern: %s", pattern), e);
+        }
+    }
+
+    private static class LiteralMatcher extends StringMatcher {
+        private final String literal;
+
+        private LiteralMatcher(String literal) {
+            this.literal = literal;
+        }
+
+        @Override
+        public boolean matches(String value) {
+            return Objects.equals(literal, value);
+        }
+
+        @Override
+        public String toString() {
+            return "LiteralMatcher{" +
+                    "literal='" + literal + '\'' +
+                    '}';
+        }
+    }
+
+    private static class RegexMatcher extends StringMatcher {
+        private final Pattern pattern;
+
+        private RegexMatcher(Pattern pattern) {
+            this.pattern = pattern;
+        }
+
+        @Override
+        public boolean matches(String value) {
+            return value != null && pattern.matcher(value).matches();
+        }
+
+        @Override
+        public String toString() {
+            return "RegexMatcher{" +
+                    "pattern=" + pattern +
+                    '}';
+        }
+    }
+}
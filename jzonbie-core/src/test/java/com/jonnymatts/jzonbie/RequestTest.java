@@ -0,0 +1,64 @@
+package com.jonnymatts.jzonbie;
+
+import com.google.common.io.CharStreams;
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayInputStream;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.util.List;
+import java.util.Map;
+
+import static java.nio.charset.StandardCharsets.UTF_8;
+import static org.assertj.core.api.Assertions.assertThat;
+
+class RequestTest {
+
+    private static final String PRIMING = "[{\"request\": {}, \"response\": {}}]";
+
+    @Test
+    @SuppressWarnings("deprecation")
+    void getPrimingFileContentReadsPrimingFileStream() throws Exception {
+        final Request request = new TestRequest() {
+            @Override
+            public InputStream getPrimingFile() {
+                return new ByteArrayInputStream(PRIMING.getBytes(UTF_8));
+            }
+        };
+
+        assertThat(request.getPrimingFileContent()).isEqualTo(PRIMING);
+    }
+
+    @Test
+    void getPrimingFileStreamsPrimingFileContent() throws Exception {
+        final Request request = new TestRequest() {
+            @Override
+            public String getPrimingFileContent() {
+                return PRIMING;
+            }
+        };
+
+        assertThat(CharStreams.toString(new InputStreamReader(request.getPrimingFile(), UTF_8))).isEqualTo(PRIMING);
+    }
+
+    @Test
+    @SuppressWarnings("deprecation")
+    void primingFileIsNullWhenRequestDoesNotContainPrimingFile() throws Exception {
+        final Request request = new TestRequest() {
+            @Override
+            public InputStream getPrimingFile() {
+                return null;
+            }
+        };
+
+        assertThat(request.getPrimingFileContent()).isNull();
+    }
+
+    private static abstract class TestRequest implements Request {
+        @Override public String getPath() { return "/"; }
+        @Override public String getMethod() { return "GET"; }
+        @Override public Map<String, String> getHeaders() { return null; }
+        @Override public String getBody() { return null; }
+        @Override public Map<String, List<String>> getQueryParams() { return null; }
+    }
+}
@@ -55,4 +55,13 @@ class ArrayBodyContentTest {
         assertThat(copy).isNotSameAs(underTest);
         assertThat(copy).isEqualTo(underTest);
     }
-}
\ No newline at end of file
+
+    @Test
+    void matchesRawJsonWithoutDeserializingIt() {
+        final ArrayBodyContent rawBody = arrayBody("[1, 2.0, 3]", json -> asList(1, 2.0, 3));
+
+        assertThat(underTest.matches(rawBody)).isTrue();
+        assertThat(underTest.matches(arrayBody("[1, 2]", json -> { throw new AssertionError(); }))).isFalse();
+        assertThat(rawBody.getContent()).isEqualTo(asList(1, 2.0, 3));
+    }
+}
@@ -5,6 +5,7 @@ import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 
 import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
 
 import static com.jonnymatts.jzonbie.body.ArrayBodyContent.arrayBody;
 import static com.jonnymatts.jzonbie.body.LiteralBodyContent.literalBody;
@@ -13,6 +14,7 @@ import static com.jonnymatts.jzonbie.body.StringBodyContent.stringBody;
 import static java.util.Arrays.asList;
 import static java.util.Collections.*;
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
 
 class ObjectBodyContentTest {
     private ObjectBodyContent underTest;
@@ -55,4 +57,31 @@ class ObjectBodyContentTest {
         assertThat(copy).isNotSameAs(underTest);
         assertThat(copy).isEqualTo(underTest);
     }
-}
\ No newline at end of file
+
+    @Test
+    void matchesRawJsonWithoutDeserializingIt() {
+        final AtomicInteger deserializations = new AtomicInteger();
+        final ObjectBodyContent rawBody = objectBody("{\"key\":\"val\"}", json -> {
+            deserializations.incrementAndGet();
+            return singletonMap("key", "val");
+        });
+
+        assertThat(underTest.matches(rawBody)).isTrue();
+        assertThat(underTest.matches(objectBody("{\"key\":\"other\"}", json -> { throw new AssertionError(); }))).isFalse();
+        assertThat(deserializations).hasValue(0);
+
+        assertThat(rawBody.getContent()).isEqualTo(singletonMap("key", "val"));
+        assertThat(rawBody.getContent()).isEqualTo(singletonMap("key", "val"));
+        assertThat(deserializations).hasValue(1);
+        assertThat(underTest.matches(rawBody)).isTrue();
+    }
+
+    @Test
+    void matchesDeserializesMalformedRawJsonToReportIt() {
+        final ObjectBodyContent rawBody = objectBody("{\"key\":\"val\", not JSON}", json -> {
+            throw new IllegalStateException("Malformed");
+        });
+
+        assertThatThrownBy(() -> underTest.matches(rawBody)).hasMessage("Malformed");
+    }
+}
@@ -0,0 +1,64 @@
+package com.jonnymatts.jzonbie.priming;
+
+import com.jonnymatts.jzonbie.JzonbieClient;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.util.List;
+
+import static com.jonnymatts.jzonbie.priming.PrimingBatch.primingBatch;
+import static com.jonnymatts.jzonbie.requests.AppRequest.get;
+import static com.jonnymatts.jzonbie.responses.AppResponse.ok;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class PrimingBatchTest {
+
+    @Mock private JzonbieClient client;
+
+    @Test
+    @SuppressWarnings("unchecked")
+    void primeSendsPrimingsInOrderOnceBatchIsFull() throws Exception {
+        final PrimingBatch batch = primingBatch(client, 2);
+
+        batch.prime(get("/1"), ok()).prime(get("/2"), ok()).prime(get("/3"), ok());
+
+        final ArgumentCaptor<List<ZombiePriming>> captor = ArgumentCaptor.forClass(List.class);
+        verify(client).prime(captor.capture());
+        assertThat(captor.getValue()).extracting(zombiePriming -> zombiePriming.getRequest().getPath()).containsExactly("/1", "/2");
+        assertThat(batch.size()).isEqualTo(1);
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    void closeSendsRemainingPrimings() throws Exception {
+        try(PrimingBatch batch = primingBatch(client)) {
+            batch.prime(get("/1"), ok());
+            verify(client, never()).prime(anyList());
+        }
+
+        final ArgumentCaptor<List<ZombiePriming>> captor = ArgumentCaptor.forClass(List.class);
+        verify(client).prime(captor.capture());
+        assertThat(captor.getValue()).hasSize(1);
+    }
+
+    @Test
+    void flushDoesNotPrimeIfBatchIsEmpty() throws Exception {
+        primingBatch(client).flush();
+
+        verifyZeroInteractions(client);
+    }
+
+    @Test
+    void primingBatchThrowsExceptionIfMaxSizeIsNotPositive() throws Exception {
+        assertThatThrownBy(() -> primingBatch(client, 0))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessageContaining("0");
+    }
+}
@@ -0,0 +1,125 @@
+package com.jonnymatts.jzonbie.requests;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import static com.jonnymatts.jzonbie.body.ObjectBodyContent.objectBody;
+import static com.jonnymatts.jzonbie.requests.AppRequest.get;
+import static java.util.Arrays.asList;
+import static java.util.Collections.singletonList;
+import static java.util.Collections.singletonMap;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class AppRequestMatcherTest {
+
+    private AppRequest appRequest;
+
+    @BeforeEach
+    void setUp() throws Exception {
+        appRequest = get("/path")
+                .withHeader("header", "value")
+                .withQueryParam("param", "value")
+                .withBody(objectBody(singletonMap("key", "val")));
+    }
+
+    @Test
+    void matchesReturnsTrueIfEveryFieldMatches() throws Exception {
+        final AppRequestMatcher matcher = AppRequestMatcher.compile(appRequest);
+
+        assertThat(matcher.matches(new AppRequest(appRequest))).isTrue();
+    }
+
+    @Test
+    void matchesReturnsTrueIfPathMatchesRegex() throws Exception {
+        appRequest.setPath("/pa.*");
+
+        final AppRequest copy = new AppRequest(appRequest);
+        copy.setPath("/path/extra");
+
+        assertThat(AppRequestMatcher.compile(appRequest).matches(copy)).isTrue();
+    }
+
+    @Test
+    void matchesReturnsFalseIfLiteralPathOnlyPartiallyMatches() throws Exception {
+        final AppRequest copy = new AppRequest(appRequest);
+        copy.setPath("/path/extra");
+
+        assertThat(AppRequestMatcher.compile(appRequest).matches(copy)).isFalse();
+    }
+
+    @Test
+    void matchesReturnsTrueIfHeaderAndQueryParamValuesMatchRegex() throws Exception {
+        appRequest.getHeaders().put("header", "val.*");
+        appRequest.getQueryParams().put("param", singletonList("val.*"));
+
+        final AppRequest copy = new AppRequest(appRequest);
+        copy.getHeaders().put("header", "value");
+        copy.getQueryParams().put("param", singletonList("value"));
+
+        assertThat(AppRequestMatcher.compile(appRequest).matches(copy)).isTrue();
+    }
+
+    @Test
+    void matchesIgnoresExtraHeadersAndQueryParamsOnIncomingRequest() throws Exception {
+        final AppRequest copy = new AppRequest(appRequest)
+                .withHeader("extra", "header")
+                .withQueryParam("extra", "param");
+
+        assertThat(AppRequestMatcher.compile(appRequest).matches(copy)).isTrue();
+    }
+
+    @Test
+    void matchesReturnsFalseIfIncomingRequestIsMissingPrimedHeader() throws Exception {
+        final AppRequest copy = new AppRequest(appRequest);
+        copy.getHeaders().clear();
+
+        assertThat(AppRequestMatcher.compile(appRequest).matches(copy)).isFalse();
+    }
+
+    @Test
+    void matchesReturnsFalseIfQueryParamValueCountDiffers() throws Exception {
+        final AppRequest copy = new AppRequest(appRequest);
+        copy.getQueryParams().put("param", asList("value", "value"));
+
+        assertThat(AppRequestMatcher.compile(appRequest).matches(copy)).isFalse();
+    }
+
+    @Test
+    void compileThrowsExceptionIfPathIsAnInvalidRegex() throws Exception {
+        appRequest.setPath("/path[");
+
+        assertThatThrownBy(() -> AppRequestMatcher.compile(appRequest))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessageContaining("/path[");
+    }
+
+    @Test
+    void compileThrowsExceptionIfHeaderValueIsAnInvalidRegex() throws Exception {
+        appRequest.getHeaders().put("header", "*value");
+
+        assertThatThrownBy(() -> AppRequestMatcher.compile(appRequest))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessageContaining("*value");
+    }
+
+    @Test
+    void compileThrowsExceptionIfBodyContainsAnInvalidRegex() throws Exception {
+        appRequest.setBody(objectBody(singletonMap("key", "*value")));
+
+        assertThatThrownBy(() -> AppRequestMatcher.compile(appRequest))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessageContaining("*value");
+    }
+
+    @Test
+    void matchesDoesNotReadBodyIfPrimedRequestHasNoBody() throws Exception {
+        appRequest.setBody(null);
+
+        final AppRequest incoming = new AppRequest(appRequest).withLazyBody(() -> {
+            throw new AssertionError("Body should not be read");
+        });
+
+        assertThat(AppRequestMatcher.compile(appRequest).matches(incoming)).isTrue();
+    }
+}
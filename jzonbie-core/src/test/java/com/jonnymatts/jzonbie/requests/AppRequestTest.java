@@ -1,6 +1,7 @@
 package com.jonnymatts.jzonbie.requests;
 
 import com.flextrade.jfixture.JFixture;
+import com.jonnymatts.jzonbie.body.ObjectBodyContent;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.params.ParameterizedTest;
@@ -12,9 +13,11 @@ import java.util.Map;
 import java.util.function.Function;
 import java.util.stream.Stream;
 
+import static com.jonnymatts.jzonbie.body.ObjectBodyContent.objectBody;
 import static com.jonnymatts.jzonbie.body.StringBodyContent.stringBody;
 import static com.jonnymatts.jzonbie.requests.AppRequest.get;
 import static java.util.Collections.singletonList;
+import static java.util.Collections.singletonMap;
 import static org.assertj.core.api.Assertions.assertThat;
 
 class AppRequestTest {
@@ -170,6 +173,30 @@ class AppRequestTest {
         assertThat(appRequest.matches(copy)).isTrue();
     }
 
+    @Test
+    void matchesUsesTheCurrentBodyOfThisRequestAfterItIsModified() throws Exception {
+        final ObjectBodyContent body = objectBody(singletonMap("key", "value"));
+        appRequest.setBody(body);
+        final AppRequest copy = new AppRequest(appRequest);
+
+        assertThat(appRequest.matches(copy)).isTrue();
+
+        body.getContent().put("key", "other");
+
+        assertThat(appRequest.matches(copy)).isFalse();
+    }
+
+    @Test
+    void matchesUsesTheCurrentPathOfThisRequestAfterItIsModified() throws Exception {
+        final AppRequest copy = new AppRequest(appRequest);
+
+        assertThat(appRequest.matches(copy)).isTrue();
+
+        appRequest.setPath("/other");
+
+        assertThat(appRequest.matches(copy)).isFalse();
+    }
+
     static Stream<StaticBuilderData> staticBuilders() {
         return Stream.of(
             new StaticBuilderData("GET", AppRequest::get),
@@ -58,6 +58,16 @@ class DefaultingQueueTest {
         assertThat(got).isEqualTo(response2);
     }
 
+    @Test
+    void pollPrimedReturnsNullIfQueueIsEmptyEvenIfDefaultElementIsSet() throws Exception {
+        final DefaultingQueue queue = new DefaultingQueue();
+        queue.setDefault(staticDefault(response1));
+
+        final AppResponse got = queue.pollPrimed();
+
+        assertThat(got).isNull();
+    }
+
     @Test
     void resetClearsQueueAndRemovesDefaultElement() throws Exception {
         final DefaultingQueue queue = new DefaultingQueue();
@@ -108,4 +118,21 @@ class DefaultingQueueTest {
 
         assertThat(got.get().getResponse()).isEqualTo(response1);
     }
-}
\ No newline at end of file
+
+    @Test
+    void isExhaustedReturnsTrueIfQueueIsEmptyAndDefaultIsNotSet() throws Exception {
+        final DefaultingQueue queue = new DefaultingQueue();
+        queue.add(response1);
+        queue.poll();
+
+        assertThat(queue.isExhausted()).isTrue();
+    }
+
+    @Test
+    void isExhaustedReturnsFalseIfDefaultIsSet() throws Exception {
+        final DefaultingQueue queue = new DefaultingQueue();
+        queue.setDefault(staticDefault(response1));
+
+        assertThat(queue.isExhausted()).isFalse();
+    }
+}
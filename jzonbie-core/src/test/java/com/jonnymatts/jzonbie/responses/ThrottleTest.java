@@ -0,0 +1,44 @@
+package com.jonnymatts.jzonbie.responses;
+
+import org.junit.jupiter.api.Test;
+
+import static com.jonnymatts.jzonbie.responses.Throttle.bytesPerSecond;
+import static java.time.Duration.ZERO;
+import static java.time.Duration.ofMillis;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class ThrottleTest {
+
+    @Test
+    void bytesPerSecondWritesTwentyChunksASecondByDefault() throws Exception {
+        final Throttle got = bytesPerSecond(1000);
+
+        assertThat(got.getChunkSize()).isEqualTo(50);
+        assertThat(got.chunkInterval()).isEqualTo(ofMillis(50));
+        assertThat(got.getTimeToFirstByte()).isEqualTo(ZERO);
+    }
+
+    @Test
+    void chunkIntervalPacesChunksToBytesPerSecond() throws Exception {
+        final Throttle got = bytesPerSecond(1000).withChunkSize(250).withTimeToFirstByte(ofMillis(100));
+
+        assertThat(got.chunkInterval()).isEqualTo(ofMillis(250));
+        assertThat(got.getTimeToFirstByte()).isEqualTo(ofMillis(100));
+    }
+
+    @Test
+    void slowRatesWriteOneByteAtATime() throws Exception {
+        assertThat(bytesPerSecond(5).getChunkSize()).isEqualTo(1);
+    }
+
+    @Test
+    void invalidThrottlesAreRejected() throws Exception {
+        assertThatThrownBy(() -> bytesPerSecond(0))
+                .isExactlyInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> bytesPerSecond(1000).withChunkSize(0))
+                .isExactlyInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> bytesPerSecond(1000).withTimeToFirstByte(ofMillis(-1)))
+                .isExactlyInstanceOf(IllegalArgumentException.class);
+    }
+}
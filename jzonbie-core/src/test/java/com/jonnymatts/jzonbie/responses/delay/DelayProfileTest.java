@@ -0,0 +1,112 @@
+package com.jonnymatts.jzonbie.responses.delay;
+
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.TreeMap;
+import java.util.stream.IntStream;
+
+import static com.jonnymatts.jzonbie.responses.delay.DelayProfile.*;
+import static java.time.Duration.ZERO;
+import static java.time.Duration.ofMillis;
+import static java.util.stream.Collectors.toList;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class DelayProfileTest {
+
+    @Test
+    void seededProfilesSampleTheSameDelaysOnANewThread() throws Exception {
+        final DelayProfile profile = logNormal(ofMillis(20), 0.5).withSeed(42);
+        final DelayProfile sameProfile = logNormal(ofMillis(20), 0.5).withSeed(42);
+
+        assertThat(samples(sameProfile, 100)).isEqualTo(samples(profile, 100));
+    }
+
+    @Test
+    void unseededProfilesSampleDifferentDelays() throws Exception {
+        final DelayProfile profile = uniform(ZERO, Duration.ofSeconds(1));
+
+        assertThat(samples(profile, 100)).doesNotHaveDuplicates();
+    }
+
+    @Test
+    void uniformSamplesBetweenMinAndMax() throws Exception {
+        final List<Duration> got = samples(uniform(ofMillis(10), ofMillis(20)).withSeed(1), 10_000);
+
+        assertThat(got).allSatisfy(delay -> assertThat(delay).isBetween(ofMillis(10), ofMillis(20)));
+    }
+
+    @Test
+    void normalSamplesAroundMeanAndNeverBelowZero() throws Exception {
+        final List<Duration> got = samples(normal(ofMillis(10), ofMillis(10)).withSeed(1), 10_000);
+
+        assertThat(got).allSatisfy(delay -> assertThat(delay).isGreaterThanOrEqualTo(ZERO));
+        assertThat(percentile(got, 50)).isBetween(ofMillis(9), ofMillis(11));
+    }
+
+    @Test
+    void logNormalSamplesAroundMedianWithLongTail() throws Exception {
+        final List<Duration> got = samples(logNormal(ofMillis(20), 1).withSeed(1), 10_000);
+
+        assertThat(percentile(got, 50)).isBetween(ofMillis(18), ofMillis(22));
+        assertThat(percentile(got, 99)).isGreaterThan(ofMillis(150));
+    }
+
+    @Test
+    void percentilesSampleFollowsPercentileTable() throws Exception {
+        final TreeMap<Double, Duration> table = new TreeMap<>();
+        table.put(50.0, ofMillis(20));
+        table.put(99.0, ofMillis(200));
+        table.put(99.9, ofMillis(1000));
+
+        final List<Duration> got = samples(percentiles(table).withSeed(1), 100_000);
+
+        assertThat(percentile(got, 50)).isBetween(ofMillis(19), ofMillis(21));
+        assertThat(percentile(got, 99)).isBetween(ofMillis(180), ofMillis(220));
+        assertThat(got).allSatisfy(delay -> assertThat(delay).isLessThanOrEqualTo(ofMillis(1000)));
+    }
+
+    @Test
+    void seededProfilesAreEqualOnlyWithTheSameSeed() throws Exception {
+        assertThat(normal(ofMillis(10), ofMillis(1)).withSeed(1)).isEqualTo(normal(ofMillis(10), ofMillis(1)).withSeed(1));
+        assertThat(normal(ofMillis(10), ofMillis(1)).withSeed(1)).isNotEqualTo(normal(ofMillis(10), ofMillis(1)).withSeed(2));
+        assertThat(normal(ofMillis(10), ofMillis(1)).withSeed(1)).isNotEqualTo(normal(ofMillis(10), ofMillis(1)));
+    }
+
+    @Test
+    void invalidProfilesAreRejected() throws Exception {
+        assertThatThrownBy(() -> uniform(ofMillis(20), ofMillis(10)))
+                .isExactlyInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> normal(ofMillis(-1), ofMillis(10)))
+                .isExactlyInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> logNormal(ofMillis(10), -1))
+                .isExactlyInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> percentiles(Collections.emptyMap()))
+                .isExactlyInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> percentiles(Collections.singletonMap(101.0, ofMillis(10))))
+                .isExactlyInstanceOf(IllegalArgumentException.class);
+
+        final TreeMap<Double, Duration> decreasing = new TreeMap<>();
+        decreasing.put(50.0, ofMillis(20));
+        decreasing.put(99.0, ofMillis(10));
+        assertThatThrownBy(() -> percentiles(decreasing))
+                .isExactlyInstanceOf(IllegalArgumentException.class);
+    }
+
+    private static List<Duration> samples(DelayProfile profile, int count) throws Exception {
+        final List<Duration> samples = new ArrayList<>();
+        final Thread thread = new Thread(() -> IntStream.range(0, count).forEach(i -> samples.add(profile.sample())));
+        thread.start();
+        thread.join();
+        return samples;
+    }
+
+    private static Duration percentile(List<Duration> samples, double percentile) {
+        final List<Duration> sorted = samples.stream().sorted().collect(toList());
+        return sorted.get((int) (sorted.size() * percentile / 100));
+    }
+}
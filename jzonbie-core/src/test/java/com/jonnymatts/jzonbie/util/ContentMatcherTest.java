@@ -0,0 +1,129 @@
+package com.jonnymatts.jzonbie.util;
+
+import org.junit.jupiter.api.Test;
+
+import java.io.UncheckedIOException;
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.util.HashMap;
+import java.util.Map;
+
+import static java.util.Arrays.asList;
+import static java.util.Collections.emptyMap;
+import static java.util.Collections.singletonMap;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class ContentMatcherTest {
+
+    @Test
+    void stringPatternMatchesEqualStringsAndRegexes() throws Exception {
+        assertThat(ContentMatcher.compile("value").matches("value")).isTrue();
+        assertThat(ContentMatcher.compile("value").matches("other")).isFalse();
+        assertThat(ContentMatcher.compile("val.*").matches("value")).isTrue();
+        assertThat(ContentMatcher.compile("1").matches(1)).isFalse();
+    }
+
+    @Test
+    void numberPatternMatchesNumbersOfAnyTypeWithTheSameValue() throws Exception {
+        final ContentMatcher matcher = ContentMatcher.compile(1);
+
+        assertThat(matcher.matches(1)).isTrue();
+        assertThat(matcher.matches(1L)).isTrue();
+        assertThat(matcher.matches(1.0)).isTrue();
+        assertThat(matcher.matches(new BigDecimal("1.00"))).isTrue();
+        assertThat(matcher.matches(BigInteger.ONE)).isTrue();
+        assertThat(matcher.matches(2)).isFalse();
+        assertThat(matcher.matches("1")).isFalse();
+    }
+
+    @Test
+    void decimalNumberPatternMatchesOnlyTheSameValue() throws Exception {
+        assertThat(ContentMatcher.compile(1.5).matches(1.5)).isTrue();
+        assertThat(ContentMatcher.compile(1.5).matches(new BigDecimal("1.50"))).isTrue();
+        assertThat(ContentMatcher.compile(1.5).matches(1)).isFalse();
+        assertThat(ContentMatcher.compile(new BigDecimal("0.1000000000000000000001")).matches(0.1)).isFalse();
+        assertThat(ContentMatcher.compile(new BigInteger("100000000000000000000")).matches(Long.MAX_VALUE)).isFalse();
+    }
+
+    @Test
+    void mapPatternRequiresExactlyTheSameKeysWithMatchingValues() throws Exception {
+        final Map<String, Object> pattern = new HashMap<>();
+        pattern.put("key", "val.*");
+        pattern.put("nested", singletonMap("number", 2));
+        pattern.put("null", null);
+        final ContentMatcher matcher = ContentMatcher.compile(pattern);
+
+        final Map<String, Object> value = new HashMap<>();
+        value.put("key", "value");
+        value.put("nested", singletonMap("number", 2L));
+        value.put("null", null);
+
+        assertThat(matcher.matches(value)).isTrue();
+
+        value.put("extra", "value");
+        assertThat(matcher.matches(value)).isFalse();
+
+        value.remove("extra");
+        value.remove("null");
+        value.put("other", null);
+        assertThat(matcher.matches(value)).isFalse();
+    }
+
+    @Test
+    void emptyMapPatternMatchesOnlyEmptyMaps() throws Exception {
+        assertThat(ContentMatcher.compile(emptyMap()).matches(emptyMap())).isTrue();
+        assertThat(ContentMatcher.compile(emptyMap()).matches(singletonMap("key", "value"))).isFalse();
+        assertThat(ContentMatcher.compile(emptyMap()).matches(null)).isFalse();
+    }
+
+    @Test
+    void listPatternRequiresMatchingElementsInOrder() throws Exception {
+        final ContentMatcher matcher = ContentMatcher.compile(asList("a.*", 1, true));
+
+        assertThat(matcher.matches(asList("abc", 1L, true))).isTrue();
+        assertThat(matcher.matches(asList(1L, "abc", true))).isFalse();
+        assertThat(matcher.matches(asList("abc", 1L))).isFalse();
+    }
+
+    @Test
+    void otherPatternsMatchEqualValues() throws Exception {
+        assertThat(ContentMatcher.compile(true).matches(true)).isTrue();
+        assertThat(ContentMatcher.compile(true).matches(false)).isFalse();
+        assertThat(ContentMatcher.compile(null).matches(null)).isTrue();
+        assertThat(ContentMatcher.compile(null).matches("null")).isFalse();
+    }
+
+    @Test
+    void compileThrowsExceptionIfPatternContainsAnInvalidRegex() throws Exception {
+        assertThatThrownBy(() -> ContentMatcher.compile(singletonMap("key", asList("[invalid"))))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessageContaining("[invalid");
+    }
+
+    @Test
+    void matchesJsonGivesTheSameResultsAsMatchingDeserializedJson() throws Exception {
+        final Map<String, Object> pattern = new HashMap<>();
+        pattern.put("key", "val.*");
+        pattern.put("nested", singletonMap("numbers", asList(1, 1.5, new BigInteger("100000000000000000000"))));
+        pattern.put("flags", asList(true, false, null));
+        final ContentMatcher matcher = ContentMatcher.compile(pattern);
+
+        assertThat(matcher.matchesJson("{\"nested\":{\"numbers\":[1.0,1.5,100000000000000000000]},\"key\":\"value\",\"flags\":[true,false,null]}")).isTrue();
+        assertThat(matcher.matchesJson("{\"key\":\"value\",\"nested\":{\"numbers\":[1,1.5,100000000000000000000]},\"flags\":[true,false,null]}")).isTrue();
+        assertThat(matcher.matchesJson("{\"key\":\"value\",\"nested\":{\"numbers\":[1,1.5,100000000000000000000]},\"flags\":[true,false]}")).isFalse();
+        assertThat(matcher.matchesJson("{\"key\":\"value\",\"nested\":{\"numbers\":[2,1.5,100000000000000000000]},\"flags\":[true,false,null]}")).isFalse();
+        assertThat(matcher.matchesJson("{\"key\":\"value\",\"nested\":{\"numbers\":[1,1.5,100000000000000000000]}}")).isFalse();
+        assertThat(matcher.matchesJson("{\"key\":\"value\",\"nested\":{},\"flags\":[true,false,null],\"extra\":1}")).isFalse();
+        assertThat(matcher.matchesJson("[\"value\"]")).isFalse();
+    }
+
+    @Test
+    void matchesJsonStopsReadingAtTheFirstMismatch() throws Exception {
+        final ContentMatcher matcher = ContentMatcher.compile(singletonMap("key", "value"));
+
+        assertThat(matcher.matchesJson("{\"key\":\"other\", this is not JSON}")).isFalse();
+        assertThatThrownBy(() -> matcher.matchesJson("{\"key\":\"value\", this is not JSON}"))
+                .isInstanceOf(UncheckedIOException.class);
+    }
+}
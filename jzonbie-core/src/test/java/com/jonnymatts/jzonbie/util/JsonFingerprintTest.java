@@ -0,0 +1,63 @@
+package com.jonnymatts.jzonbie.util;
+
+import org.junit.jupiter.api.Test;
+
+import java.io.UncheckedIOException;
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+import static java.util.Arrays.asList;
+import static java.util.Collections.singletonMap;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class JsonFingerprintTest {
+
+    @Test
+    void ofIsIndependentOfKeyOrderAndNumberRepresentation() throws Exception {
+        final Map<String, Object> map = new LinkedHashMap<>();
+        map.put("a", 1);
+        map.put("b", asList(1.5, "value", true, null));
+        final Map<String, Object> reordered = new LinkedHashMap<>();
+        reordered.put("b", asList(new BigDecimal("1.50"), "value", true, null));
+        reordered.put("a", 1.0);
+
+        assertThat(JsonFingerprint.of(reordered)).isEqualTo(JsonFingerprint.of(map));
+        assertThat(JsonFingerprint.of(1L)).isEqualTo(JsonFingerprint.of(BigInteger.ONE));
+        assertThat(JsonFingerprint.of(new BigInteger("100000000000000000000"))).isEqualTo(JsonFingerprint.of(1e20));
+    }
+
+    @Test
+    void ofDistinguishesDifferentContent() throws Exception {
+        assertThat(JsonFingerprint.of(singletonMap("a", 1))).isNotEqualTo(JsonFingerprint.of(singletonMap("a", 2)));
+        assertThat(JsonFingerprint.of(singletonMap("a", 1))).isNotEqualTo(JsonFingerprint.of(singletonMap("b", 1)));
+        assertThat(JsonFingerprint.of(singletonMap("a", "1"))).isNotEqualTo(JsonFingerprint.of(singletonMap("a", 1)));
+        assertThat(JsonFingerprint.of(asList(1, 2))).isNotEqualTo(JsonFingerprint.of(asList(2, 1)));
+        assertThat(JsonFingerprint.of(asList("a", "b"))).isNotEqualTo(JsonFingerprint.of(singletonMap("a", "b")));
+        assertThat(JsonFingerprint.of(0.1)).isNotEqualTo(JsonFingerprint.of(new BigDecimal("0.1000000000000000000001")));
+    }
+
+    @Test
+    void ofJsonGivesTheSameFingerprintAsTheDeserializedJson() throws Exception {
+        final Map<String, Object> map = new LinkedHashMap<>();
+        map.put("a", 1);
+        map.put("b", asList(1.5, "value", true, false, null, new BigInteger("100000000000000000000")));
+
+        assertThat(JsonFingerprint.ofJson("{\"b\": [1.50, \"value\", true, false, null, 100000000000000000000], \"a\": 1.0}")).isEqualTo(JsonFingerprint.of(map));
+        assertThat(JsonFingerprint.ofJson("[]")).isEqualTo(JsonFingerprint.of(asList()));
+    }
+
+    @Test
+    void ofJsonThrowsExceptionForMalformedJson() throws Exception {
+        assertThatThrownBy(() -> JsonFingerprint.ofJson("{\"a\": not JSON}"))
+                .isInstanceOf(UncheckedIOException.class);
+    }
+
+    @Test
+    void isExactReturnsFalseIfContentContainsARegex() throws Exception {
+        assertThat(JsonFingerprint.isExact(singletonMap("a", asList(1, "value", null, true)))).isTrue();
+        assertThat(JsonFingerprint.isExact(singletonMap("a", asList(1, "val.*")))).isFalse();
+    }
+}
@@ -1,14 +1,15 @@
 package com.jonnymatts.jzonbie.jackson;
 
 import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.MappingIterator;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import com.jonnymatts.jzonbie.Request;
 
 import java.io.IOException;
+import java.io.InputStream;
 import java.util.List;
 import java.util.Map;
-
-import static java.util.stream.Collectors.toList;
+import java.util.function.Consumer;
 
 public class Deserializer {
 
@@ -66,11 +67,33 @@ public class Deserializer {
     }
 
     public <T> List<T> deserializeCollection(String s, Class<T> clazz) {
-        try {
-            final List<Map<String, Object>> maps = objectMapper.readValue(s, new TypeReference<List<T>>() {});
-            return maps.stream().map(t -> deserialize(t, clazz)).collect(toList());
+        try(MappingIterator<T> iterator = objectMapper.readerFor(clazz).readValues(s)) {
+            return iterator.readAll();
+        } catch (IOException e) {
+            throw new DeserializationException(String.format("Error deserializing %s", clazz.getSimpleName()), e);
+        }
+    }
+
+    /**
+     * Reads a JSON array from the stream one element at a time, passing each element to the
+     * consumer as soon as it has been read, so the array is never held in memory as a whole.
+     * The stream is closed once the array has been read.
+     * <p>
+     * Elements read before a malformed element have already been consumed when the exception
+     * is thrown.
+     *
+     * @param inputStream stream containing a JSON array
+     * @param clazz type of the elements
+     * @param consumer consumer of each element, in order
+     * @throws DeserializationException if the stream cannot be read or an element is malformed
+     */
+    public <T> void deserializeEach(InputStream inputStream, Class<T> clazz, Consumer<? super T> consumer) {
+        try(MappingIterator<T> iterator = objectMapper.readerFor(clazz).readValues(inputStream)) {
+            while(iterator.hasNextValue()) {
+                consumer.accept(iterator.nextValue());
+            }
         } catch (IOException e) {
-            throw new DeserializationException("Error deserializing %s", e);
+            throw new DeserializationException(String.format("Error deserializing %s", clazz.getSimpleName()), e);
         }
     }
 }
\ No newline at end of file
@@ -7,11 +7,15 @@ import com.jonnymatts.jzonbie.jackson.responses.DefaultAppResponseMixIn;
 import com.jonnymatts.jzonbie.jackson.responses.DefaultingQueueMixIn;
 import com.jonnymatts.jzonbie.jackson.responses.DynamicDefaultAppResponseMixIn;
 import com.jonnymatts.jzonbie.jackson.responses.StaticDefaultAppResponseMixIn;
+import com.jonnymatts.jzonbie.jackson.responses.ThrottleMixIn;
+import com.jonnymatts.jzonbie.jackson.responses.delay.*;
 import com.jonnymatts.jzonbie.jackson.verification.InvocationVerificationCriteriaMixIn;
+import com.jonnymatts.jzonbie.responses.Throttle;
 import com.jonnymatts.jzonbie.responses.defaults.DefaultAppResponse;
 import com.jonnymatts.jzonbie.responses.defaults.DefaultingQueue;
 import com.jonnymatts.jzonbie.responses.defaults.DynamicDefaultAppResponse;
 import com.jonnymatts.jzonbie.responses.defaults.StaticDefaultAppResponse;
+import com.jonnymatts.jzonbie.responses.delay.*;
 import com.jonnymatts.jzonbie.verification.InvocationVerificationCriteria;
 
 public class JzonbieModule extends SimpleModule {
@@ -29,5 +33,11 @@ public class JzonbieModule extends SimpleModule {
         setMixInAnnotation(StaticDefaultAppResponse.class, StaticDefaultAppResponseMixIn.class);
         setMixInAnnotation(DynamicDefaultAppResponse.class, DynamicDefaultAppResponseMixIn.class);
         setMixInAnnotation(DefaultingQueue.class, DefaultingQueueMixIn.class);
+        setMixInAnnotation(Throttle.class, ThrottleMixIn.class);
+        setMixInAnnotation(DelayProfile.class, DelayProfileMixIn.class);
+        setMixInAnnotation(UniformDelayProfile.class, UniformDelayProfileMixIn.class);
+        setMixInAnnotation(NormalDelayProfile.class, NormalDelayProfileMixIn.class);
+        setMixInAnnotation(LogNormalDelayProfile.class, LogNormalDelayProfileMixIn.class);
+        setMixInAnnotation(PercentileDelayProfile.class, PercentileDelayProfileMixIn.class);
     }
 }
\ No newline at end of file
@@ -1,12 +1,16 @@
 package com.jonnymatts.jzonbie.jackson.responses;
 
+import com.fasterxml.jackson.annotation.JsonIgnore;
 import com.fasterxml.jackson.annotation.JsonProperty;
 import com.jonnymatts.jzonbie.responses.AppResponse;
 
-import java.util.ArrayDeque;
+import java.util.concurrent.ConcurrentLinkedDeque;
 
 public abstract class DefaultingQueueMixIn {
 
     @JsonProperty("primed")
-    private ArrayDeque<AppResponse> deque;
-}
\ No newline at end of file
+    private ConcurrentLinkedDeque<AppResponse> deque;
+
+    @JsonIgnore
+    public abstract boolean isExhausted();
+}
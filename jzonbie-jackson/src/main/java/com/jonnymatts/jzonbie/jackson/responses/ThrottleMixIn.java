@@ -0,0 +1,14 @@
+package com.jonnymatts.jzonbie.jackson.responses;
+
+import com.fasterxml.jackson.annotation.JsonCreator;
+import com.fasterxml.jackson.annotation.JsonProperty;
+
+import java.time.Duration;
+
+public abstract class ThrottleMixIn {
+
+    @JsonCreator
+    public ThrottleMixIn(@JsonProperty("bytesPerSecond") long bytesPerSecond,
+                         @JsonProperty("chunkSize") Integer chunkSize,
+                         @JsonProperty("timeToFirstByte") Duration timeToFirstByte) { }
+}
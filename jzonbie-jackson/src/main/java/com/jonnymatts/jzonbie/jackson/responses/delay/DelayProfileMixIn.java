@@ -0,0 +1,26 @@
+package com.jonnymatts.jzonbie.jackson.responses.delay;
+
+import com.fasterxml.jackson.annotation.JsonSubTypes;
+import com.fasterxml.jackson.annotation.JsonTypeInfo;
+import com.jonnymatts.jzonbie.responses.delay.LogNormalDelayProfile;
+import com.jonnymatts.jzonbie.responses.delay.NormalDelayProfile;
+import com.jonnymatts.jzonbie.responses.delay.PercentileDelayProfile;
+import com.jonnymatts.jzonbie.responses.delay.UniformDelayProfile;
+
+import static com.jonnymatts.jzonbie.jackson.responses.delay.DelayProfileMixIn.TYPE_IDENTIFIER;
+
+@JsonTypeInfo(
+        use = JsonTypeInfo.Id.NAME,
+        include = JsonTypeInfo.As.WRAPPER_OBJECT,
+        property = TYPE_IDENTIFIER)
+@JsonSubTypes({
+        @JsonSubTypes.Type(value = UniformDelayProfile.class, name = "uniform"),
+        @JsonSubTypes.Type(value = NormalDelayProfile.class, name = "normal"),
+        @JsonSubTypes.Type(value = LogNormalDelayProfile.class, name = "logNormal"),
+        @JsonSubTypes.Type(value = PercentileDelayProfile.class, name = "percentile")
+})
+public abstract class DelayProfileMixIn {
+
+    static final String TYPE_IDENTIFIER = "JZONBIE_DELAY_PROFILE_TYPE";
+
+}
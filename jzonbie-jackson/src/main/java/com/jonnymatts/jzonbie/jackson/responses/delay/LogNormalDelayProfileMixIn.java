@@ -0,0 +1,14 @@
+package com.jonnymatts.jzonbie.jackson.responses.delay;
+
+import com.fasterxml.jackson.annotation.JsonCreator;
+import com.fasterxml.jackson.annotation.JsonProperty;
+
+import java.time.Duration;
+
+public abstract class LogNormalDelayProfileMixIn {
+
+    @JsonCreator
+    public LogNormalDelayProfileMixIn(@JsonProperty("median") Duration median,
+                                      @JsonProperty("sigma") double sigma,
+                                      @JsonProperty("seed") Long seed) { }
+}
@@ -0,0 +1,14 @@
+package com.jonnymatts.jzonbie.jackson.responses.delay;
+
+import com.fasterxml.jackson.annotation.JsonCreator;
+import com.fasterxml.jackson.annotation.JsonProperty;
+
+import java.time.Duration;
+
+public abstract class NormalDelayProfileMixIn {
+
+    @JsonCreator
+    public NormalDelayProfileMixIn(@JsonProperty("mean") Duration mean,
+                                   @JsonProperty("standardDeviation") Duration standardDeviation,
+                                   @JsonProperty("seed") Long seed) { }
+}
@@ -0,0 +1,14 @@
+package com.jonnymatts.jzonbie.jackson.responses.delay;
+
+import com.fasterxml.jackson.annotation.JsonCreator;
+import com.fasterxml.jackson.annotation.JsonProperty;
+
+import java.time.Duration;
+import java.util.Map;
+
+public abstract class PercentileDelayProfileMixIn {
+
+    @JsonCreator
+    public PercentileDelayProfileMixIn(@JsonProperty("percentiles") Map<Double, Duration> percentiles,
+                                       @JsonProperty("seed") Long seed) { }
+}
@@ -0,0 +1,14 @@
+package com.jonnymatts.jzonbie.jackson.responses.delay;
+
+import com.fasterxml.jackson.annotation.JsonCreator;
+import com.fasterxml.jackson.annotation.JsonProperty;
+
+import java.time.Duration;
+
+public abstract class UniformDelayProfileMixIn {
+
+    @JsonCreator
+    public UniformDelayProfileMixIn(@JsonProperty("min") Duration min,
+                                    @JsonProperty("max") Duration max,
+                                    @JsonProperty("seed") Long seed) { }
+}
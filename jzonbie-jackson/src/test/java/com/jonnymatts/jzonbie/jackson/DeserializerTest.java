@@ -8,10 +8,15 @@ import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 
+import java.io.ByteArrayInputStream;
 import java.io.IOException;
+import java.io.InputStream;
+import java.util.ArrayList;
+import java.util.List;
 import java.util.Map;
 
 import static com.jonnymatts.jzonbie.requests.AppRequest.get;
+import static com.jonnymatts.jzonbie.requests.AppRequest.post;
 import static com.jonnymatts.jzonbie.responses.AppResponse.ok;
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
@@ -85,4 +90,33 @@ class DeserializerTest {
 
         assertThat(got).isNull();
     }
+
+    @Test
+    void deserializeCollectionReturnsEveryElement() throws Exception {
+        final List<ZombiePriming> got = deserializer.deserializeCollection("[" + ZOMBIE_PRIMING + "," + ZOMBIE_PRIMING.replace("GET", "POST") + "]", ZombiePriming.class);
+
+        assertThat(got).containsExactly(new ZombiePriming(get("/"), ok()), new ZombiePriming(post("/"), ok()));
+    }
+
+    @Test
+    void deserializeEachPassesEveryElementToConsumerInOrder() throws Exception {
+        final InputStream inputStream = new ByteArrayInputStream(("[" + ZOMBIE_PRIMING + "," + ZOMBIE_PRIMING.replace("GET", "POST") + "]").getBytes());
+        final List<ZombiePriming> got = new ArrayList<>();
+
+        deserializer.deserializeEach(inputStream, ZombiePriming.class, got::add);
+
+        assertThat(got).containsExactly(new ZombiePriming(get("/"), ok()), new ZombiePriming(post("/"), ok()));
+    }
+
+    @Test
+    void deserializeEachConsumesElementsBeforeMalformedElementThenThrowsDeserializationException() throws Exception {
+        final InputStream inputStream = new ByteArrayInputStream(("[" + ZOMBIE_PRIMING + ", {\"request\": ]").getBytes());
+        final List<ZombiePriming> got = new ArrayList<>();
+
+        assertThatThrownBy(() -> deserializer.deserializeEach(inputStream, ZombiePriming.class, got::add))
+                .isInstanceOf(DeserializationException.class)
+                .hasMessageContaining("Error deserializing ZombiePriming");
+
+        assertThat(got).containsExactly(new ZombiePriming(get("/"), ok()));
+    }
 }
\ No newline at end of file
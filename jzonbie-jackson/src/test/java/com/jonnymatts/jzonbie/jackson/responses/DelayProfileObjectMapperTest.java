@@ -0,0 +1,59 @@
+package com.jonnymatts.jzonbie.jackson.responses;
+
+import com.jonnymatts.jzonbie.jackson.JzonbieObjectMapper;
+import com.jonnymatts.jzonbie.responses.AppResponse;
+import com.jonnymatts.jzonbie.responses.delay.DelayProfile;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.TreeMap;
+
+import static com.jonnymatts.jzonbie.responses.AppResponse.ok;
+import static com.jonnymatts.jzonbie.responses.delay.DelayProfile.*;
+import static java.time.Duration.ofMillis;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class DelayProfileObjectMapperTest {
+
+    private final static JzonbieObjectMapper JZONBIE_OBJECT_MAPPER = new JzonbieObjectMapper();
+
+    @Test
+    void delayProfilesCanBeSerializedAndDeserialized() throws Exception {
+        final TreeMap<Double, Duration> table = new TreeMap<>();
+        table.put(50.0, ofMillis(20));
+        table.put(99.0, ofMillis(200));
+        table.put(99.9, ofMillis(1000));
+
+        assertRoundTrips(uniform(ofMillis(10), ofMillis(20)));
+        assertRoundTrips(normal(ofMillis(10), ofMillis(2)).withSeed(42));
+        assertRoundTrips(logNormal(ofMillis(20), 0.5));
+        assertRoundTrips(percentiles(table).withSeed(7));
+    }
+
+    @Test
+    void responseWithDelayProfileCanBeDeserialized() throws Exception {
+        final String json = "{\"statusCode\": 200, \"delayProfile\": {\"logNormal\": {\"median\": 0.02, \"sigma\": 0.5, \"seed\": 42}}}";
+
+        final AppResponse got = JZONBIE_OBJECT_MAPPER.readValue(json, AppResponse.class);
+
+        assertThat(got).isEqualTo(ok().withDelay(logNormal(ofMillis(20), 0.5).withSeed(42)));
+    }
+
+    @Test
+    void invalidDelayProfileCannotBeDeserialized() throws Exception {
+        final String json = "{\"uniform\": {\"min\": 0.02, \"max\": 0.01}}";
+
+        assertThatThrownBy(() -> JZONBIE_OBJECT_MAPPER.readValue(json, DelayProfile.class))
+                .hasRootCauseInstanceOf(IllegalArgumentException.class);
+    }
+
+    private void assertRoundTrips(DelayProfile delayProfile) throws Exception {
+        final AppResponse response = ok().withDelay(delayProfile);
+
+        final String string = JZONBIE_OBJECT_MAPPER.writeValueAsString(response);
+        final AppResponse got = JZONBIE_OBJECT_MAPPER.readValue(string, AppResponse.class);
+
+        assertThat(got).isEqualTo(response);
+    }
+}
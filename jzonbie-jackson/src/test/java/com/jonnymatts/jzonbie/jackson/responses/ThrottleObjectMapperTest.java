@@ -0,0 +1,35 @@
+package com.jonnymatts.jzonbie.jackson.responses;
+
+import com.jonnymatts.jzonbie.jackson.JzonbieObjectMapper;
+import com.jonnymatts.jzonbie.responses.AppResponse;
+import com.jonnymatts.jzonbie.responses.Throttle;
+import org.junit.jupiter.api.Test;
+
+import static com.jonnymatts.jzonbie.responses.AppResponse.ok;
+import static com.jonnymatts.jzonbie.responses.Throttle.bytesPerSecond;
+import static java.time.Duration.ofMillis;
+import static org.assertj.core.api.Assertions.assertThat;
+
+class ThrottleObjectMapperTest {
+
+    private final static JzonbieObjectMapper JZONBIE_OBJECT_MAPPER = new JzonbieObjectMapper();
+
+    @Test
+    void responseWithThrottleCanBeSerializedAndDeserialized() throws Exception {
+        final AppResponse response = ok().withThrottle(bytesPerSecond(1000).withChunkSize(100).withTimeToFirstByte(ofMillis(200)));
+
+        final String string = JZONBIE_OBJECT_MAPPER.writeValueAsString(response);
+        final AppResponse got = JZONBIE_OBJECT_MAPPER.readValue(string, AppResponse.class);
+
+        assertThat(got).isEqualTo(response);
+    }
+
+    @Test
+    void throttleDefaultsChunkSizeAndTimeToFirstByteWhenDeserialized() throws Exception {
+        final String json = "{\"bytesPerSecond\": 1000}";
+
+        final Throttle got = JZONBIE_OBJECT_MAPPER.readValue(json, Throttle.class);
+
+        assertThat(got).isEqualTo(bytesPerSecond(1000));
+    }
+}
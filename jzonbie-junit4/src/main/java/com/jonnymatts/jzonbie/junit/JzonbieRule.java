@@ -5,6 +5,7 @@ import com.jonnymatts.jzonbie.JzonbieClient;
 import com.jonnymatts.jzonbie.JzonbieOptions;
 import com.jonnymatts.jzonbie.history.Exchange;
 import com.jonnymatts.jzonbie.priming.PrimedMapping;
+import com.jonnymatts.jzonbie.priming.ZombiePriming;
 import com.jonnymatts.jzonbie.requests.AppRequest;
 import com.jonnymatts.jzonbie.responses.AppResponse;
 import com.jonnymatts.jzonbie.responses.defaults.DefaultAppResponse;
@@ -120,6 +121,10 @@ public class JzonbieRule<T extends Jzonbie> extends ExternalResource implements
         jzonbie.prime(appRequest, appResponse);
     }
 
+    public void prime(List<ZombiePriming> primings) {
+        jzonbie.prime(primings);
+    }
+
     public void prime(AppRequest appRequest, DefaultAppResponse defaultAppResponse) {
         jzonbie.prime(appRequest, defaultAppResponse);
     }
@@ -0,0 +1,20 @@
+package com.jonnymatts.jzonbie;
+
+/**
+ * Defines the threads Jzonbie handles requests on.
+ */
+public enum ExecutionMode {
+
+    /**
+     * Requests are handled on a bounded pool of platform threads. This is the default.
+     */
+    PLATFORM_THREADS,
+
+    /**
+     * Requests are handled on virtual threads, so blocking work such as dynamic default
+     * suppliers and custom routes does not tie up a platform thread.
+     * <p>
+     * Virtual threads need Java 21 or newer. On older versions Jzonbie falls back to platform threads.
+     */
+    VIRTUAL_THREADS
+}
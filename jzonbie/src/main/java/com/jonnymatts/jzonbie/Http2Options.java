@@ -0,0 +1,53 @@
+package com.jonnymatts.jzonbie;
+
+/**
+ * Class that defines the HTTP/2 configuration of a custom Jzonbie.
+ * <p>
+ * When HTTP/2 is requested, Jzonbie will serve cleartext HTTP/2 (h2c) on
+ * its HTTP port alongside HTTP/1.1. If HTTPS is also configured, clients
+ * can negotiate HTTP/2 (h2) on the HTTPS port with ALPN, which needs
+ * Java 9 or newer.
+ * <pre>
+ * {@code
+ * http2Options().withMaxConcurrentStreams(1000)
+ * }
+ * </pre>
+ */
+public class Http2Options {
+    private static final int DEFAULT_MAX_CONCURRENT_STREAMS = 128;
+
+    private int maxConcurrentStreams;
+
+    /**
+     * Returns the default HTTP/2 configuration.
+     *
+     * @return default HTTP/2 configuration
+     */
+    public static Http2Options http2Options() {
+        return new Http2Options();
+    }
+
+    private Http2Options() {
+        this.maxConcurrentStreams = DEFAULT_MAX_CONCURRENT_STREAMS;
+    }
+
+    /**
+     * Configures the number of streams a client can have open at once on each HTTP/2 connection.
+     * <p>
+     * By default Jzonbie allows <b>128</b> concurrent streams.
+     *
+     * @param maxConcurrentStreams maximum concurrent streams per connection
+     * @return this HTTP/2 configuration with the given concurrent stream limit
+     */
+    public Http2Options withMaxConcurrentStreams(int maxConcurrentStreams) {
+        if(maxConcurrentStreams < 1) {
+            throw new IllegalArgumentException("Max concurrent streams must be positive, got " + maxConcurrentStreams);
+        }
+        this.maxConcurrentStreams = maxConcurrentStreams;
+        return this;
+    }
+
+    public int getMaxConcurrentStreams() {
+        return maxConcurrentStreams;
+    }
+}
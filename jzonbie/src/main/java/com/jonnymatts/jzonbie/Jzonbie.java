@@ -3,21 +3,26 @@ package com.jonnymatts.jzonbie;
 import com.fasterxml.jackson.core.JsonProcessingException;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import com.github.jknack.handlebars.Handlebars;
+import com.google.common.base.Stopwatch;
+import com.google.common.util.concurrent.ThreadFactoryBuilder;
 import com.jonnymatts.jzonbie.history.CallHistory;
 import com.jonnymatts.jzonbie.history.Exchange;
 import com.jonnymatts.jzonbie.history.FixedCapacityCache;
 import com.jonnymatts.jzonbie.jackson.Deserializer;
+import com.jonnymatts.jzonbie.jetty.HashedWheelTimer;
 import com.jonnymatts.jzonbie.jetty.JzonbieJettyServer;
 import com.jonnymatts.jzonbie.logging.Logging;
 import com.jonnymatts.jzonbie.pippo.PippoApplication;
 import com.jonnymatts.jzonbie.pippo.PippoResponder;
+import com.jonnymatts.jzonbie.pippo.Readiness;
 import com.jonnymatts.jzonbie.priming.AppRequestFactory;
+import com.jonnymatts.jzonbie.priming.MatchingStrategy;
 import com.jonnymatts.jzonbie.priming.PrimedMapping;
 import com.jonnymatts.jzonbie.priming.PrimingContext;
+import com.jonnymatts.jzonbie.priming.PrimingFileLoader;
 import com.jonnymatts.jzonbie.priming.ZombiePriming;
 import com.jonnymatts.jzonbie.requests.AppRequest;
 import com.jonnymatts.jzonbie.requests.AppRequestHandler;
-import com.jonnymatts.jzonbie.requests.PrimedMappingUploader;
 import com.jonnymatts.jzonbie.requests.ZombieRequestHandler;
 import com.jonnymatts.jzonbie.responses.AppResponse;
 import com.jonnymatts.jzonbie.responses.CurrentPrimingFileResponseFactory;
@@ -32,19 +37,18 @@ import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import ro.pippo.core.Pippo;
 import ro.pippo.core.WebServerSettings;
-import ro.pippo.core.util.IoUtils;
 
 import java.io.File;
-import java.io.FileInputStream;
-import java.io.IOException;
 import java.security.KeyStore;
 import java.time.Duration;
+import java.util.ArrayList;
 import java.util.List;
 import java.util.Optional;
 
 import static ch.qos.logback.classic.Level.ERROR;
 import static ch.qos.logback.classic.Level.OFF;
 import static com.jonnymatts.jzonbie.JzonbieOptions.options;
+import static java.util.concurrent.TimeUnit.MILLISECONDS;
 
 /**
  * Class that provide a mock HTTP(S) server.
@@ -83,6 +87,7 @@ public class Jzonbie implements JzonbieClient {
 
     private static final Logger LOGGER = LoggerFactory.getLogger(Jzonbie.class);
 
+    private final MatchingStrategy matchingStrategy;
     private final PrimingContext primingContext;
     private final CallHistory callHistory;
     private final FixedCapacityCache<AppRequest> failedRequests;
@@ -91,9 +96,10 @@ public class Jzonbie implements JzonbieClient {
     private final Pippo httpPippo;
     private final Pippo httpsPippo;
     private final HttpsSupport httpsSupport;
+    private final HashedWheelTimer delayTimer;
     private Deserializer deserializer;
     private ObjectMapper objectMapper;
-    private PrimedMappingUploader primedMappingUploader;
+    private PrimingFileLoader primingFileLoader;
     @SuppressWarnings("OptionalUsedAsFieldOrParameterType")
     private Optional<Duration> waitAfterStop;
 
@@ -103,36 +109,40 @@ public class Jzonbie implements JzonbieClient {
 
     public Jzonbie(JzonbieOptions options) {
         this.httpsSupport = new HttpsSupport();
-        primingContext = new PrimingContext(options.getPriming());
+        this.delayTimer = new HashedWheelTimer(new ThreadFactoryBuilder().setNameFormat("jzonbie-delay-%d").setDaemon(true).build(), Duration.ofMillis(1), 1024);
+        matchingStrategy = options.getMatchingParallelism() > 1
+                ? MatchingStrategy.parallel(options.getParallelMatchingThreshold(), options.getMatchingParallelism())
+                : MatchingStrategy.sequential();
+        objectMapper = options.getObjectMapper();
+        final Handlebars handlebars = new JzonbieHandlebars();
+        final ResponseTransformer responseTransformer = new ResponseTransformer(handlebars);
+        final PippoResponder pippoResponder = new PippoResponder(responseTransformer, objectMapper, options.isPrettyResponseBodies());
+        primingContext = new PrimingContext(options.getPriming(), matchingStrategy, pippoResponder::validate);
         callHistory = new CallHistory(options.getCallHistoryCapacity());
         failedRequests = new FixedCapacityCache<>(options.getFailedRequestsCapacity());
         waitAfterStop = options.getWaitAfterStopping();
-        objectMapper = options.getObjectMapper();
         deserializer = new Deserializer(objectMapper);
         final AppRequestFactory appRequestFactory = new AppRequestFactory(deserializer);
         final CurrentPrimingFileResponseFactory fileResponseFactory = new CurrentPrimingFileResponseFactory(objectMapper);
-        primedMappingUploader = new PrimedMappingUploader(primingContext);
+        primingFileLoader = new PrimingFileLoader(deserializer, primingContext, Runtime.getRuntime().availableProcessors());
         final AppRequestHandler appRequestHandler = new AppRequestHandler(primingContext, callHistory, failedRequests, appRequestFactory);
-        final ZombieRequestHandler zombieRequestHandler = new ZombieRequestHandler(options.getZombieHeaderName(), primingContext, callHistory, failedRequests, deserializer, fileResponseFactory, primedMappingUploader, httpsSupport);
+        final ZombieRequestHandler zombieRequestHandler = new ZombieRequestHandler(options.getZombieHeaderName(), primingContext, callHistory, failedRequests, deserializer, fileResponseFactory, primingFileLoader, httpsSupport);
 
         options.getRoutes().forEach(route -> {
             route.setJzonbieClient(this);
             route.setDeserializer(deserializer);
         });
 
-        final Handlebars handlebars = new JzonbieHandlebars();
-        final ResponseTransformer responseTransformer = new ResponseTransformer(handlebars);
-        final PippoResponder pippoResponder = new PippoResponder(responseTransformer, objectMapper);
-
-        final PippoApplication application = new PippoApplication(options.getZombieHeaderName(), options.getRoutes(), appRequestHandler, zombieRequestHandler, pippoResponder);
+        final Readiness readiness = new Readiness();
+        final PippoApplication application = new PippoApplication(options.getZombieHeaderName(), options.getRoutes(), appRequestHandler, zombieRequestHandler, pippoResponder, readiness);
 
-        httpPippo = createPippo(application, options.getHttpPort());
+        httpPippo = createPippo(application, options.getHttpPort(), options);
         httpPippo.start();
         httpPort = httpPippo.getServer().getPort();
 
         if(options.getHttpsOptions().isPresent()) {
             final HttpsOptions httpsOptions = options.getHttpsOptions().get();
-            httpsPippo = createPippo(application, httpsOptions.getPort());
+            httpsPippo = createPippo(application, httpsOptions.getPort(), options);
             configureHttps(httpsPippo, httpsOptions);
             httpsPippo.start();
             httpsPort = httpsPippo.getServer().getPort();
@@ -141,7 +151,11 @@ public class Jzonbie implements JzonbieClient {
             httpsPort = null;
         }
 
-        options.getInitialPrimingFile().ifPresent(this::prime);
+        try {
+            options.getInitialPrimingFile().ifPresent(this::loadInitialPriming);
+        } finally {
+            readiness.markReady();
+        }
 
         LOGGER.info("Jzonbie started - HTTP port: {}{}", httpPort, httpsPort == null ? "" : ", HTTPS port: " + httpsPort);
     }
@@ -180,15 +194,22 @@ public class Jzonbie implements JzonbieClient {
         primingContext.add(deserialized);
     }
 
+    @Override
+    public void prime(List<ZombiePriming> primings) {
+        final List<ZombiePriming> deserialized = new ArrayList<>(primings.size());
+        primings.forEach(zombiePriming -> deserialized.add(normalizeForPriming(zombiePriming, ZombiePriming.class)));
+        primingContext.addAll(deserialized);
+    }
+
     @Override
     public void prime(File file) {
-        try {
-            final String mappingsString = IoUtils.toString(new FileInputStream(file));
-            final List<PrimedMapping> primedMappings = deserializer.deserializeCollection(mappingsString, PrimedMapping.class);
-            primedMappingUploader.upload(primedMappings);
-        } catch (IOException e) {
-            throw new RuntimeException(e);
-        }
+        primingFileLoader.load(file);
+    }
+
+    private void loadInitialPriming(File location) {
+        final Stopwatch stopwatch = Stopwatch.createStarted();
+        final int loaded = primingFileLoader.load(location);
+        LOGGER.info("Loaded {} primed mappings from {} in {} ms", loaded, location, stopwatch.elapsed(MILLISECONDS));
     }
 
     @Override
@@ -214,11 +235,29 @@ public class Jzonbie implements JzonbieClient {
         }
     }
 
+    /**
+     * Returns all priming currently configured for this Jzonbie.
+     * <p>
+     * The requests and responses are the instances this Jzonbie matches and responds with, and
+     * equal responses are shared between primings, so they are read-only. Their header and query
+     * param maps cannot be modified, for example with {@link AppResponse#withHeader(String, String)}.
+     * Copy a response with {@link AppResponse#AppResponse(AppResponse)} to change it.
+     *
+     * @return current priming
+     */
     @Override
     public List<PrimedMapping> getCurrentPriming() {
         return primingContext.getCurrentPriming();
     }
 
+    /**
+     * Returns the successful responses from this Jzonbie and the requests they matched against.
+     * <p>
+     * The responses are shared with the current priming, so they are read-only in the same way as
+     * those returned by {@link #getCurrentPriming()}.
+     *
+     * @return request/response pairs for successful calls
+     */
     @Override
     public List<Exchange> getHistory() {
         return callHistory.getValues();
@@ -250,6 +289,8 @@ public class Jzonbie implements JzonbieClient {
         if(httpsPippo != null) {
             httpsPippo.stop();
         }
+        matchingStrategy.shutdown();
+        delayTimer.stop();
         waitAfterStop.ifPresent(wait -> {
             try {
                 Thread.sleep(wait.toMillis());
@@ -257,9 +298,9 @@ public class Jzonbie implements JzonbieClient {
         });
     }
 
-    private Pippo createPippo(PippoApplication application, int port) {
+    private Pippo createPippo(PippoApplication application, int port, JzonbieOptions options) {
         final Pippo pippo = new Pippo(application);
-        final JzonbieJettyServer server = new JzonbieJettyServer();
+        final JzonbieJettyServer server = new JzonbieJettyServer(delayTimer, options.getExecutionMode(), options.getServerTuning(), options.getHttp2Options());
         pippo.setServer(server);
         server.setPort(port);
         final WebServerSettings settings = server.getSettings();
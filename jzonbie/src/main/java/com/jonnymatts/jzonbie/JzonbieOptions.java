@@ -10,7 +10,9 @@ import java.time.Duration;
 import java.util.List;
 import java.util.Optional;
 
+import static com.jonnymatts.jzonbie.Http2Options.http2Options;
 import static com.jonnymatts.jzonbie.HttpsOptions.httpsOptions;
+import static com.jonnymatts.jzonbie.ServerTuning.serverTuning;
 import static java.util.Arrays.asList;
 import static java.util.Collections.emptyList;
 
@@ -52,6 +54,9 @@ public class JzonbieOptions {
     private static final List<Priming> DEFAULT_PRIMING = emptyList();
     private static final int DEFAULT_CALL_HISTORY_CAPACITY = 1000;
     private static final int DEFAULT_FAILED_REQUESTS_CAPACITY = 1000;
+    private static final int DEFAULT_PARALLEL_MATCHING_THRESHOLD = 1000;
+    private static final int DEFAULT_MATCHING_PARALLELISM = Runtime.getRuntime().availableProcessors();
+    private static final ExecutionMode DEFAULT_EXECUTION_MODE = ExecutionMode.PLATFORM_THREADS;
 
     private int httpPort;
     private String zombieHeaderName;
@@ -60,9 +65,15 @@ public class JzonbieOptions {
     private List<JzonbieRoute> routes;
     private List<Priming> priming;
     private HttpsOptions httpsOptions;
+    private Http2Options http2Options;
     private int callHistoryCapacity;
     private int failedRequestsCapacity;
     private File initialPrimingFile;
+    private int parallelMatchingThreshold;
+    private int matchingParallelism;
+    private boolean prettyResponseBodies;
+    private ExecutionMode executionMode;
+    private ServerTuning serverTuning;
 
     private JzonbieOptions() {
         this.httpPort = DEFAULT_PORT;
@@ -72,6 +83,10 @@ public class JzonbieOptions {
         this.priming = DEFAULT_PRIMING;
         this.callHistoryCapacity = DEFAULT_CALL_HISTORY_CAPACITY;
         this.failedRequestsCapacity = DEFAULT_FAILED_REQUESTS_CAPACITY;
+        this.parallelMatchingThreshold = DEFAULT_PARALLEL_MATCHING_THRESHOLD;
+        this.matchingParallelism = DEFAULT_MATCHING_PARALLELISM;
+        this.executionMode = DEFAULT_EXECUTION_MODE;
+        this.serverTuning = serverTuning();
     }
 
     /**
@@ -117,6 +132,30 @@ public class JzonbieOptions {
         return this;
     }
 
+    /**
+     * Configures Jzonbie to serve HTTP/2 traffic with the given configuration.
+     * <p>
+     * Cleartext HTTP/2 is served on the HTTP port alongside HTTP/1.1. When HTTPS is configured,
+     * HTTP/2 can also be negotiated on the HTTPS port on Java 9 or newer.
+     *
+     * @param http2Options HTTP/2 configuration
+     * @return this Jzonbie configuration with HTTP/2 configuration
+     */
+    public JzonbieOptions withHttp2(Http2Options http2Options) {
+        this.http2Options = http2Options;
+        return this;
+    }
+
+    /**
+     * Configures Jzonbie to serve HTTP/2 traffic with the default configuration.
+     *
+     * @return this Jzonbie configuration with default HTTP/2 configuration
+     */
+    public JzonbieOptions withHttp2() {
+        this.http2Options = http2Options();
+        return this;
+    }
+
     /**
      * Configures Jzonbie to provide access to functions over HTTP using the given header.
      *
@@ -217,8 +256,13 @@ public class JzonbieOptions {
 
     /**
      * Specifies a JSON file containing priming that will be applied on Jzonbie start-up.
+     * <p>
+     * This can also be a directory, in which case all {@code .json} files in it are applied, or a
+     * glob such as {@code primings/**.json}. Multiple files are parsed in parallel. Until all of
+     * them have been applied, every request, including application requests and the {@code up}
+     * zombie request, is rejected with a 503 response.
      *
-     * @param initialPrimingFile the JSON priming file
+     * @param initialPrimingFile the JSON priming file, directory or glob
      * @return this Jzonbie configuration with initial priming file
      * @see Jzonbie#prime(File)
      */
@@ -227,6 +271,88 @@ public class JzonbieOptions {
         return this;
     }
 
+    /**
+     * Configures the number of candidate primings an incoming request must be checked against
+     * before they are checked in parallel.
+     * <p>
+     * By default Jzonbie will check up to <b>1000</b> candidates sequentially.
+     *
+     * @param threshold minimum number of candidates to check in parallel
+     * @return this Jzonbie configuration with the given parallel matching threshold
+     */
+    public JzonbieOptions withParallelMatchingThreshold(int threshold) {
+        this.parallelMatchingThreshold = threshold;
+        return this;
+    }
+
+    /**
+     * Configures the number of threads used to check candidate primings in parallel.
+     * <p>
+     * By default Jzonbie will use one thread per available processor. A parallelism
+     * of <b>1</b> disables parallel matching.
+     *
+     * @param parallelism number of matching threads
+     * @return this Jzonbie configuration with the given matching parallelism
+     */
+    public JzonbieOptions withMatchingParallelism(int parallelism) {
+        this.matchingParallelism = parallelism;
+        return this;
+    }
+
+    /**
+     * Configures Jzonbie to pretty-print JSON response bodies.
+     * <p>
+     * By default Jzonbie writes JSON response bodies compactly, whatever the configuration of
+     * its {@link ObjectMapper}.
+     *
+     * @return this Jzonbie configuration with pretty-printed response bodies
+     */
+    public JzonbieOptions withPrettyResponseBodies() {
+        this.prettyResponseBodies = true;
+        return this;
+    }
+
+    public boolean isPrettyResponseBodies() {
+        return prettyResponseBodies;
+    }
+
+    /**
+     * Configures the threads Jzonbie handles requests on.
+     * <p>
+     * By default Jzonbie handles requests on a pool of platform threads. With
+     * {@link ExecutionMode#VIRTUAL_THREADS} on Java 21 or newer, each request is handled on its
+     * own virtual thread. On older versions Jzonbie falls back to platform threads.
+     *
+     * @param executionMode request execution mode
+     * @return this Jzonbie configuration with the given execution mode
+     */
+    public JzonbieOptions withExecutionMode(ExecutionMode executionMode) {
+        this.executionMode = executionMode;
+        return this;
+    }
+
+    public ExecutionMode getExecutionMode() {
+        return executionMode;
+    }
+
+    /**
+     * Configures how the server behind Jzonbie is tuned.
+     * <p>
+     * By default Jzonbie leaves every setting to Jetty. See {@link ServerTuning#unitTestTuning()}
+     * and {@link ServerTuning#loadTestTuning()} for presets.
+     *
+     * @param serverTuning server tuning
+     * @return this Jzonbie configuration with the given server tuning
+     */
+    public JzonbieOptions withServerTuning(ServerTuning serverTuning) {
+        this.serverTuning = serverTuning;
+        return this;
+    }
+
+    public ServerTuning getServerTuning() {
+        return serverTuning;
+    }
+
     public int getHttpPort() {
         return httpPort;
     }
@@ -237,6 +363,10 @@ public class JzonbieOptions {
 
     public Optional<HttpsOptions> getHttpsOptions() { return Optional.ofNullable(httpsOptions); }
 
+    public Optional<Http2Options> getHttp2Options() {
+        return Optional.ofNullable(http2Options);
+    }
+
     public ObjectMapper getObjectMapper() {
         return objectMapper;
     }
@@ -264,4 +394,12 @@ public class JzonbieOptions {
     public Optional<File> getInitialPrimingFile() {
         return Optional.ofNullable(initialPrimingFile);
     }
+
+    public int getParallelMatchingThreshold() {
+        return parallelMatchingThreshold;
+    }
+
+    public int getMatchingParallelism() {
+        return matchingParallelism;
+    }
 }
\ No newline at end of file
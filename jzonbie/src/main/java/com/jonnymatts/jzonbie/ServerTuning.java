@@ -0,0 +1,225 @@
+package com.jonnymatts.jzonbie;
+
+import java.time.Duration;
+import java.util.Optional;
+
+/**
+ * Class that defines how the Jetty server behind a custom Jzonbie is tuned.
+ * <p>
+ * By default every setting is left to Jetty, which suits most usage. Settings
+ * can be configured individually.
+ * <pre>
+ * {@code
+ * serverTuning().withMaxThreads(50).withIdleTimeout(Duration.ofSeconds(5))
+ * }
+ * </pre>
+ * Jzonbie also ships with presets, which can be adjusted further in the same way.
+ * <ul>
+ *     <li>{@link #unitTestTuning()} keeps the server small so that it starts quickly
+ *     and many Jzonbies can run alongside each other in a test suite.</li>
+ *     <li>{@link #loadTestTuning()} gives the server a large thread pool and accept
+ *     queue so that it is not the bottleneck when it is load tested.</li>
+ * </ul>
+ * Thread pool sizes are ignored when requests are handled on virtual threads.
+ */
+public class ServerTuning {
+
+    /**
+     * Presets for {@link ServerTuning}.
+     */
+    public enum Preset {
+        /**
+         * See {@link ServerTuning#unitTestTuning()}.
+         */
+        UNIT_TEST,
+        /**
+         * See {@link ServerTuning#loadTestTuning()}.
+         */
+        LOAD_TEST;
+
+        public ServerTuning tuning() {
+            return this == UNIT_TEST ? unitTestTuning() : loadTestTuning();
+        }
+    }
+
+    private Integer minThreads;
+    private Integer maxThreads;
+    private Integer acceptors;
+    private Integer selectors;
+    private Integer acceptQueueSize;
+    private Duration idleTimeout;
+    private Integer outputBufferSize;
+
+    /**
+     * Returns the default server tuning, which leaves every setting to Jetty.
+     *
+     * @return default server tuning
+     */
+    public static ServerTuning serverTuning() {
+        return new ServerTuning();
+    }
+
+    /**
+     * Returns server tuning for unit tests.
+     * <p>
+     * The server uses between <b>2</b> and <b>8</b> threads, one acceptor and one selector,
+     * and closes connections after being idle for <b>5 seconds</b>.
+     *
+     * @return unit test server tuning
+     */
+    public static ServerTuning unitTestTuning() {
+        return serverTuning()
+                .withMinThreads(2)
+                .withMaxThreads(8)
+                .withAcceptors(1)
+                .withSelectors(1)
+                .withIdleTimeout(Duration.ofSeconds(5));
+    }
+
+    /**
+     * Returns server tuning for load tests.
+     * <p>
+     * The server uses between <b>50</b> and <b>500</b> threads, one selector per available
+     * processor, an accept queue of <b>4096</b> connections and <b>64KB</b> output buffers,
+     * and closes connections after being idle for <b>60 seconds</b>. The operating system
+     * may cap the accept queue, for example with {@code net.core.somaxconn} on Linux.
+     *
+     * @return load test server tuning
+     */
+    public static ServerTuning loadTestTuning() {
+        return serverTuning()
+                .withMinThreads(50)
+                .withMaxThreads(500)
+                .withAcceptors(2)
+                .withSelectors(Runtime.getRuntime().availableProcessors())
+                .withAcceptQueueSize(4096)
+                .withIdleTimeout(Duration.ofSeconds(60))
+                .withOutputBufferSize(64 * 1024);
+    }
+
+    private ServerTuning() {}
+
+    /**
+     * Configures the number of threads the server keeps in its thread pool when idle.
+     * <p>
+     * By default the server keeps <b>8</b> threads.
+     *
+     * @param minThreads minimum thread pool size
+     * @return this server tuning with the given minimum thread pool size
+     */
+    public ServerTuning withMinThreads(int minThreads) {
+        this.minThreads = requirePositive(minThreads, "Minimum threads");
+        return this;
+    }
+
+    /**
+     * Configures the maximum number of threads in the server thread pool.
+     * <p>
+     * By default the server uses up to <b>200</b> threads. This includes the acceptor
+     * and selector threads.
+     *
+     * @param maxThreads maximum thread pool size
+     * @return this server tuning with the given maximum thread pool size
+     */
+    public ServerTuning withMaxThreads(int maxThreads) {
+        this.maxThreads = requirePositive(maxThreads, "Maximum threads");
+        return this;
+    }
+
+    /**
+     * Configures the number of threads accepting new connections.
+     *
+     * @param acceptors number of acceptor threads
+     * @return this server tuning with the given number of acceptors
+     */
+    public ServerTuning withAcceptors(int acceptors) {
+        this.acceptors = requirePositive(acceptors, "Acceptors");
+        return this;
+    }
+
+    /**
+     * Configures the number of threads selecting connections that are ready for IO.
+     *
+     * @param selectors number of selector threads
+     * @return this server tuning with the given number of selectors
+     */
+    public ServerTuning withSelectors(int selectors) {
+        this.selectors = requirePositive(selectors, "Selectors");
+        return this;
+    }
+
+    /**
+     * Configures the number of connections that can wait to be accepted.
+     *
+     * @param acceptQueueSize accept queue length
+     * @return this server tuning with the given accept queue length
+     */
+    public ServerTuning withAcceptQueueSize(int acceptQueueSize) {
+        this.acceptQueueSize = requirePositive(acceptQueueSize, "Accept queue size");
+        return this;
+    }
+
+    /**
+     * Configures how long a connection can be idle before the server closes it.
+     * <p>
+     * By default connections are closed after being idle for <b>1 hour</b>.
+     *
+     * @param idleTimeout connection idle timeout
+     * @return this server tuning with the given idle timeout
+     */
+    public ServerTuning withIdleTimeout(Duration idleTimeout) {
+        if(idleTimeout.isNegative() || idleTimeout.isZero()) {
+            throw new IllegalArgumentException("Idle timeout must be positive, got " + idleTimeout);
+        }
+        this.idleTimeout = idleTimeout;
+        return this;
+    }
+
+    /**
+     * Configures the size of the buffer response bodies are written to before they are sent.
+     * <p>
+     * By default the buffer is <b>32KB</b>.
+     *
+     * @param outputBufferSize output buffer size in bytes
+     * @return this server tuning with the given output buffer size
+     */
+    public ServerTuning withOutputBufferSize(int outputBufferSize) {
+        this.outputBufferSize = requirePositive(outputBufferSize, "Output buffer size");
+        return this;
+    }
+
+    public Optional<Integer> getMinThreads() {
+        return Optional.ofNullable(minThreads);
+    }
+
+    public Optional<Integer> getMaxThreads() {
+        return Optional.ofNullable(maxThreads);
+    }
+
+    public Optional<Integer> getAcceptors() {
+        return Optional.ofNullable(acceptors);
+    }
+
+    public Optional<Integer> getSelectors() {
+        return Optional.ofNullable(selectors);
+    }
+
+    public Optional<Integer> getAcceptQueueSize() {
+        return Optional.ofNullable(acceptQueueSize);
+    }
+
+    public Optional<Duration> getIdleTimeout() {
+        return Optional.ofNullable(idleTimeout);
+    }
+
+    public Optional<Integer> getOutputBufferSize() {
+        return Optional.ofNullable(outputBufferSize);
+    }
+
+    private static int requirePositive(int value, String name) {
+        if(value < 1) {
+            throw new IllegalArgumentException(name + " must be positive, got " + value);
+        }
+        return value;
+    }
+}
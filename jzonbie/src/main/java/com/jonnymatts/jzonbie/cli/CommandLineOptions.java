@@ -1,14 +1,20 @@
 package com.jonnymatts.jzonbie.cli;
 
+import com.jonnymatts.jzonbie.ExecutionMode;
+import com.jonnymatts.jzonbie.Http2Options;
 import com.jonnymatts.jzonbie.HttpsOptions;
 import com.jonnymatts.jzonbie.JzonbieOptions;
+import com.jonnymatts.jzonbie.ServerTuning;
 import picocli.CommandLine;
 import picocli.CommandLine.Option;
 
 import java.io.File;
+import java.time.Duration;
 
+import static com.jonnymatts.jzonbie.Http2Options.http2Options;
 import static com.jonnymatts.jzonbie.HttpsOptions.httpsOptions;
 import static com.jonnymatts.jzonbie.JzonbieOptions.options;
+import static com.jonnymatts.jzonbie.ServerTuning.serverTuning;
 
 public class CommandLineOptions {
 
@@ -36,15 +42,57 @@ public class CommandLineOptions {
     @Option(names = {"-cn", "--common-name"}, paramLabel = "NAME", description = "common name of generated HTTPS certificate")
     public String commonName;
 
+    @Option(names = {"--http2"}, description = "enable HTTP/2")
+    public boolean http2Enabled;
+
+    @Option(names = {"--http2-max-concurrent-streams"}, paramLabel = "STREAMS", description = "maximum concurrent streams per HTTP/2 connection")
+    public Integer http2MaxConcurrentStreams;
+
     @Option(names = {"--call-history-capacity"}, paramLabel = "SIZE", description = "maximum capacity of the stored call history")
     public Integer callHistoryCapacity;
 
     @Option(names = {"--failed-requests-capacity"}, paramLabel = "SIZE", description = "maximum capacity of the stored failed requests")
     public Integer failedRequestsCapacity;
 
-    @Option(names = {"--initial-priming-file"}, paramLabel = "PATH", description = "path to initial priming file JSON")
+    @Option(names = {"--initial-priming-file"}, paramLabel = "PATH", description = "path to initial priming file JSON, directory of priming files or glob")
     public File initialPrimingFile;
 
+    @Option(names = {"--parallel-matching-threshold"}, paramLabel = "SIZE", description = "minimum number of candidate primings to match in parallel")
+    public Integer parallelMatchingThreshold;
+
+    @Option(names = {"--matching-parallelism"}, paramLabel = "THREADS", description = "number of threads used to match candidate primings in parallel")
+    public Integer matchingParallelism;
+
+    @Option(names = {"--pretty-response-bodies"}, description = "pretty-print JSON response bodies")
+    public boolean prettyResponseBodies;
+
+    @Option(names = {"--execution-mode"}, paramLabel = "MODE", description = "threads requests are handled on: ${COMPLETION-CANDIDATES}")
+    public ExecutionMode executionMode;
+
+    @Option(names = {"--server-tuning"}, paramLabel = "PRESET", description = "server tuning preset: ${COMPLETION-CANDIDATES}")
+    public ServerTuning.Preset serverTuningPreset;
+
+    @Option(names = {"--min-threads"}, paramLabel = "THREADS", description = "number of threads kept in the server thread pool")
+    public Integer minThreads;
+
+    @Option(names = {"--max-threads"}, paramLabel = "THREADS", description = "maximum number of threads in the server thread pool")
+    public Integer maxThreads;
+
+    @Option(names = {"--acceptors"}, paramLabel = "THREADS", description = "number of threads accepting connections")
+    public Integer acceptors;
+
+    @Option(names = {"--selectors"}, paramLabel = "THREADS", description = "number of threads selecting connections ready for IO")
+    public Integer selectors;
+
+    @Option(names = {"--accept-queue-size"}, paramLabel = "SIZE", description = "number of connections that can wait to be accepted")
+    public Integer acceptQueueSize;
+
+    @Option(names = {"--idle-timeout"}, paramLabel = "MILLIS", description = "milliseconds a connection can be idle before it is closed")
+    public Long idleTimeout;
+
+    @Option(names = {"--output-buffer-size"}, paramLabel = "BYTES", description = "size of the buffer response bodies are written to")
+    public Integer outputBufferSize;
+
     public static CommandLineOptions parse(String[] args) {
         final CommandLine cmd = new CommandLine(CommandLineOptions.class);
         cmd.parseArgs(args);
@@ -81,9 +129,57 @@ public class CommandLineOptions {
             }
             options.withHttps(httpsOptions);
         }
+        if(commandLineOptions.http2Enabled) {
+            final Http2Options http2Options = http2Options();
+            if(commandLineOptions.http2MaxConcurrentStreams != null) {
+                http2Options.withMaxConcurrentStreams(commandLineOptions.http2MaxConcurrentStreams);
+            }
+            options.withHttp2(http2Options);
+        }
         if (commandLineOptions.initialPrimingFile != null) {
             options.withInitialPrimingFile(commandLineOptions.initialPrimingFile);
         }
+        if(commandLineOptions.parallelMatchingThreshold != null) {
+            options.withParallelMatchingThreshold(commandLineOptions.parallelMatchingThreshold);
+        }
+        if(commandLineOptions.matchingParallelism != null) {
+            options.withMatchingParallelism(commandLineOptions.matchingParallelism);
+        }
+        if(commandLineOptions.prettyResponseBodies) {
+            options.withPrettyResponseBodies();
+        }
+        if(commandLineOptions.executionMode != null) {
+            options.withExecutionMode(commandLineOptions.executionMode);
+        }
+        options.withServerTuning(toServerTuning(commandLineOptions));
         return options;
     }
+
+    private static ServerTuning toServerTuning(CommandLineOptions commandLineOptions) {
+        final ServerTuning tuning = commandLineOptions.serverTuningPreset != null
+                ? commandLineOptions.serverTuningPreset.tuning()
+                : serverTuning();
+        if(commandLineOptions.minThreads != null) {
+            tuning.withMinThreads(commandLineOptions.minThreads);
+        }
+        if(commandLineOptions.maxThreads != null) {
+            tuning.withMaxThreads(commandLineOptions.maxThreads);
+        }
+        if(commandLineOptions.acceptors != null) {
+            tuning.withAcceptors(commandLineOptions.acceptors);
+        }
+        if(commandLineOptions.selectors != null) {
+            tuning.withSelectors(commandLineOptions.selectors);
+        }
+        if(commandLineOptions.acceptQueueSize != null) {
+            tuning.withAcceptQueueSize(commandLineOptions.acceptQueueSize);
+        }
+        if(commandLineOptions.idleTimeout != null) {
+            tuning.withIdleTimeout(Duration.ofMillis(commandLineOptions.idleTimeout));
+        }
+        if(commandLineOptions.outputBufferSize != null) {
+            tuning.withOutputBufferSize(commandLineOptions.outputBufferSize);
+        }
+        return tuning;
+    }
 }
\ No newline at end of file
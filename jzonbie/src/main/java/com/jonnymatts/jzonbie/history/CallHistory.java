@@ -1,6 +1,7 @@
 package com.jonnymatts.jzonbie.history;
 
 import com.jonnymatts.jzonbie.requests.AppRequest;
+import com.jonnymatts.jzonbie.requests.AppRequestMatcher;
 
 
 public class CallHistory extends FixedCapacityCache<Exchange> {
@@ -10,6 +11,7 @@ public class CallHistory extends FixedCapacityCache<Exchange> {
     }
 
     public int count(AppRequest appRequest) {
-        return (int)values.stream().filter(priming -> appRequest.matches(priming.getRequest())).count();
+        final AppRequestMatcher matcher = AppRequestMatcher.compile(appRequest);
+        return (int)values.stream().filter(priming -> matcher.matches(priming.getRequest())).count();
     }
 }
\ No newline at end of file
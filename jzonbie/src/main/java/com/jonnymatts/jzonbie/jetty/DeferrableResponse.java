@@ -0,0 +1,99 @@
+package com.jonnymatts.jzonbie.jetty;
+
+import javax.servlet.ServletResponse;
+import javax.servlet.ServletResponseWrapper;
+import javax.servlet.http.HttpServletResponse;
+import javax.servlet.http.HttpServletResponseWrapper;
+import java.time.Duration;
+import java.util.Optional;
+
+/**
+ * Response that can be sent after a delay, or have its body written at a limited rate, without
+ * holding the request thread.
+ * <p>
+ * Once a response is deferred or throttled it reports itself as committed, so Pippo leaves it
+ * alone when the route handler returns. {@link DeferredResponseFilter} then sends it
+ * asynchronously once the delay has passed, and writes any throttled body.
+ */
+public class DeferrableResponse extends HttpServletResponseWrapper {
+
+    private volatile Duration delay;
+    private volatile Runnable send;
+    private volatile ThrottledWriter throttledWriter;
+
+    DeferrableResponse(HttpServletResponse response) {
+        super(response);
+    }
+
+    /**
+     * Returns the deferrable response wrapped by the given response, if there is one.
+     *
+     * @param response servlet response
+     * @return deferrable response, or empty if the response cannot be deferred
+     */
+    public static Optional<DeferrableResponse> of(ServletResponse response) {
+        while(response instanceof ServletResponseWrapper) {
+            if(response instanceof DeferrableResponse) return Optional.of((DeferrableResponse) response);
+            response = ((ServletResponseWrapper) response).getResponse();
+        }
+        return Optional.empty();
+    }
+
+    /**
+     * Defers sending this response.
+     *
+     * @param delay time to wait before sending
+     * @param send sends the response
+     * @throws IllegalStateException if this response is already deferred
+     */
+    public void defer(Duration delay, Runnable send) {
+        if(this.send != null) throw new IllegalStateException("Response is already deferred");
+
+        this.delay = delay;
+        this.send = send;
+    }
+
+    /**
+     * Writes the body of this response in chunks paced by a timer, once the headers set so far
+     * have been sent.
+     *
+     * @param body response body
+     * @param chunkSize number of bytes written at a time
+     * @param chunkInterval time between writing one chunk and the next
+     * @param timeToFirstByte time between the headers and the first chunk
+     * @throws IllegalStateException if the body of this response is already throttled
+     */
+    public void throttle(byte[] body, int chunkSize, Duration chunkInterval, Duration timeToFirstByte) {
+        if(this.throttledWriter != null) throw new IllegalStateException("Response is already throttled");
+
+        setContentLengthLong(body.length);
+        this.throttledWriter = new ThrottledWriter(body, chunkSize, chunkInterval, timeToFirstByte);
+    }
+
+    @Override
+    public boolean isCommitted() {
+        return send != null || throttledWriter != null || super.isCommitted();
+    }
+
+    Duration getDelay() {
+        return delay;
+    }
+
+    boolean isDeferred() {
+        return send != null;
+    }
+
+    boolean isThrottled() {
+        return throttledWriter != null;
+    }
+
+    ThrottledWriter getThrottledWriter() {
+        return throttledWriter;
+    }
+
+    void sendDeferred() {
+        final Runnable deferred = send;
+        send = null;
+        deferred.run();
+    }
+}
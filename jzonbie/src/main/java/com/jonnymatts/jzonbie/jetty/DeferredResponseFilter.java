@@ -0,0 +1,73 @@
+package com.jonnymatts.jzonbie.jetty;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import javax.servlet.*;
+import javax.servlet.http.HttpServletResponse;
+import java.io.IOException;
+
+/**
+ * Sends deferred responses once their delay has passed, and writes throttled response bodies.
+ * <p>
+ * Requests are passed down the chain with a {@link DeferrableResponse}. If it has been deferred
+ * or throttled when the chain returns, the request is put into asynchronous mode and the request
+ * thread is released. The shared timer only times the delay: the response itself is sent on a
+ * container thread, so slow clients never hold up other delayed responses. Throttled bodies are
+ * written with non-blocking output, paced by the same timer.
+ */
+public class DeferredResponseFilter implements Filter {
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(DeferredResponseFilter.class);
+
+    private final HashedWheelTimer timer;
+
+    public DeferredResponseFilter(HashedWheelTimer timer) {
+        this.timer = timer;
+    }
+
+    @Override
+    public void init(FilterConfig filterConfig) {}
+
+    @Override
+    public void doFilter(ServletRequest request, ServletResponse response, FilterChain chain) throws IOException, ServletException {
+        final DeferrableResponse deferrableResponse = new DeferrableResponse((HttpServletResponse) response);
+        chain.doFilter(request, deferrableResponse);
+
+        if(!deferrableResponse.isDeferred() && !deferrableResponse.isThrottled()) return;
+
+        final AsyncContext asyncContext = request.startAsync();
+        asyncContext.setTimeout(0);
+        if(!deferrableResponse.isDeferred()) {
+            finish(asyncContext, deferrableResponse);
+            return;
+        }
+
+        timer.schedule(() -> asyncContext.start(() -> {
+            try {
+                deferrableResponse.sendDeferred();
+            } catch (Exception e) {
+                LOGGER.error("Failed to send deferred response", e);
+            } finally {
+                finish(asyncContext, deferrableResponse);
+            }
+        }), deferrableResponse.getDelay());
+    }
+
+    private void finish(AsyncContext asyncContext, DeferrableResponse deferrableResponse) {
+        if(!deferrableResponse.isThrottled()) {
+            asyncContext.complete();
+            return;
+        }
+
+        try {
+            deferrableResponse.getThrottledWriter().start(asyncContext, deferrableResponse.getOutputStream(), timer);
+        } catch (Exception e) {
+            LOGGER.error("Failed to send throttled response", e);
+            asyncContext.complete();
+        }
+    }
+
+    @Override
+    public void destroy() {}
+}
@@ -0,0 +1,171 @@
+package com.jonnymatts.jzonbie.jetty;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.time.Duration;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * Runs tasks after a delay on a single thread, using a hashed wheel of buckets.
+ * <p>
+ * Scheduling a task only adds it to a lock free queue, however many tasks are pending. Every
+ * tick the timer thread moves newly scheduled tasks into the bucket for the tick they expire
+ * in, and runs the expired tasks in the current bucket. Tasks may run up to a tick late, and
+ * run on the timer thread, so they should hand any real work to another thread.
+ * <p>
+ * The timer thread is started when the first task is scheduled. While no tasks are pending it
+ * parks until the next one is scheduled, rather than waking every tick.
+ */
+public class HashedWheelTimer {
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(HashedWheelTimer.class);
+
+    private final long tickNanos;
+    private final Timeout[] wheel;
+    private final int mask;
+    private final Queue<Timeout> scheduled = new ConcurrentLinkedQueue<>();
+    private final AtomicBoolean started = new AtomicBoolean();
+    private final Thread worker;
+    private volatile boolean stopped;
+    private volatile boolean idle;
+    private long startTime;
+    private int pending;
+
+    /**
+     * Creates a timer.
+     *
+     * @param threadFactory factory for the timer thread
+     * @param tick time between advances of the wheel
+     * @param ticksPerWheel number of buckets, rounded up to a power of two
+     */
+    public HashedWheelTimer(ThreadFactory threadFactory, Duration tick, int ticksPerWheel) {
+        if(tick.isZero() || tick.isNegative()) {
+            throw new IllegalArgumentException("Tick must be positive but was " + tick);
+        }
+        if(ticksPerWheel <= 0 || ticksPerWheel > 1 << 30) {
+            throw new IllegalArgumentException("Ticks per wheel must be between 1 and 2^30 but was " + ticksPerWheel);
+        }
+        this.tickNanos = tick.toNanos();
+        this.wheel = new Timeout[powerOfTwoAtLeast(ticksPerWheel)];
+        this.mask = wheel.length - 1;
+        this.worker = threadFactory.newThread(this::run);
+    }
+
+    /**
+     * Schedules the task to run once the delay has passed.
+     *
+     * @param task task to run on the timer thread
+     * @param delay time to wait before running the task
+     * @throws IllegalStateException if the timer has been stopped
+     */
+    public void schedule(Runnable task, Duration delay) {
+        if(stopped) {
+            throw new IllegalStateException("Timer has been stopped");
+        }
+        if(!started.get() && started.compareAndSet(false, true)) {
+            startTime = System.nanoTime();
+            worker.start();
+        }
+        scheduled.add(new Timeout(task, System.nanoTime() + delay.toNanos()));
+        if(idle) {
+            LockSupport.unpark(worker);
+        }
+    }
+
+    /**
+     * Stops the timer. Tasks that have not run yet are discarded.
+     */
+    public void stop() {
+        stopped = true;
+        if(started.get()) {
+            worker.interrupt();
+        }
+    }
+
+    private void run() {
+        long tick = 0;
+        while(!stopped) {
+            if(pending == 0) {
+                tick = awaitScheduled(tick);
+            }
+            final long tickTime = startTime + (tick + 1) * tickNanos;
+            long wait;
+            while((wait = tickTime - System.nanoTime()) > 0 && !stopped) {
+                LockSupport.parkNanos(this, wait);
+            }
+            if(stopped) return;
+
+            transferScheduled(tick);
+            expire(tick);
+            tick++;
+        }
+    }
+
+    // The wheel is empty, so the ticks passed while parked have no tasks to expire and are skipped
+    private long awaitScheduled(long tick) {
+        idle = true;
+        while(scheduled.isEmpty() && !stopped) {
+            LockSupport.park(this);
+        }
+        idle = false;
+        return Math.max(tick, (System.nanoTime() - startTime) / tickNanos);
+    }
+
+    private void transferScheduled(long tick) {
+        Timeout timeout;
+        while((timeout = scheduled.poll()) != null) {
+            final long expiryTick = Math.max(tick, (timeout.deadline - startTime) / tickNanos);
+            timeout.rounds = (expiryTick - tick) / wheel.length;
+
+            final int bucket = (int) (expiryTick & mask);
+            timeout.next = wheel[bucket];
+            wheel[bucket] = timeout;
+            pending++;
+        }
+    }
+
+    private void expire(long tick) {
+        final int bucket = (int) (tick & mask);
+        Timeout remaining = null;
+        Timeout timeout = wheel[bucket];
+        while(timeout != null) {
+            final Timeout next = timeout.next;
+            if(timeout.rounds <= 0) {
+                pending--;
+                try {
+                    timeout.task.run();
+                } catch (Throwable t) {
+                    LOGGER.error("Scheduled task failed", t);
+                }
+            } else {
+                timeout.rounds--;
+                timeout.next = remaining;
+                remaining = timeout;
+            }
+            timeout = next;
+        }
+        wheel[bucket] = remaining;
+    }
+
+    private static int powerOfTwoAtLeast(int value) {
+        final int highestOneBit = Integer.highestOneBit(value);
+        return highestOneBit == value ? value : highestOneBit << 1;
+    }
+
+    private static class Timeout {
+        private final Runnable task;
+        private final long deadline;
+        private long rounds;
+        private Timeout next;
+
+        private Timeout(Runnable task, long deadline) {
+            this.task = task;
+            this.deadline = deadline;
+        }
+    }
+}
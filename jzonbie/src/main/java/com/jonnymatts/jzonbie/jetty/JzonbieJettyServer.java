@@ -1,24 +1,172 @@
 package com.jonnymatts.jzonbie.jetty;
 
+import com.jonnymatts.jzonbie.ExecutionMode;
+import com.jonnymatts.jzonbie.Http2Options;
+import com.jonnymatts.jzonbie.ServerTuning;
+import org.eclipse.jetty.alpn.server.ALPNServerConnectionFactory;
+import org.eclipse.jetty.http2.HTTP2Cipher;
+import org.eclipse.jetty.http2.server.AbstractHTTP2ServerConnectionFactory;
+import org.eclipse.jetty.http2.server.HTTP2CServerConnectionFactory;
+import org.eclipse.jetty.http2.server.HTTP2ServerConnectionFactory;
+import org.eclipse.jetty.server.ConnectionFactory;
+import org.eclipse.jetty.server.Connector;
+import org.eclipse.jetty.server.HttpConfiguration;
+import org.eclipse.jetty.server.HttpConnectionFactory;
 import org.eclipse.jetty.server.Server;
 import org.eclipse.jetty.server.ServerConnector;
+import org.eclipse.jetty.server.SslConnectionFactory;
+import org.eclipse.jetty.servlet.FilterHolder;
+import org.eclipse.jetty.servlet.FilterMapping;
+import org.eclipse.jetty.servlet.ServletContextHandler;
+import org.eclipse.jetty.util.component.AbstractLifeCycle.AbstractLifeCycleListener;
+import org.eclipse.jetty.util.component.LifeCycle;
+import org.eclipse.jetty.util.ssl.SslContextFactory;
+import org.eclipse.jetty.util.thread.QueuedThreadPool;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
 import ro.pippo.jetty.JettyServer;
 
+import java.util.EnumSet;
+import java.util.Optional;
+
+import static com.jonnymatts.jzonbie.ExecutionMode.VIRTUAL_THREADS;
+import static javax.servlet.DispatcherType.REQUEST;
+
 public class JzonbieJettyServer extends JettyServer {
 
+    private static final Logger LOGGER = LoggerFactory.getLogger(JzonbieJettyServer.class);
+
+    private final HashedWheelTimer delayTimer;
+    private final ExecutionMode executionMode;
+    private final ServerTuning tuning;
+    private final Optional<Http2Options> http2Options;
     private Server server;
 
-    public JzonbieJettyServer() {}
+    public JzonbieJettyServer(HashedWheelTimer delayTimer, ExecutionMode executionMode, ServerTuning tuning, Optional<Http2Options> http2Options) {
+        this.delayTimer = delayTimer;
+        this.executionMode = executionMode;
+        this.tuning = tuning;
+        this.http2Options = http2Options;
+    }
 
     @Override
     protected Server createServer() {
-        server = super.createServer();
+        if(executionMode == VIRTUAL_THREADS) {
+            final Optional<VirtualThreadPool> virtualThreadPool = VirtualThreadPool.create("jzonbie-virtual-");
+            if(virtualThreadPool.isPresent()) {
+                server = new Server(virtualThreadPool.get());
+                tuneConnectorsOnStart(server);
+                return server;
+            }
+            LOGGER.warn("Virtual threads need Java 21 or newer, handling requests on platform threads");
+        }
+
+        if(tuning.getMinThreads().isPresent() || tuning.getMaxThreads().isPresent()) {
+            server = new Server(createThreadPool());
+        } else {
+            server = super.createServer();
+        }
+        tuneConnectorsOnStart(server);
 
         return server;
     }
 
+    @Override
+    protected ServerConnector createServerConnector(Server server) {
+        final ServerConnector defaultConnector = super.createServerConnector(server);
+        final HttpConnectionFactory http1 = defaultConnector.getConnectionFactory(HttpConnectionFactory.class);
+        tuning.getOutputBufferSize().ifPresent(http1.getHttpConfiguration()::setOutputBufferSize);
+
+        final ConnectionFactory[] connectionFactories = http2Options
+                .map(options -> createHttp2ConnectionFactories(defaultConnector, http1, options))
+                .orElseGet(() -> defaultConnector.getConnectionFactories().toArray(new ConnectionFactory[0]));
+
+        final ServerConnector connector = new ServerConnector(server, null, null, null,
+                tuning.getAcceptors().orElse(-1), tuning.getSelectors().orElse(-1), connectionFactories);
+        tuning.getAcceptQueueSize().ifPresent(connector::setAcceptQueueSize);
+
+        return connector;
+    }
+
+    private ConnectionFactory[] createHttp2ConnectionFactories(ServerConnector defaultConnector, HttpConnectionFactory http1, Http2Options options) {
+        final HttpConfiguration httpConfiguration = http1.getHttpConfiguration();
+        final SslConnectionFactory ssl = defaultConnector.getConnectionFactory(SslConnectionFactory.class);
+
+        if(ssl == null) {
+            final HTTP2CServerConnectionFactory h2c = new HTTP2CServerConnectionFactory(httpConfiguration);
+            configureHttp2(h2c, options);
+            return new ConnectionFactory[]{http1, h2c};
+        }
+
+        final HTTP2ServerConnectionFactory h2 = new HTTP2ServerConnectionFactory(httpConfiguration);
+        configureHttp2(h2, options);
+
+        final ALPNServerConnectionFactory alpn;
+        try {
+            alpn = new ALPNServerConnectionFactory(h2.getProtocol(), http1.getProtocol());
+        } catch (IllegalStateException e) {
+            LOGGER.warn("HTTP/2 over TLS needs ALPN support from Java 9 or newer, serving HTTPS over HTTP/1.1");
+            return defaultConnector.getConnectionFactories().toArray(new ConnectionFactory[0]);
+        }
+        alpn.setDefaultProtocol(http1.getProtocol());
+
+        final SslContextFactory sslContextFactory = ssl.getSslContextFactory();
+        sslContextFactory.setCipherComparator(HTTP2Cipher.COMPARATOR);
+        sslContextFactory.setUseCipherSuitesOrder(true);
+        // This Jetty version can stall TLS 1.3 handshakes negotiated with ALPN, so HTTP/2 is served over TLS 1.2
+        sslContextFactory.addExcludeProtocols("TLSv1.3");
+
+        return new ConnectionFactory[]{new SslConnectionFactory(sslContextFactory, alpn.getProtocol()), alpn, h2, http1};
+    }
+
+    private void configureHttp2(AbstractHTTP2ServerConnectionFactory http2, Http2Options options) {
+        http2.setMaxConcurrentStreams(options.getMaxConcurrentStreams());
+    }
+
+    private QueuedThreadPool createThreadPool() {
+        final QueuedThreadPool defaultThreadPool = new QueuedThreadPool();
+        final int maxThreads = tuning.getMaxThreads().orElse(defaultThreadPool.getMaxThreads());
+        final int minThreads = tuning.getMinThreads().orElse(Math.min(defaultThreadPool.getMinThreads(), maxThreads));
+        if(minThreads > maxThreads) {
+            throw new IllegalArgumentException(String.format("Minimum threads (%d) must not be more than maximum threads (%d)", minThreads, maxThreads));
+        }
+        return new QueuedThreadPool(maxThreads, minThreads);
+    }
+
+    // Pippo gives connectors a fixed idle timeout after creating them, so it is replaced once the server starts
+    private void tuneConnectorsOnStart(Server server) {
+        tuning.getIdleTimeout().ifPresent(idleTimeout ->
+                server.addLifeCycleListener(new AbstractLifeCycleListener() {
+                    @Override
+                    public void lifeCycleStarting(LifeCycle event) {
+                        for(Connector connector : server.getConnectors()) {
+                            ((ServerConnector) connector).setIdleTimeout(idleTimeout.toMillis());
+                        }
+                    }
+                })
+        );
+    }
+
+    @Override
+    protected ServletContextHandler createPippoHandler() {
+        final ServletContextHandler handler = super.createPippoHandler();
+
+        final FilterHolder holder = new FilterHolder(new DeferredResponseFilter(delayTimer));
+        holder.setName(DeferredResponseFilter.class.getSimpleName());
+        holder.setAsyncSupported(true);
+        handler.getServletHandler().addFilter(holder);
+
+        final FilterMapping mapping = new FilterMapping();
+        mapping.setFilterName(holder.getName());
+        mapping.setPathSpec("/*");
+        mapping.setDispatcherTypes(EnumSet.of(REQUEST));
+        handler.getServletHandler().prependFilterMapping(mapping);
+
+        return handler;
+    }
+
     @Override
     public int getPort() {
         return ((ServerConnector) server.getConnectors()[0]).getLocalPort();
     }
-}
\ No newline at end of file
+}
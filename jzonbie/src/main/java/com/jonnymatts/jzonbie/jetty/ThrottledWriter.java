@@ -0,0 +1,126 @@
+package com.jonnymatts.jzonbie.jetty;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import javax.servlet.AsyncContext;
+import javax.servlet.ServletOutputStream;
+import javax.servlet.WriteListener;
+import java.io.IOException;
+import java.time.Duration;
+
+/**
+ * Writes a response body in chunks paced by a {@link HashedWheelTimer}.
+ * <p>
+ * The output stream is used in non-blocking mode: the headers are flushed straight away, then
+ * each chunk is written and flushed when the timer says it is due and the stream is ready for
+ * it. No thread is held between chunks, however slowly the body is written. The timer only
+ * dispatches due chunks to a container thread, so it never writes or waits on the monitor itself.
+ */
+class ThrottledWriter implements WriteListener {
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(ThrottledWriter.class);
+
+    private final byte[] body;
+    private final int chunkSize;
+    private final long chunkIntervalNanos;
+    private final long timeToFirstByteNanos;
+
+    private AsyncContext asyncContext;
+    private ServletOutputStream outputStream;
+    private HashedWheelTimer timer;
+
+    private boolean headersFlushed;
+    private boolean chunkDue;
+    private boolean unflushed;
+    private boolean written;
+    private boolean completed;
+    private int position;
+    private long nextChunkTime;
+
+    ThrottledWriter(byte[] body, int chunkSize, Duration chunkInterval, Duration timeToFirstByte) {
+        this.body = body;
+        this.chunkSize = chunkSize;
+        this.chunkIntervalNanos = chunkInterval.toNanos();
+        this.timeToFirstByteNanos = timeToFirstByte.toNanos();
+    }
+
+    synchronized void start(AsyncContext asyncContext, ServletOutputStream outputStream, HashedWheelTimer timer) {
+        this.asyncContext = asyncContext;
+        this.outputStream = outputStream;
+        this.timer = timer;
+        outputStream.setWriteListener(this);
+    }
+
+    @Override
+    public synchronized void onWritePossible() throws IOException {
+        proceed();
+    }
+
+    @Override
+    public synchronized void onError(Throwable t) {
+        LOGGER.error("Failed to send throttled response", t);
+        complete();
+    }
+
+    private void onChunkDue() {
+        try {
+            asyncContext.start(this::writeDueChunk);
+        } catch (IllegalStateException e) {
+            onError(e);
+        }
+    }
+
+    private synchronized void writeDueChunk() {
+        chunkDue = true;
+        try {
+            proceed();
+        } catch (Exception e) {
+            onError(e);
+        }
+    }
+
+    private void proceed() throws IOException {
+        while(!completed && outputStream.isReady()) {
+            if(!headersFlushed) {
+                headersFlushed = true;
+                if(body.length == 0) {
+                    written = true;
+                } else {
+                    nextChunkTime = System.nanoTime() + timeToFirstByteNanos;
+                    scheduleNextChunk();
+                }
+                outputStream.flush();
+            } else if(unflushed) {
+                unflushed = false;
+                outputStream.flush();
+            } else if(written) {
+                complete();
+            } else if(chunkDue) {
+                chunkDue = false;
+                final int length = Math.min(chunkSize, body.length - position);
+                outputStream.write(body, position, length);
+                position += length;
+                unflushed = true;
+                if(position == body.length) {
+                    written = true;
+                } else {
+                    nextChunkTime += chunkIntervalNanos;
+                    scheduleNextChunk();
+                }
+            } else {
+                return;
+            }
+        }
+    }
+
+    private void scheduleNextChunk() {
+        timer.schedule(this::onChunkDue, Duration.ofNanos(Math.max(0, nextChunkTime - System.nanoTime())));
+    }
+
+    private void complete() {
+        if(completed) return;
+        completed = true;
+        asyncContext.complete();
+    }
+}
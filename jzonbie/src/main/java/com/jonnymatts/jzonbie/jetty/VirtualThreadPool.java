@@ -0,0 +1,49 @@
+package com.jonnymatts.jzonbie.jetty;
+
+import org.eclipse.jetty.util.thread.ExecutorThreadPool;
+
+import java.util.Optional;
+import java.util.concurrent.SynchronousQueue;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.ThreadPoolExecutor;
+
+import static java.util.concurrent.TimeUnit.MILLISECONDS;
+
+/**
+ * Jetty thread pool that runs every task on a new virtual thread.
+ * <p>
+ * Jzonbie is built for Java 8, so the virtual thread factory of Java 21 is looked up by
+ * reflection when the pool is created. Virtual threads are cheap to create and to block, so the
+ * pool neither limits its threads nor keeps idle threads to reuse.
+ */
+class VirtualThreadPool extends ExecutorThreadPool {
+
+    private final ThreadFactory threadFactory;
+
+    VirtualThreadPool(ThreadFactory threadFactory) {
+        super(new ThreadPoolExecutor(0, Integer.MAX_VALUE, 0, MILLISECONDS, new SynchronousQueue<>()), 0);
+        this.threadFactory = threadFactory;
+    }
+
+    /**
+     * Returns a pool of virtual threads named with the prefix and a counter.
+     *
+     * @param prefix thread name prefix
+     * @return virtual thread pool, or empty if the running Java version does not support virtual threads
+     */
+    static Optional<VirtualThreadPool> create(String prefix) {
+        try {
+            final Class<?> builder = Class.forName("java.lang.Thread$Builder");
+            final Object virtualBuilder = Thread.class.getMethod("ofVirtual").invoke(null);
+            builder.getMethod("name", String.class, long.class).invoke(virtualBuilder, prefix, 0L);
+            return Optional.of(new VirtualThreadPool((ThreadFactory) builder.getMethod("factory").invoke(virtualBuilder)));
+        } catch (ReflectiveOperationException e) {
+            return Optional.empty();
+        }
+    }
+
+    @Override
+    protected Thread newThread(Runnable runnable) {
+        return threadFactory.newThread(runnable);
+    }
+}
@@ -4,6 +4,7 @@ import com.google.common.base.Stopwatch;
 import com.jonnymatts.jzonbie.requests.AppRequestHandler;
 import com.jonnymatts.jzonbie.requests.RequestHandler;
 import com.jonnymatts.jzonbie.requests.ZombieRequestHandler;
+import com.jonnymatts.jzonbie.requests.ZombieResponse;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import ro.pippo.core.Application;
@@ -11,7 +12,9 @@ import ro.pippo.core.route.RouteContext;
 
 import java.util.List;
 
+import static java.util.Collections.singletonMap;
 import static java.util.concurrent.TimeUnit.MILLISECONDS;
+import static org.eclipse.jetty.http.HttpStatus.SERVICE_UNAVAILABLE_503;
 
 public class PippoApplication extends Application {
 
@@ -22,17 +25,20 @@ public class PippoApplication extends Application {
     private final AppRequestHandler appRequestHandler;
     private final ZombieRequestHandler zombieRequestHandler;
     private final PippoResponder pippoResponder;
+    private final Readiness readiness;
 
     public PippoApplication(String zombieHeaderName,
                             List<JzonbieRoute> additionalRoutes,
                             AppRequestHandler appRequestHandler,
                             ZombieRequestHandler zombieRequestHandler,
-                            PippoResponder pippoResponder) {
+                            PippoResponder pippoResponder,
+                            Readiness readiness) {
         this.zombieHeaderName = zombieHeaderName;
         this.additionalRoutes = additionalRoutes;
         this.appRequestHandler = appRequestHandler;
         this.zombieRequestHandler = zombieRequestHandler;
         this.pippoResponder = pippoResponder;
+        this.readiness = readiness;
     }
 
     @Override
@@ -48,6 +54,11 @@ public class PippoApplication extends Application {
 
         final String zombieHeader = pippoRequest.getHeaders().get(zombieHeaderName);
 
+        if(!readiness.isReady()) {
+            pippoResponder.send(pippoResponse, pippoRequest, () -> new ZombieResponse(SERVICE_UNAVAILABLE_503, singletonMap("message", "Loading priming")));
+            return;
+        }
+
         final RequestHandler requestHandler = zombieHeader != null ?
                 zombieRequestHandler : appRequestHandler;
 
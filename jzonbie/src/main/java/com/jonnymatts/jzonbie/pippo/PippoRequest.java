@@ -1,15 +1,16 @@
 package com.jonnymatts.jzonbie.pippo;
 
 import com.jonnymatts.jzonbie.Request;
-import ro.pippo.core.util.IoUtils;
+import ro.pippo.core.FileItem;
 
 import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
 import java.util.List;
 import java.util.Map;
 import java.util.Map.Entry;
 
 import static java.util.Collections.list;
-import static java.util.Optional.of;
 import static java.util.function.Function.identity;
 import static java.util.stream.Collectors.toMap;
 
@@ -17,26 +18,24 @@ public class PippoRequest implements Request {
 
     private static final String FILE_CONTENT_TYPE = "multipart/form-data";
 
+    private final ro.pippo.core.Request request;
     private final String protocol;
     private final String url;
     private final int port;
     private final String path;
     private final String method;
     private final Map<String, String> headers;
-    private final String body;
     private final Map<String, List<String>> queryMap;
-    private final String primingFileContent;
 
     public PippoRequest(ro.pippo.core.Request request) {
+        this.request = request;
         protocol = request.getScheme();
         url = request.getUrl();
         port = request.getPort();
         path = request.getPath();
         method = request.getMethod();
         headers = createHeaders(request);
-        body = request.getBody();
         queryMap = createQueryMap(request);
-        primingFileContent = getPrimingFileContentFromRequest(request);
     }
 
     @Override
@@ -56,7 +55,8 @@ public class PippoRequest implements Request {
 
     @Override
     public String getBody() {
-        return body;
+        // Read on first use, after which Pippo keeps the body for the rest of the request
+        return request.getBody();
     }
 
     @Override
@@ -65,8 +65,18 @@ public class PippoRequest implements Request {
     }
 
     @Override
-    public String getPrimingFileContent() {
-        return primingFileContent;
+    public InputStream getPrimingFile() {
+        final String contentType = request.getContentType();
+        if(contentType == null || !contentType.startsWith(FILE_CONTENT_TYPE) || request.getFiles().isEmpty()) return null;
+
+        final FileItem fileItem = request.getFile("priming");
+        if(fileItem == null) return null;
+
+        try {
+            return fileItem.getInputStream();
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
     }
 
     public String getProtocol() {
@@ -102,18 +112,4 @@ public class PippoRequest implements Request {
                         )
                 );
     }
-
-    private String getPrimingFileContentFromRequest(ro.pippo.core.Request request) {
-        final String contentType = request.getContentType();
-        if(contentType == null || !contentType.startsWith(FILE_CONTENT_TYPE) || request.getFiles().isEmpty()) return null;
-        return of(request.getFile("priming"))
-                .map(fileItem -> {
-                    try {
-                        return IoUtils.toString(fileItem.getInputStream());
-                    } catch (IOException e) {
-                        return null;
-                    }
-                })
-                .orElse(null);
-    }
 }
\ No newline at end of file
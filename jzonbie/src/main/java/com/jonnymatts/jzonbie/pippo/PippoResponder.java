@@ -2,13 +2,20 @@ package com.jonnymatts.jzonbie.pippo;
 
 import com.fasterxml.jackson.core.JsonProcessingException;
 import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import com.google.common.cache.Cache;
+import com.google.common.cache.CacheBuilder;
 import com.jonnymatts.jzonbie.Body;
 import com.jonnymatts.jzonbie.Response;
 import com.jonnymatts.jzonbie.body.LiteralBodyContent;
+import com.jonnymatts.jzonbie.jetty.DeferrableResponse;
 import com.jonnymatts.jzonbie.requests.PrimingNotFoundException;
+import com.jonnymatts.jzonbie.requests.SampledResponse;
+import com.jonnymatts.jzonbie.responses.AppResponse;
 import com.jonnymatts.jzonbie.responses.CurrentPrimingFileResponseFactory.FileResponse;
 import com.jonnymatts.jzonbie.responses.ErrorResponse;
 import com.jonnymatts.jzonbie.responses.PrimingNotFoundErrorResponse;
+import com.jonnymatts.jzonbie.responses.Throttle;
 import com.jonnymatts.jzonbie.templating.ResponseTransformer;
 import com.jonnymatts.jzonbie.templating.TransformationContext;
 import org.slf4j.Logger;
@@ -16,53 +23,140 @@ import org.slf4j.LoggerFactory;
 
 import java.io.ByteArrayInputStream;
 import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.charset.Charset;
+import java.time.Duration;
+import java.util.LinkedHashMap;
 import java.util.Map;
+import java.util.Optional;
 import java.util.function.Supplier;
 
+import static com.fasterxml.jackson.databind.SerializationFeature.INDENT_OUTPUT;
 import static java.lang.String.format;
+import static java.nio.charset.StandardCharsets.ISO_8859_1;
+import static java.nio.charset.StandardCharsets.UTF_8;
+import static java.util.Collections.emptyMap;
+import static java.util.Collections.unmodifiableMap;
 import static javax.servlet.http.HttpServletResponse.SC_INTERNAL_SERVER_ERROR;
 import static javax.servlet.http.HttpServletResponse.SC_NOT_FOUND;
 import static ro.pippo.core.HttpConstants.ContentType.APPLICATION_JSON;
+import static ro.pippo.core.HttpConstants.Header.CONTENT_TYPE;
+import static ro.pippo.core.HttpConstants.ContentType.TEXT_HTML;
 
+/**
+ * Sends responses through Pippo.
+ * <p>
+ * Bodies of primed responses are written compactly, unless pretty response bodies are enabled.
+ * Responses primed through {@link com.jonnymatts.jzonbie.priming.PrimingContext} are prepared when
+ * they are validated: their status, headers, content type and rendered body are taken from a copy
+ * of the response and reused every time the response is served. The context shares one instance
+ * between equal primings, so equal primings are prepared once. Templated responses reuse their
+ * rendered body as the source of their template. Any other response, such as one supplied by a
+ * dynamic default, is rendered each time it is served.
+ * Bodies of primed responses with a {@link Throttle} are written at the throttled rate.
+ */
 public class PippoResponder {
 
     private static final Logger LOGGER = LoggerFactory.getLogger(PippoApplication.class);
 
     private final ResponseTransformer responseTransformer;
     private final ObjectMapper objectMapper;
+    private final ObjectWriter bodyWriter;
+    private final Cache<AppResponse, PreparedResponse> preparedResponses;
 
-    public PippoResponder(ResponseTransformer responseTransformer, ObjectMapper objectMapper) {
+    public PippoResponder(ResponseTransformer responseTransformer, ObjectMapper objectMapper, boolean prettyResponseBodies) {
         this.responseTransformer = responseTransformer;
         this.objectMapper = objectMapper;
+        this.bodyWriter = prettyResponseBodies ? objectMapper.writer().with(INDENT_OUTPUT) : objectMapper.writer().without(INDENT_OUTPUT);
+        this.preparedResponses = CacheBuilder.newBuilder().weakKeys().build();
     }
 
+    /**
+     * Checks a primed response can be served and prepares it to be served, compiling its
+     * templates if it is templated.
+     * <p>
+     * The response is prepared from a copy, so it is served as it was when it was validated.
+     * Responses are matched to their preparation by identity, so the response must be the
+     * instance that is served later.
+     *
+     * @param appResponse primed response
+     * @throws com.jonnymatts.jzonbie.templating.TransformResponseException if a template is invalid
+     */
+    public void validate(AppResponse appResponse) {
+        if(preparedResponses.getIfPresent(appResponse) != null) return;
+
+        final PreparedResponse prepared = prepare(new AppResponse(appResponse));
+        if(prepared.templated) {
+            responseTransformer.compile(prepared.headers, prepared.body.string);
+        }
+        preparedResponses.put(appResponse, prepared);
+    }
+
+    /**
+     * Sends the supplied response.
+     * <p>
+     * A delayed response is deferred when the server supports it, so the request thread is
+     * released for the delay and the response is sent from a container thread afterwards.
+     * Otherwise the request thread sleeps for the delay.
+     */
     public void send(ro.pippo.core.Response pippoResponse, PippoRequest pippoRequest, Supplier<Response<?>> responseSupplier) {
+        final Response<?> response;
+        try {
+            response = responseSupplier.get();
+        } catch (Exception e) {
+            sendErrorResponse(pippoResponse, e);
+            return;
+        }
+
+        final Optional<Duration> delay = response.getDelay().filter(d -> !d.isZero() && !d.isNegative());
+        final Optional<DeferrableResponse> deferrableResponse = delay.isPresent() ? DeferrableResponse.of(pippoResponse.getHttpServletResponse()) : Optional.empty();
+        if(deferrableResponse.isPresent()) {
+            deferrableResponse.get().defer(delay.get(), () -> send(pippoResponse, pippoRequest, response));
+        } else {
+            try {
+                sleepIfNecessary(response);
+            } catch (Exception e) {
+                sendErrorResponse(pippoResponse, e);
+                return;
+            }
+            send(pippoResponse, pippoRequest, response);
+        }
+    }
+
+    private void send(ro.pippo.core.Response pippoResponse, PippoRequest pippoRequest, Response<?> sentResponse) {
+        final Response<?> response = sentResponse instanceof SampledResponse ? ((SampledResponse) sentResponse).getResponse() : sentResponse;
         try {
-            final Response<?> response = responseSupplier.get();
             if(response instanceof FileResponse) {
                 final FileResponse fileResponse = (FileResponse) response;
                 pippoResponse.contentType(APPLICATION_JSON);
                 pippoResponse.file(fileResponse.getFileName(), new ByteArrayInputStream(fileResponse.getContents().getBytes()));
-            } else if(response.isTemplated()) {
-                final TransformationContext transformationContext = new TransformationContext(pippoRequest);
-                final Map<String, String> transformedHeaders = responseTransformer.transformHeaders(transformationContext, response.getHeaders());
-                primeResponse(pippoResponse, response.getStatusCode(), transformedHeaders);
-                sleepIfNecessary(response);
-                final String bodyString = getBodyString(response.getBody());
-                final String transformedBodyString = responseTransformer.transformBody(transformationContext, bodyString);
-                send(pippoResponse, transformedBodyString);
+            } else if(response instanceof AppResponse) {
+                send(pippoResponse, pippoRequest, preparedFor((AppResponse) response));
             } else {
                 primeResponse(pippoResponse, response.getStatusCode(), response.getHeaders());
-                sleepIfNecessary(response);
-                final String bodyString = getBodyString(response.getBody());
+                final String bodyString = getBodyString(response.getBody(), objectMapper.writer());
                 send(pippoResponse, bodyString);
             }
-        } catch (PrimingNotFoundException e) {
-            LOGGER.error("Priming not found for request {}", e.getRequest());
-            sendErrorResponse(pippoResponse, SC_NOT_FOUND, new PrimingNotFoundErrorResponse(e.getRequest()));
         } catch (Exception e) {
-            LOGGER.error("Exception occurred: " + e.getClass().getSimpleName(), e);
-            sendErrorResponse(pippoResponse, SC_INTERNAL_SERVER_ERROR, new ErrorResponse(format("Error occurred: %s - %s", e.getClass().getName(), e.getMessage())));
+            sendErrorResponse(pippoResponse, e);
+        }
+    }
+
+    private void send(ro.pippo.core.Response pippoResponse, PippoRequest pippoRequest, PreparedResponse prepared) throws IOException {
+        if(!prepared.templated) {
+            primeResponse(pippoResponse, prepared.statusCode, prepared.headers);
+            send(pippoResponse, prepared.body, prepared.contentType, prepared.throttle);
+            return;
+        }
+
+        final TransformationContext transformationContext = new TransformationContext(pippoRequest);
+        final Map<String, String> transformedHeaders = responseTransformer.transformHeaders(transformationContext, prepared.headers);
+        primeResponse(pippoResponse, prepared.statusCode, transformedHeaders);
+        final String transformedBodyString = responseTransformer.transformBody(transformationContext, prepared.body.string);
+        if(prepared.throttle.isPresent()) {
+            send(pippoResponse, new RenderedBody(transformedBodyString, false), Optional.empty(), prepared.throttle);
+        } else {
+            send(pippoResponse, transformedBodyString);
         }
     }
 
@@ -74,20 +168,82 @@ public class PippoResponder {
         }
     }
 
-    private void sleepIfNecessary(Response<?> response) {
-        response.getDelay().ifPresent(d -> {
-            try {
-                Thread.sleep(d.toMillis());
-            } catch (InterruptedException e) {
-                throw new RuntimeException(e);
+    private void send(ro.pippo.core.Response response, RenderedBody renderedBody, Optional<String> contentType, Optional<Throttle> throttle) throws IOException {
+        if(renderedBody.string == null) {
+            response.commit();
+            return;
+        }
+
+        if(contentType.isPresent()) {
+            response.contentType(contentType.get());
+        } else if(response.getContentType() == null) {
+            response.contentType(TEXT_HTML);
+        }
+        final byte[] bytes = renderedBody.getBytes(response.getCharacterEncoding());
+        if(throttle.isPresent()) {
+            sendThrottled(response, bytes, throttle.get());
+            return;
+        }
+        response.contentLength(bytes.length);
+        try(OutputStream outputStream = response.getOutputStream()) {
+            outputStream.write(bytes);
+        }
+    }
+
+    /**
+     * Writes the body at the throttled rate. When the server supports it the body is written
+     * asynchronously, otherwise the request thread sleeps between chunks.
+     */
+    private void sendThrottled(ro.pippo.core.Response response, byte[] bytes, Throttle throttle) throws IOException {
+        final Optional<DeferrableResponse> deferrableResponse = DeferrableResponse.of(response.getHttpServletResponse());
+        if(deferrableResponse.isPresent()) {
+            // Pippo only copies its headers onto the servlet response when its output stream is taken
+            response.getOutputStream();
+            deferrableResponse.get().throttle(bytes, throttle.getChunkSize(), throttle.chunkInterval(), throttle.getTimeToFirstByte());
+            return;
+        }
+
+        response.contentLength(bytes.length);
+        try(OutputStream outputStream = response.getOutputStream()) {
+            outputStream.flush();
+            sleep(throttle.getTimeToFirstByte());
+            for(int position = 0; position < bytes.length; position += throttle.getChunkSize()) {
+                if(position > 0) sleep(throttle.chunkInterval());
+                outputStream.write(bytes, position, Math.min(throttle.getChunkSize(), bytes.length - position));
+                outputStream.flush();
             }
-        });
+        }
+    }
+
+    private PreparedResponse preparedFor(AppResponse response) {
+        final PreparedResponse prepared = preparedResponses.getIfPresent(response);
+        return prepared != null ? prepared : prepare(response);
+    }
+
+    private PreparedResponse prepare(AppResponse response) {
+        try {
+            return new PreparedResponse(response, new RenderedBody(getBodyString(response.getBody(), bodyWriter), !response.isTemplated()));
+        } catch (JsonProcessingException e) {
+            throw new RuntimeException(e);
+        }
+    }
+
+    private void sleepIfNecessary(Response<?> response) {
+        response.getDelay().ifPresent(this::sleep);
+    }
+
+    private void sleep(Duration duration) {
+        try {
+            Thread.sleep(duration.toMillis());
+        } catch (InterruptedException e) {
+            throw new RuntimeException(e);
+        }
     }
 
-    private String getBodyString(Body<?> body) throws JsonProcessingException {
+    private String getBodyString(Body<?> body, ObjectWriter writer) throws JsonProcessingException {
         if(body == null) return null;
         if(body instanceof LiteralBodyContent) return ((LiteralBodyContent) body).getContent();
-        return objectMapper.writeValueAsString(body.getContent());
+        return writer.writeValueAsString(body.getContent());
     }
 
     private void primeResponse(ro.pippo.core.Response response, int statusCode, Map<String, String> headers) throws IOException {
@@ -97,6 +253,17 @@ public class PippoResponder {
         }
     }
 
+    private void sendErrorResponse(ro.pippo.core.Response pippoResponse, Exception exception) {
+        if(exception instanceof PrimingNotFoundException) {
+            final PrimingNotFoundException e = (PrimingNotFoundException) exception;
+            LOGGER.error("Priming not found for request {}", e.getRequest());
+            sendErrorResponse(pippoResponse, SC_NOT_FOUND, new PrimingNotFoundErrorResponse(e.getRequest()));
+        } else {
+            LOGGER.error("Exception occurred: " + exception.getClass().getSimpleName(), exception);
+            sendErrorResponse(pippoResponse, SC_INTERNAL_SERVER_ERROR, new ErrorResponse(format("Error occurred: %s - %s", exception.getClass().getName(), exception.getMessage())));
+        }
+    }
+
     private void sendErrorResponse(ro.pippo.core.Response pippoResponse, int statusCode, ErrorResponse errorResponse) {
         pippoResponse.status(statusCode);
 
@@ -106,4 +273,37 @@ public class PippoResponder {
             pippoResponse.send(errorResponse.getMessage());
         }
     }
+
+    private static class PreparedResponse {
+        private final int statusCode;
+        private final Map<String, String> headers;
+        private final Optional<String> contentType;
+        private final RenderedBody body;
+        private final Optional<Throttle> throttle;
+        private final boolean templated;
+
+        private PreparedResponse(AppResponse response, RenderedBody body) {
+            this.statusCode = response.getStatusCode();
+            this.headers = response.getHeaders() == null ? emptyMap() : unmodifiableMap(new LinkedHashMap<>(response.getHeaders()));
+            this.contentType = Optional.of(headers.keySet().stream().filter(CONTENT_TYPE::equalsIgnoreCase).findFirst().map(headers::get).orElse(TEXT_HTML));
+            this.body = body;
+            this.throttle = response.getThrottle();
+            this.templated = response.isTemplated();
+        }
+    }
+
+    private static class RenderedBody {
+        private final String string;
+        private final byte[] utf8Bytes;
+
+        private RenderedBody(String string, boolean encode) {
+            this.string = string;
+            this.utf8Bytes = string == null || !encode ? null : string.getBytes(UTF_8);
+        }
+
+        private byte[] getBytes(String characterEncoding) {
+            final Charset charset = characterEncoding == null ? ISO_8859_1 : Charset.forName(characterEncoding);
+            return UTF_8.equals(charset) && utf8Bytes != null ? utf8Bytes : string.getBytes(charset);
+        }
+    }
 }
\ No newline at end of file
@@ -0,0 +1,29 @@
+package com.jonnymatts.jzonbie.pippo;
+
+/**
+ * Whether a Jzonbie has finished loading its initial priming and is ready for traffic.
+ * <p>
+ * Until it is ready, every request, application or zombie, is rejected with a
+ * {@code 503 Service Unavailable} response saying that priming is loading. Application requests
+ * would otherwise see partial priming, and zombie requests would race the load, for example by
+ * priming mappings in between those of the priming files or resetting them half way through.
+ * Requests are rejected rather than held so that a slow load does not use up server threads.
+ */
+public class Readiness {
+
+    private volatile boolean ready;
+
+    public static Readiness ready() {
+        final Readiness readiness = new Readiness();
+        readiness.markReady();
+        return readiness;
+    }
+
+    public boolean isReady() {
+        return ready;
+    }
+
+    public void markReady() {
+        ready = true;
+    }
+}
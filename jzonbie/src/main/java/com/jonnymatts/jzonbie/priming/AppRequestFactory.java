@@ -6,9 +6,7 @@ import com.jonnymatts.jzonbie.body.BodyContent;
 import com.jonnymatts.jzonbie.jackson.Deserializer;
 import com.jonnymatts.jzonbie.requests.AppRequest;
 
-import java.util.HashMap;
 import java.util.List;
-import java.util.Map;
 
 import static com.google.common.base.Strings.isNullOrEmpty;
 import static com.jonnymatts.jzonbie.body.ArrayBodyContent.arrayBody;
@@ -26,24 +24,17 @@ public class AppRequestFactory {
     }
 
     public AppRequest create(Request request) {
+        final AppRequest appRequest = new AppRequest(request.getMethod(), request.getPath());
+        if(request.getHeaders() != null) appRequest.setHeaders(request.getHeaders());
+        if(request.getQueryParams() != null) appRequest.setQueryParams(request.getQueryParams());
 
-        final String bodyString = request.getBody();
-        final BodyContent bodyContent = getBodyContent(bodyString);
-
-        final Map<String, Object> primedRequestMap = new HashMap<>();
-        primedRequestMap.put("path", request.getPath());
-        primedRequestMap.put("method", request.getMethod());
-        primedRequestMap.put("queryParams", request.getQueryParams());
-        primedRequestMap.put("headers", request.getHeaders());
-
-        final AppRequest deserializedAppRequest = deserializer.deserialize(primedRequestMap, AppRequest.class);
-        return deserializedAppRequest.withBody(bodyContent);
+        return appRequest.withLazyBody(() -> getBodyContent(request.getBody()));
     }
 
-    private BodyContent getBodyContent(String bodyString) {
+    private BodyContent<?> getBodyContent(String bodyString) {
         if(isNullOrEmpty(bodyString)) return null;
-        if(isJsonMap(bodyString)) return objectBody(deserializer.deserialize(bodyString));
-        if(isJsonArray(bodyString)) return arrayBody(deserializer.deserialize(bodyString, LIST_TYPE_REFERENCE));
+        if(isJsonMap(bodyString)) return objectBody(bodyString, deserializer::deserialize);
+        if(isJsonArray(bodyString)) return arrayBody(bodyString, json -> deserializer.deserialize(json, LIST_TYPE_REFERENCE));
         if(isJsonString(bodyString)) return stringBody(bodyString.substring(1, bodyString.length()-1));
         return literalBody(bodyString);
     }
@@ -0,0 +1,111 @@
+package com.jonnymatts.jzonbie.priming;
+
+import java.util.List;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ForkJoinWorkerThread;
+import java.util.function.Predicate;
+import java.util.stream.IntStream;
+
+import static java.lang.String.format;
+
+/**
+ * Strategy for finding the first candidate priming that matches an incoming request.
+ * <p>
+ * Most lookups only have a handful of candidates, where forking work to other threads costs
+ * more than checking them in turn. The parallel strategy therefore only fans out once the
+ * number of candidates reaches a threshold, and does so on its own bounded
+ * {@link ForkJoinPool} rather than the common pool shared with the rest of the JVM.
+ */
+public abstract class MatchingStrategy {
+
+    private MatchingStrategy() {}
+
+    /**
+     * Returns a strategy that always checks candidates sequentially.
+     *
+     * @return sequential strategy
+     */
+    public static MatchingStrategy sequential() {
+        return new SequentialMatchingStrategy();
+    }
+
+    /**
+     * Returns a strategy that checks candidates in parallel on a dedicated pool once
+     * the number of candidates reaches the given threshold.
+     *
+     * @param threshold minimum number of candidates to check in parallel
+     * @param parallelism number of threads in the dedicated pool
+     * @return parallel strategy
+     */
+    public static MatchingStrategy parallel(int threshold, int parallelism) {
+        if(threshold < 0) throw new IllegalArgumentException(format("Parallel matching threshold must not be negative: %d", threshold));
+        if(parallelism < 1) throw new IllegalArgumentException(format("Matching parallelism must be positive: %d", parallelism));
+
+        return new ParallelMatchingStrategy(threshold, parallelism);
+    }
+
+    /**
+     * Returns the index of the first candidate at or after the given index that matches the predicate.
+     *
+     * @param candidates candidates in priority order
+     * @param from index to start from
+     * @param predicate match predicate, must be safe to call from multiple threads
+     * @param <T> type of the candidates
+     * @return index of the first match, or -1 if no candidate matches
+     */
+    public abstract <T> int indexOfFirstMatch(List<T> candidates, int from, Predicate<? super T> predicate);
+
+    /**
+     * Releases any threads used by this strategy.
+     */
+    public void shutdown() {}
+
+    private static <T> int indexOfFirstMatchSequentially(List<T> candidates, int from, Predicate<? super T> predicate) {
+        for(int i = from; i < candidates.size(); i++) {
+            if(predicate.test(candidates.get(i))) return i;
+        }
+        return -1;
+    }
+
+    private static class SequentialMatchingStrategy extends MatchingStrategy {
+
+        @Override
+        public <T> int indexOfFirstMatch(List<T> candidates, int from, Predicate<? super T> predicate) {
+            return indexOfFirstMatchSequentially(candidates, from, predicate);
+        }
+    }
+
+    private static class ParallelMatchingStrategy extends MatchingStrategy {
+        private final int threshold;
+        private final ForkJoinPool pool;
+
+        private ParallelMatchingStrategy(int threshold, int parallelism) {
+            this.threshold = threshold;
+            this.pool = new ForkJoinPool(parallelism, ParallelMatchingStrategy::newThread, null, false);
+        }
+
+        @Override
+        public <T> int indexOfFirstMatch(List<T> candidates, int from, Predicate<? super T> predicate) {
+            if(candidates.size() - from < threshold)
+                return indexOfFirstMatchSequentially(candidates, from, predicate);
+
+            return pool.submit(() ->
+                    IntStream.range(from, candidates.size()).parallel()
+                            .filter(i -> predicate.test(candidates.get(i)))
+                            .findFirst()
+                            .orElse(-1)
+            ).join();
+        }
+
+        @Override
+        public void shutdown() {
+            pool.shutdown();
+        }
+
+        private static ForkJoinWorkerThread newThread(ForkJoinPool pool) {
+            final ForkJoinWorkerThread thread = ForkJoinPool.defaultForkJoinWorkerThreadFactory.newThread(pool);
+            thread.setName("jzonbie-matching-" + thread.getPoolIndex());
+            return thread;
+        }
+    }
+}
@@ -0,0 +1,186 @@
+package com.jonnymatts.jzonbie.priming;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+
+import static com.jonnymatts.jzonbie.util.StringMatcher.literalPrefix;
+
+/**
+ * Trie over path segments that narrows the values whose path pattern could match an incoming path.
+ * <p>
+ * Literal paths are stored at the node for their full segment list. Regex paths are stored at the
+ * node for the complete segments of their literal prefix, eg. {@code /api/v[0-9]+/users} is stored
+ * under {@code /api/}. Looking up an incoming path walks its segments and collects the literal paths
+ * at the final node followed by the regex paths found on the way, deepest first.
+ * <p>
+ * The returned values are candidates only, they must still be matched against the full pattern.
+ * <p>
+ * Lookups are safe to run concurrently with each other and with a single writer. Calls to
+ * {@link #add}, {@link #remove} and {@link #clear} must be serialized by the caller.
+ *
+ * @param <T> type of the indexed values
+ */
+public class PathIndex<T> {
+
+    private static final char SEPARATOR = '/';
+
+    private final Node<T> root = new Node<>();
+    private final Collection<T> nullPaths = new ConcurrentLinkedQueue<>();
+    private volatile int size;
+
+    public void add(String path, T value) {
+        if(path == null) {
+            nullPaths.add(value);
+        } else {
+            final String prefix = literalPrefix(path);
+            if(prefix.equals(path)) {
+                nodeFor(segments(path), true).literals.add(value);
+            } else {
+                nodeFor(completeSegments(prefix), true).patterns.add(value);
+            }
+        }
+        size++;
+    }
+
+    public boolean remove(String path, T value) {
+        final boolean removed;
+        if(path == null) {
+            removed = nullPaths.remove(value);
+        } else {
+            final String prefix = literalPrefix(path);
+            final boolean literal = prefix.equals(path);
+            final List<String> segments = literal ? segments(path) : completeSegments(prefix);
+            final List<Node<T>> nodes = nodesOn(segments);
+            final Node<T> node = nodes.size() == segments.size() + 1 ? nodes.get(nodes.size() - 1) : null;
+            removed = node != null && (literal ? node.literals : node.patterns).remove(value);
+            if(removed) prune(segments, nodes);
+        }
+        if(removed) size--;
+        return removed;
+    }
+
+    public List<T> candidates(String path) {
+        if(path == null) return new ArrayList<>(nullPaths);
+
+        final List<Collection<T>> patternsOnPath = new ArrayList<>();
+        Node<T> node = root;
+        int start = 0;
+        while(node != null) {
+            if(!node.patterns.isEmpty()) patternsOnPath.add(node.patterns);
+
+            int end = path.indexOf(SEPARATOR, start);
+            if(end < 0) end = path.length();
+            final Node<T> child = node.children.get(path.substring(start, end));
+
+            if(end == path.length() && child != null) {
+                if(!child.patterns.isEmpty()) patternsOnPath.add(child.patterns);
+                final List<T> candidates = new ArrayList<>(child.literals);
+                addPatterns(candidates, patternsOnPath);
+                return candidates;
+            }
+            node = child;
+            start = end + 1;
+        }
+
+        final List<T> candidates = new ArrayList<>();
+        addPatterns(candidates, patternsOnPath);
+        return candidates;
+    }
+
+    public int size() {
+        return size;
+    }
+
+    public void clear() {
+        root.children.clear();
+        root.literals.clear();
+        root.patterns.clear();
+        nullPaths.clear();
+        size = 0;
+    }
+
+    private void addPatterns(List<T> candidates, List<Collection<T>> patternsOnPath) {
+        for(int i = patternsOnPath.size() - 1; i >= 0; i--) {
+            candidates.addAll(patternsOnPath.get(i));
+        }
+    }
+
+    private Node<T> nodeFor(List<String> segments, boolean create) {
+        Node<T> node = root;
+        for(String segment : segments) {
+            Node<T> child = node.children.get(segment);
+            if(child == null) {
+                if(!create) return null;
+                child = new Node<>();
+                node.children.put(segment, child);
+            }
+            node = child;
+        }
+        return node;
+    }
+
+    private List<Node<T>> nodesOn(List<String> segments) {
+        final List<Node<T>> nodes = new ArrayList<>(segments.size() + 1);
+        Node<T> node = root;
+        nodes.add(node);
+        for(String segment : segments) {
+            node = node.children.get(segment);
+            if(node == null) break;
+            nodes.add(node);
+        }
+        return nodes;
+    }
+
+    // Removes the nodes left empty by a removal, from the deepest up, so that churn of unique paths does not grow the trie
+    private void prune(List<String> segments, List<Node<T>> nodes) {
+        for(int i = nodes.size() - 1; i > 0; i--) {
+            final Node<T> node = nodes.get(i);
+            if(!node.isEmpty()) return;
+            nodes.get(i - 1).children.remove(segments.get(i - 1), node);
+        }
+    }
+
+    int nodeCount() {
+        return root.count();
+    }
+
+    private static List<String> segments(String path) {
+        final List<String> segments = new ArrayList<>();
+        int start = 0;
+        int end;
+        while((end = path.indexOf(SEPARATOR, start)) > -1) {
+            segments.add(path.substring(start, end));
+            start = end + 1;
+        }
+        segments.add(path.substring(start));
+        return segments;
+    }
+
+    private static List<String> completeSegments(String prefix) {
+        final List<String> segments = segments(prefix);
+        segments.remove(segments.size() - 1);
+        return segments;
+    }
+
+    private static class Node<T> {
+        private final Map<String, Node<T>> children = new ConcurrentHashMap<>();
+        private final Collection<T> literals = new ConcurrentLinkedQueue<>();
+        private final Collection<T> patterns = new ConcurrentLinkedQueue<>();
+
+        private boolean isEmpty() {
+            return children.isEmpty() && literals.isEmpty() && patterns.isEmpty();
+        }
+
+        private int count() {
+            int count = 1;
+            for(Node<T> child : children.values()) {
+                count += child.count();
+            }
+            return count;
+        }
+    }
+}
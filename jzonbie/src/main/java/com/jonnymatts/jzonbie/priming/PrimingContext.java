@@ -1,113 +1,249 @@
 package com.jonnymatts.jzonbie.priming;
 
-import com.jonnymatts.jzonbie.Body;
+import com.jonnymatts.jzonbie.body.BodyContent;
 import com.jonnymatts.jzonbie.defaults.DefaultResponsePriming;
 import com.jonnymatts.jzonbie.defaults.Priming;
 import com.jonnymatts.jzonbie.defaults.StandardPriming;
 import com.jonnymatts.jzonbie.requests.AppRequest;
+import com.jonnymatts.jzonbie.requests.AppRequestMatcher;
 import com.jonnymatts.jzonbie.responses.AppResponse;
 import com.jonnymatts.jzonbie.responses.defaults.DefaultAppResponse;
 import com.jonnymatts.jzonbie.responses.defaults.DefaultingQueue;
+import com.jonnymatts.jzonbie.responses.defaults.StaticDefaultAppResponse;
 
 import java.util.*;
-import java.util.stream.Collectors;
-
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.BiConsumer;
+import java.util.function.Consumer;
+import java.util.function.Function;
+import java.util.function.LongSupplier;
+import java.util.function.Predicate;
+import java.util.stream.Stream;
+
+import static com.jonnymatts.jzonbie.priming.RequiredKeyIndex.excludes;
 import static java.util.Collections.emptyList;
+import static java.util.Collections.emptySet;
 import static java.util.Optional.empty;
 import static java.util.Optional.of;
-
+import static java.util.stream.Collectors.toList;
+
+/**
+ * Primed requests and their response queues, indexed for lookup by incoming requests.
+ * <p>
+ * Primings are split into one bucket per HTTP method. Looking up a response takes no lock:
+ * the bucket indexes support concurrent reads and each response queue is polled without
+ * locking. Adding, removing or resetting primings only locks the bucket of the affected
+ * method, so priming never stalls requests for other methods.
+ * <p>
+ * Primed requests with a JSON body containing no regex are indexed by the fingerprint of
+ * their body, so an incoming request is only checked against the ones with its own body
+ * fingerprint. These more specific primings are checked before any others for the same path.
+ * <p>
+ * Primed requests and responses are compacted by a {@link PrimingInterner} before they are
+ * stored, so strings and maps are stored compactly and equal responses and bodies are shared.
+ * <p>
+ * The canonical instance of each response is passed to a validator before anything is added, so
+ * a response that can never be served, such as one with a broken template, is rejected when it
+ * is primed. The validator can also prepare the canonical instance to be served.
+ * <p>
+ * Adding or removing a mapping also publishes a new {@link PrimingSnapshot}, sharing structure
+ * with the previous one. Reading the current priming only reads the latest snapshot, so dumping
+ * a large number of mappings never blocks request serving. Serving a primed response only
+ * consumes it from the live queue of its mapping and publishes nothing, unless the mapping is
+ * exhausted and removed.
+ */
 public class PrimingContext {
-    private final List<Priming> priming;
-    private Map<HeaderlessAppRequest, Map<AppRequest, DefaultingQueue>> primedMappings;
+    private static final int PARALLEL_COMPILE_THRESHOLD = 10_000;
 
-    public PrimingContext(List<Priming> priming) {
+    private final List<Priming> priming;
+    private final MatchingStrategy matchingStrategy;
+    private final ConcurrentMap<String, MethodPrimings> methodPrimings;
+    private final MethodPrimings nullMethodPrimings;
+    private final AtomicLong sequence;
+    private final AtomicReference<PrimingSnapshot> snapshot;
+    private final PrimingInterner interner;
+    private final Consumer<AppResponse> responseValidator;
+
+    public PrimingContext(List<Priming> priming, MatchingStrategy matchingStrategy, Consumer<AppResponse> responseValidator) {
         this.priming = priming;
-        this.primedMappings = new HashMap<>();
+        this.matchingStrategy = matchingStrategy;
+        this.methodPrimings = new ConcurrentHashMap<>();
+        this.nullMethodPrimings = new MethodPrimings();
+        this.sequence = new AtomicLong();
+        this.snapshot = new AtomicReference<>(PrimingSnapshot.initial());
+        this.interner = new PrimingInterner();
+        this.responseValidator = responseValidator;
         addDefaultPriming();
     }
 
+    public PrimingContext(List<Priming> priming, MatchingStrategy matchingStrategy) {
+        this(priming, matchingStrategy, appResponse -> {});
+    }
+
+    public PrimingContext(List<Priming> priming) {
+        this(priming, MatchingStrategy.sequential());
+    }
+
     public PrimingContext() {
         this(emptyList());
     }
 
-    synchronized public List<PrimedMapping> getCurrentPriming() {
-        return primedMappings.entrySet().stream().map(e -> e.getValue().entrySet()).flatMap(Collection::stream)
-                .map(e -> new PrimedMapping(e.getKey(), e.getValue()))
-                .collect(Collectors.toList());
+    public List<PrimedMapping> getCurrentPriming() {
+        return snapshot.get().getPrimedMappings();
+    }
+
+    /**
+     * Estimates the heap footprint of the current priming.
+     *
+     * @return footprint of the current priming
+     */
+    public PrimingFootprint getFootprint() {
+        return PrimingFootprint.of(getCurrentPriming());
+    }
+
+    public PrimingSnapshot getSnapshot() {
+        return snapshot.get();
     }
 
     public PrimingContext add(ZombiePriming zombiePriming) {
         return add(zombiePriming.getRequest(), zombiePriming.getResponse());
     }
 
-    synchronized public PrimingContext add(AppRequest appRequest, AppResponse appResponse) {
-        final DefaultingQueue responseQueue = getAppResponseQueueForAdd(appRequest);
+    public PrimingContext add(AppRequest appRequest, AppResponse appResponse) {
+        final AppResponse canonicalResponse = prepare(appResponse);
+        final AppRequestMatcher matcher = AppRequestMatcher.compile(interner.compact(appRequest));
+        final MethodPrimings primings = methodPrimingsForAdd(appRequest.getMethod());
 
-        responseQueue.add(appResponse);
+        synchronized (primings) {
+            final List<PrimedEntry> added = new ArrayList<>(1);
+            primings.entryForAdd(matcher, sequence::getAndIncrement, added).getQueue().add(canonicalResponse);
+            publish(added);
+        }
 
         return this;
     }
 
-    synchronized public PrimingContext addDefault(AppRequest appRequest, DefaultAppResponse defaultAppResponse) {
-        final DefaultingQueue responseQueue = getAppResponseQueueForAdd(appRequest);
+    /**
+     * Adds all the given primings, locking each affected method bucket and publishing a new
+     * snapshot once per method rather than once per priming.
+     * <p>
+     * All requests are compiled before any priming is added, so if any request contains an
+     * invalid regex or any response is invalid none of the primings are added. Sequence numbers are reserved for the whole
+     * batch up front, so new primings keep the order of the list across methods.
+     *
+     * @param zombiePrimings primings to add, in order
+     * @return this priming context
+     * @throws IllegalArgumentException if a request contains an invalid regex pattern
+     */
+    public PrimingContext addAll(List<ZombiePriming> zombiePrimings) {
+        final List<ZombiePriming> prepared = zombiePrimings.stream()
+                .map(zombiePriming -> new ZombiePriming(zombiePriming.getRequest(), prepare(zombiePriming.getResponse())))
+                .collect(toList());
+        return addAll(prepared, ZombiePriming::getRequest, (queue, zombiePriming) -> queue.add(zombiePriming.getResponse()));
+    }
+
+    /**
+     * Adds the primed and default responses of all the given mappings in the same way as
+     * {@link #addAll(List)}, so a batch of priming file mappings is indexed in one bulk step.
+     * Requests of large lists are compiled in parallel.
+     *
+     * @param primedMappings mappings to add, in order
+     * @return this priming context
+     * @throws IllegalArgumentException if a request contains an invalid regex pattern
+     */
+    public PrimingContext addMappings(List<PrimedMapping> primedMappings) {
+        final List<PrimedMapping> prepared = primedMappings.stream().map(primedMapping -> {
+            final DefaultingQueue responses = new DefaultingQueue();
+            primedMapping.getResponses().getPrimed().forEach(appResponse -> responses.add(prepare(appResponse)));
+            primedMapping.getResponses().getDefault().ifPresent(defaultResponse -> responses.setDefault(prepare(defaultResponse)));
+            return new PrimedMapping(primedMapping.getRequest(), responses);
+        }).collect(toList());
+        return addAll(prepared, PrimedMapping::getRequest, (queue, primedMapping) -> {
+            queue.add(primedMapping.getResponses().getPrimed());
+            primedMapping.getResponses().getDefault().ifPresent(queue::setDefault);
+        });
+    }
+
+    private <T> PrimingContext addAll(List<T> primings, Function<T, AppRequest> requestOf, BiConsumer<DefaultingQueue, T> addResponses) {
+        final Stream<T> toCompile = primings.size() >= PARALLEL_COMPILE_THRESHOLD ? primings.parallelStream() : primings.stream();
+        final List<AppRequestMatcher> matchers = toCompile.map(item -> AppRequestMatcher.compile(interner.compact(requestOf.apply(item)))).collect(toList());
 
-        responseQueue.setDefault(defaultAppResponse);
+        final Map<MethodPrimings, List<Integer>> indexesByMethod = new LinkedHashMap<>();
+        for(int i = 0; i < primings.size(); i++) {
+            indexesByMethod.computeIfAbsent(methodPrimingsForAdd(matchers.get(i).getAppRequest().getMethod()), p -> new ArrayList<>()).add(i);
+        }
+
+        final long firstSequence = sequence.getAndAdd(primings.size());
+        indexesByMethod.forEach((methodPrimings, indexes) -> {
+            synchronized (methodPrimings) {
+                final List<PrimedEntry> added = new ArrayList<>();
+                for(int i : indexes) {
+                    final long newSequence = firstSequence + i;
+                    addResponses.accept(methodPrimings.entryForAdd(matchers.get(i), () -> newSequence, added).getQueue(), primings.get(i));
+                }
+                publish(added);
+            }
+        });
 
         return this;
     }
 
-    private DefaultingQueue getAppResponseQueueForAdd(AppRequest appRequest) {
-        final HeaderlessAppRequest headerlessAppRequest = new HeaderlessAppRequest(appRequest);
-        Map<AppRequest, DefaultingQueue> mappingsForHeaderlessRequest = primedMappings
-                .computeIfAbsent(headerlessAppRequest, k -> new HashMap<>());
+    public PrimingContext addDefault(AppRequest appRequest, DefaultAppResponse defaultAppResponse) {
+        final DefaultAppResponse canonicalDefault = prepare(defaultAppResponse);
+        final AppRequestMatcher matcher = AppRequestMatcher.compile(interner.compact(appRequest));
+        final MethodPrimings primings = methodPrimingsForAdd(appRequest.getMethod());
 
-        DefaultingQueue responseQueue = mappingsForHeaderlessRequest.get(appRequest);
-
-        if(responseQueue == null) {
-            responseQueue = new DefaultingQueue();
-            mappingsForHeaderlessRequest.put(appRequest, responseQueue);
+        synchronized (primings) {
+            final List<PrimedEntry> added = new ArrayList<>(1);
+            primings.entryForAdd(matcher, sequence::getAndIncrement, added).getQueue().setDefault(canonicalDefault);
+            publish(added);
         }
 
-        return responseQueue;
+        return this;
     }
 
-    synchronized public Optional<AppResponse> getResponse(AppRequest appRequest) {
-        final HeaderlessAppRequest headerlessAppRequest = new HeaderlessAppRequest(appRequest);
-        final Optional<MapAppRequestAndQueue> mapAppRequestAndQueue = findMapAndQueue(appRequest);
+    private AppResponse prepare(AppResponse appResponse) {
+        final AppResponse canonicalResponse = interner.canonical(appResponse);
+        if(canonicalResponse != null) responseValidator.accept(canonicalResponse);
+        return canonicalResponse;
+    }
 
-        if (!mapAppRequestAndQueue.isPresent())
-            return empty();
+    private DefaultAppResponse prepare(DefaultAppResponse defaultAppResponse) {
+        final DefaultAppResponse canonicalDefault = interner.canonical(defaultAppResponse);
+        if(canonicalDefault instanceof StaticDefaultAppResponse && canonicalDefault.getResponse() != null) {
+            responseValidator.accept(canonicalDefault.getResponse());
+        }
+        return canonicalDefault;
+    }
 
-        return mapAppRequestAndQueue.map(m -> {
-            final DefaultingQueue responseQueue = m.getQueue();
-            final Map<AppRequest, DefaultingQueue> mapping = m.getMap();
+    private void publish(List<PrimedEntry> added) {
+        if(added.isEmpty()) return;
+        snapshot.updateAndGet(s -> {
+            SequenceTrie<PrimedMapping> mappings = s.getMappings();
+            for(PrimedEntry entry : added) {
+                mappings = mappings.with(entry.getSequence(), entry.getPrimedMapping());
+            }
+            return s.next(mappings);
+        });
+    }
 
-            final AppResponse appResponse = responseQueue.poll();
+    public Optional<AppResponse> getResponse(AppRequest appRequest) {
+        final MethodPrimings primings = appRequest.getMethod() == null ? nullMethodPrimings : methodPrimings.get(appRequest.getMethod());
 
-            if(responseQueue.hasSize() == 0 && !responseQueue.getDefault().isPresent())
-                mapping.remove(m.getAppRequest());
+        return primings == null ? empty() : primings.poll(appRequest);
+    }
 
-            if(mapping.isEmpty())
-                primedMappings.remove(headerlessAppRequest);
-            return appResponse;
-        });
+    private MethodPrimings methodPrimingsForAdd(String method) {
+        return method == null ? nullMethodPrimings : methodPrimings.computeIfAbsent(method, m -> new MethodPrimings());
     }
 
-    private Optional<MapAppRequestAndQueue> findMapAndQueue(AppRequest appRequest) {
-        final HeaderlessAppRequest headerlessAppRequest = new HeaderlessAppRequest(appRequest);
-        Map<AppRequest, DefaultingQueue> map = primedMappings.get(headerlessAppRequest);
-        if(map == null) {
-            for (Map<AppRequest, DefaultingQueue> e : primedMappings.values()) {
-                final Optional<Map.Entry<AppRequest, DefaultingQueue>> entryOpt = findResponseQueueFromMapForRequest(e, appRequest);
-                if(entryOpt.isPresent()) {
-                    final Map.Entry<AppRequest, DefaultingQueue> entry = entryOpt.get();
-                    return of(new MapAppRequestAndQueue(e, entry.getKey(), entry.getValue()));
-                }
-            }
-        } else {
-            return findResponseQueueFromMapForRequest(map, appRequest).map(q -> new MapAppRequestAndQueue(map, q.getKey(), q.getValue()));
-        }
-        return empty();
+    private Collection<MethodPrimings> allMethodPrimings() {
+        final List<MethodPrimings> all = new ArrayList<>(methodPrimings.values());
+        all.add(nullMethodPrimings);
+        return all;
     }
 
     private void addDefaultPriming() {
@@ -122,75 +258,163 @@ public class PrimingContext {
         }
     }
 
-    private static class MapAppRequestAndQueue {
-        private final Map<AppRequest, DefaultingQueue> map;
-        private final AppRequest appRequest;
-        private final DefaultingQueue queue;
+    public void reset() {
+        for(MethodPrimings primings : allMethodPrimings()) {
+            synchronized (primings) {
+                primings.clear();
+            }
+        }
+        addDefaultPriming();
+    }
 
-        public MapAppRequestAndQueue(Map<AppRequest, DefaultingQueue> map, AppRequest appRequest, DefaultingQueue queue) {
-            this.map = map;
-            this.appRequest = appRequest;
-            this.queue = queue;
+    private static Set<String> keys(Map<String, ?> map) {
+        return map == null ? emptySet() : map.keySet();
+    }
+
+    /**
+     * Primings for a single HTTP method. The entry map is only accessed while holding the
+     * monitor of this object; the indexes are written under it but read without locking.
+     */
+    private class MethodPrimings {
+        private final Map<AppRequest, PrimedEntry> entries = new LinkedHashMap<>();
+        private final PathIndex<PrimedEntry> paths = new PathIndex<>();
+        private final ConcurrentMap<Long, PathIndex<PrimedEntry>> exactBodyPaths = new ConcurrentHashMap<>();
+        private final RequiredKeyIndex<PrimedEntry> requiredHeaders = new RequiredKeyIndex<>();
+        private final RequiredKeyIndex<PrimedEntry> requiredQueryParams = new RequiredKeyIndex<>();
+
+        /**
+         * Returns the entry for the request of the matcher, creating it with the next sequence
+         * number if needed. A created entry is added to the indexes and the given list, but not
+         * published in a snapshot.
+         */
+        private PrimedEntry entryForAdd(AppRequestMatcher matcher, LongSupplier nextSequence, List<PrimedEntry> added) {
+            final AppRequest appRequest = matcher.getAppRequest();
+            final PrimedEntry existingEntry = entries.get(appRequest);
+
+            if(existingEntry != null) {
+                return existingEntry;
+            }
+
+            final PrimedEntry entry = new PrimedEntry(nextSequence.getAsLong(), matcher, new DefaultingQueue());
+            entries.put(appRequest, entry);
+            added.add(entry);
+            pathsFor(entry).add(appRequest.getPath(), entry);
+            requiredHeaders.add(entry, keys(appRequest.getHeaders()));
+            requiredQueryParams.add(entry, keys(appRequest.getQueryParams()));
+
+            return entry;
         }
 
-        public Map<AppRequest, DefaultingQueue> getMap() {
-            return map;
+        private Optional<AppResponse> poll(AppRequest appRequest) {
+            final List<Set<PrimedEntry>> missingKeys = new ArrayList<>(requiredHeaders.missingFrom(appRequest.getHeaders()));
+            missingKeys.addAll(requiredQueryParams.missingFrom(appRequest.getQueryParams()));
+
+            final List<PrimedEntry> candidates = candidates(appRequest);
+            final Predicate<PrimedEntry> matches = entry -> !excludes(missingKeys, entry) && entry.getMatcher().matches(appRequest);
+
+            int index = -1;
+            while((index = matchingStrategy.indexOfFirstMatch(candidates, index + 1, matches)) > -1) {
+                final PrimedEntry entry = candidates.get(index);
+                final DefaultingQueue responseQueue = entry.getQueue();
+                final AppResponse primedResponse = responseQueue.pollPrimed();
+
+                if(primedResponse != null) {
+                    if(responseQueue.isExhausted())
+                        removeIfExhausted(entry);
+                    return of(primedResponse);
+                }
+
+                final Optional<DefaultAppResponse> defaultResponse = responseQueue.getDefault();
+                if(defaultResponse.isPresent())
+                    return defaultResponse.map(DefaultAppResponse::getResponse);
+
+                // A concurrent request took the last response, so carry on to the next candidate
+            }
+            return empty();
         }
 
-        public AppRequest getAppRequest() {
-            return appRequest;
+        private List<PrimedEntry> candidates(AppRequest appRequest) {
+            final List<PrimedEntry> pathCandidates = paths.candidates(appRequest.getPath());
+            if(exactBodyPaths.isEmpty()) return pathCandidates;
+
+            final BodyContent<?> body = appRequest.getBody();
+            final OptionalLong fingerprint = body == null ? OptionalLong.empty() : body.fingerprint();
+            final PathIndex<PrimedEntry> exactBodies = fingerprint.isPresent() ? exactBodyPaths.get(fingerprint.getAsLong()) : null;
+            if(exactBodies == null) return pathCandidates;
+
+            final List<PrimedEntry> candidates = new ArrayList<>(exactBodies.candidates(appRequest.getPath()));
+            candidates.addAll(pathCandidates);
+            return candidates;
         }
 
-        public DefaultingQueue getQueue() {
-            return queue;
+        private PathIndex<PrimedEntry> pathsFor(PrimedEntry entry) {
+            final OptionalLong fingerprint = entry.getExactBodyFingerprint();
+            return fingerprint.isPresent() ? exactBodyPaths.computeIfAbsent(fingerprint.getAsLong(), f -> new PathIndex<>()) : paths;
         }
-    }
 
-    private Optional<Map.Entry<AppRequest, DefaultingQueue>> findResponseQueueFromMapForRequest(Map<AppRequest, DefaultingQueue> map, AppRequest appRequest) {
-        return map.entrySet().parallelStream()
-                .filter(priming -> priming.getKey().matches(appRequest))
-                .findFirst();
-    }
+        private synchronized void removeIfExhausted(PrimedEntry entry) {
+            final AppRequest appRequest = entry.getAppRequest();
 
-    synchronized public void reset() {
-        primedMappings.clear();
-        addDefaultPriming();
+            if(!entry.getQueue().isExhausted() || !entries.remove(appRequest, entry))
+                return;
+
+            final PathIndex<PrimedEntry> entryPaths = pathsFor(entry);
+            entryPaths.remove(appRequest.getPath(), entry);
+            if(entryPaths != paths && entryPaths.size() == 0)
+                exactBodyPaths.remove(entry.getExactBodyFingerprint().getAsLong());
+            requiredHeaders.remove(entry, keys(appRequest.getHeaders()));
+            requiredQueryParams.remove(entry, keys(appRequest.getQueryParams()));
+            snapshot.updateAndGet(s -> s.without(entry.getSequence()));
+        }
+
+        private void clear() {
+            entries.values().forEach(entry -> snapshot.updateAndGet(s -> s.without(entry.getSequence())));
+            entries.clear();
+            paths.clear();
+            exactBodyPaths.clear();
+            requiredHeaders.clear();
+            requiredQueryParams.clear();
+        }
     }
 
-    private static class HeaderlessAppRequest {
-        private final String path;
-        private final String method;
-        private final Body<?> body;
-        private final Map<String, List<String>> queryParams;
+    private static class PrimedEntry {
+        private final long sequence;
+        private final AppRequestMatcher matcher;
+        private final DefaultingQueue queue;
+        private final PrimedMapping primedMapping;
+        private final OptionalLong exactBodyFingerprint;
 
-        private HeaderlessAppRequest(AppRequest appRequest) {
-            this.path = appRequest.getPath();
-            this.method = appRequest.getMethod();
-            this.body = appRequest.getBody();
-            this.queryParams = appRequest.getQueryParams();
+        private PrimedEntry(long sequence, AppRequestMatcher matcher, DefaultingQueue queue) {
+            this.sequence = sequence;
+            this.matcher = matcher;
+            this.queue = queue;
+            this.primedMapping = new PrimedMapping(matcher.getAppRequest(), queue);
+            final BodyContent<?> body = matcher.getAppRequest().getBody();
+            this.exactBodyFingerprint = body == null ? OptionalLong.empty() : body.exactFingerprint();
         }
 
-        @Override
-        public boolean equals(Object o) {
-            if(this == o) return true;
-            if(o == null || getClass() != o.getClass()) return false;
+        public long getSequence() {
+            return sequence;
+        }
+
+        public AppRequest getAppRequest() {
+            return matcher.getAppRequest();
+        }
 
-            HeaderlessAppRequest that = (HeaderlessAppRequest) o;
+        public AppRequestMatcher getMatcher() {
+            return matcher;
+        }
 
-            if(path != null ? !path.equals(that.path) : that.path != null) return false;
-            if(method != null ? !method.equals(that.method) : that.method != null) return false;
-            if(body != null ? !body.getContent().equals(that.body.getContent()) : that.body != null) return false;
-            return queryParams != null ? queryParams.equals(that.queryParams) : that.queryParams == null;
+        public DefaultingQueue getQueue() {
+            return queue;
+        }
 
+        public PrimedMapping getPrimedMapping() {
+            return primedMapping;
         }
 
-        @Override
-        public int hashCode() {
-            int result = path != null ? path.hashCode() : 0;
-            result = 31 * result + (method != null ? method.hashCode() : 0);
-            result = 31 * result + (body != null ? body.getContent().hashCode() : 0);
-            result = 31 * result + (queryParams != null ? queryParams.hashCode() : 0);
-            return result;
+        public OptionalLong getExactBodyFingerprint() {
+            return exactBodyFingerprint;
         }
     }
-}
\ No newline at end of file
+}
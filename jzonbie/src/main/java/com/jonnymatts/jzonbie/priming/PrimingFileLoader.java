@@ -0,0 +1,227 @@
+package com.jonnymatts.jzonbie.priming;
+
+import com.jonnymatts.jzonbie.jackson.Deserializer;
+
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.RandomAccessFile;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.PathMatcher;
+import java.nio.file.Paths;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.List;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.function.Consumer;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+import java.util.stream.Stream;
+
+import static java.lang.String.format;
+import static java.nio.channels.FileChannel.MapMode.READ_ONLY;
+import static java.util.Collections.singletonList;
+import static java.util.stream.Collectors.toList;
+
+/**
+ * Loads priming files into a {@link PrimingContext}.
+ * <p>
+ * A priming file location can be a single file, a directory, in which case every {@code .json}
+ * file in it is loaded, or a glob such as {@code primings/**.json}. Large files are read through
+ * a memory-mapped buffer. Mappings are added in order of file name, then in order within each file.
+ * <p>
+ * A single file, or an uploaded priming file stream, is streamed into the priming context in
+ * batches with {@link PrimingContext#addMappings(List)}, so only one batch of parsed mappings is
+ * held at once. Multiple files are parsed in parallel, at most one file per thread ahead of the
+ * file being added, and each file's mappings are added as soon as the files before it have been
+ * added. If a file cannot be read or parsed, loading stops and mappings already added are kept:
+ * when a streamed file is malformed part way through, every mapping before the malformed one is
+ * added.
+ */
+public class PrimingFileLoader {
+
+    private static final Pattern GLOB_CHARACTERS = Pattern.compile("[*?\\[{]");
+    private static final long MEMORY_MAP_THRESHOLD = 1024 * 1024;
+    private static final int BATCH_SIZE = 1000;
+
+    private final Deserializer deserializer;
+    private final PrimingContext primingContext;
+    private final int parallelism;
+
+    public PrimingFileLoader(Deserializer deserializer, PrimingContext primingContext, int parallelism) {
+        if(parallelism < 1) throw new IllegalArgumentException(format("Parallelism must be positive: %d", parallelism));
+
+        this.deserializer = deserializer;
+        this.primingContext = primingContext;
+        this.parallelism = parallelism;
+    }
+
+    /**
+     * Loads all priming files at the given location.
+     *
+     * @param location priming file, directory of priming files or glob matching priming files
+     * @return number of mappings loaded
+     * @throws IllegalArgumentException if a glob matches no files
+     */
+    public int load(File location) {
+        final List<File> files = resolve(location);
+
+        return files.size() == 1 || parallelism == 1 ? streamAll(files) : parseAllInParallel(files);
+    }
+
+    /**
+     * Loads all mappings in a priming file as it is read.
+     *
+     * @param primingFile stream of a priming file, closed once it has been read
+     * @return number of mappings loaded
+     * @throws com.jonnymatts.jzonbie.jackson.DeserializationException if the file is malformed,
+     * once the mappings before the malformed one have been added
+     */
+    public int load(InputStream primingFile) {
+        final List<PrimedMapping> batch = new ArrayList<>(BATCH_SIZE);
+        final int[] count = {0};
+        try {
+            deserializer.deserializeEach(primingFile, PrimedMapping.class, primedMapping -> {
+                batch.add(primedMapping);
+                count[0]++;
+                if(batch.size() == BATCH_SIZE) addBatch(batch);
+            });
+        } finally {
+            addBatch(batch);
+        }
+        return count[0];
+    }
+
+    static List<File> resolve(File location) {
+        if(location.isDirectory()) return matching(location.toPath(), location.toPath().getFileSystem().getPathMatcher("glob:*.json"), false);
+
+        final String path = location.getPath();
+        final Matcher globStart = GLOB_CHARACTERS.matcher(path);
+        if(!globStart.find()) return singletonList(location);
+
+        final int separator = path.lastIndexOf(File.separatorChar, globStart.start());
+        final Path base = separator < 0 ? Paths.get("") : Paths.get(separator == 0 ? File.separator : path.substring(0, separator));
+        final List<File> files = matching(base, base.getFileSystem().getPathMatcher("glob:" + path), true);
+        if(files.isEmpty()) throw new IllegalArgumentException(format("No priming files match %s", path));
+        return files;
+    }
+
+    private static List<File> matching(Path directory, PathMatcher matcher, boolean matchWholePath) {
+        try(Stream<Path> paths = matchWholePath ? Files.walk(directory) : Files.list(directory)) {
+            return paths.filter(Files::isRegularFile)
+                    .filter(file -> matcher.matches(matchWholePath ? file : file.getFileName()))
+                    .sorted()
+                    .map(Path::toFile)
+                    .collect(toList());
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    private int streamAll(List<File> files) {
+        int loaded = 0;
+        for(File file : files) {
+            try {
+                loaded += load(open(file));
+            } catch (IOException e) {
+                throw new RuntimeException(e);
+            }
+        }
+        return loaded;
+    }
+
+    private void addBatch(List<PrimedMapping> batch) {
+        if(batch.isEmpty()) return;
+
+        final List<PrimedMapping> primedMappings = new ArrayList<>(batch);
+        batch.clear();
+        primingContext.addMappings(primedMappings);
+    }
+
+    private int parseAllInParallel(List<File> files) {
+        final ExecutorService executor = Executors.newFixedThreadPool(Math.min(parallelism, files.size()));
+        try {
+            final Deque<Future<List<PrimedMapping>>> parsing = new ArrayDeque<>(parallelism);
+            int next = 0;
+            int loaded = 0;
+            while(next < files.size() || !parsing.isEmpty()) {
+                while(next < files.size() && parsing.size() < parallelism) {
+                    final File file = files.get(next++);
+                    parsing.add(executor.submit(() -> parse(file)));
+                }
+                final List<PrimedMapping> primedMappings = parsing.poll().get();
+                primingContext.addMappings(primedMappings);
+                loaded += primedMappings.size();
+            }
+            return loaded;
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new RuntimeException(e);
+        } catch (ExecutionException e) {
+            if(e.getCause() instanceof RuntimeException) throw (RuntimeException) e.getCause();
+            throw new RuntimeException(e.getCause());
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    private List<PrimedMapping> parse(File file) {
+        final List<PrimedMapping> primedMappings = new ArrayList<>();
+        deserializeEach(file, primedMappings::add);
+        return primedMappings;
+    }
+
+    private void deserializeEach(File file, Consumer<PrimedMapping> consumer) {
+        try {
+            deserializer.deserializeEach(open(file), PrimedMapping.class, consumer);
+        } catch (IOException e) {
+            throw new RuntimeException(e);
+        }
+    }
+
+    private static InputStream open(File file) throws IOException {
+        final long length = file.length();
+        if(length < MEMORY_MAP_THRESHOLD || length > Integer.MAX_VALUE) return new FileInputStream(file);
+
+        try(RandomAccessFile randomAccessFile = new RandomAccessFile(file, "r"); FileChannel channel = randomAccessFile.getChannel()) {
+            return new ByteBufferInputStream(channel.map(READ_ONLY, 0, channel.size()));
+        }
+    }
+
+    private static class ByteBufferInputStream extends InputStream {
+        private final ByteBuffer buffer;
+
+        private ByteBufferInputStream(ByteBuffer buffer) {
+            this.buffer = buffer;
+        }
+
+        @Override
+        public int read() {
+            return buffer.hasRemaining() ? buffer.get() & 0xFF : -1;
+        }
+
+        @Override
+        public int read(byte[] bytes, int offset, int length) {
+            if(length == 0) return 0;
+            if(!buffer.hasRemaining()) return -1;
+
+            final int read = Math.min(length, buffer.remaining());
+            buffer.get(bytes, offset, read);
+            return read;
+        }
+
+        @Override
+        public int available() {
+            return buffer.remaining();
+        }
+    }
+}
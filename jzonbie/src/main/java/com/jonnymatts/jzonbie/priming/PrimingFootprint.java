@@ -0,0 +1,185 @@
+package com.jonnymatts.jzonbie.priming;
+
+import com.jonnymatts.jzonbie.body.BodyContent;
+import com.jonnymatts.jzonbie.requests.AppRequest;
+import com.jonnymatts.jzonbie.responses.AppResponse;
+import com.jonnymatts.jzonbie.responses.defaults.DefaultAppResponse;
+
+import java.util.*;
+
+/**
+ * Estimated heap footprint of a set of primed mappings.
+ * <p>
+ * Sizes are estimated from the shapes of the stored objects, assuming a 64-bit JVM with
+ * compressed references, rather than measured. Objects shared between mappings, such as
+ * interned strings and canonical responses and bodies, are only counted once, so the estimate
+ * reflects the savings of {@link PrimingContext}'s compact storage.
+ */
+public class PrimingFootprint {
+
+    private static final int HEADER = 12;
+    private static final int REFERENCE = 4;
+
+    private final int mappings;
+    private final int responses;
+    private final int distinctResponses;
+    private final int distinctBodies;
+    private final long bytes;
+
+    private PrimingFootprint(int mappings, int responses, int distinctResponses, int distinctBodies, long bytes) {
+        this.mappings = mappings;
+        this.responses = responses;
+        this.distinctResponses = distinctResponses;
+        this.distinctBodies = distinctBodies;
+        this.bytes = bytes;
+    }
+
+    public static PrimingFootprint of(List<PrimedMapping> primedMappings) {
+        final Estimator estimator = new Estimator();
+        int responses = 0;
+
+        for(PrimedMapping primedMapping : primedMappings) {
+            estimator.add(align(HEADER + 2 * REFERENCE));
+            estimator.request(primedMapping.getRequest());
+
+            final List<AppResponse> primed = primedMapping.getResponses().getPrimed();
+            estimator.add(align(HEADER + 2 * REFERENCE) + align(HEADER + 4 * REFERENCE) + primed.size() * align(HEADER + 3 * REFERENCE));
+            for(AppResponse appResponse : primed) {
+                estimator.response(appResponse);
+                responses++;
+            }
+
+            final Optional<DefaultAppResponse> defaultResponse = primedMapping.getResponses().getDefault();
+            if(defaultResponse.isPresent()) {
+                estimator.add(align(HEADER + REFERENCE));
+                estimator.response(defaultResponse.get().getResponse());
+                responses++;
+            }
+        }
+
+        return new PrimingFootprint(primedMappings.size(), responses, estimator.responses, estimator.bodies, estimator.bytes);
+    }
+
+    public int getMappings() {
+        return mappings;
+    }
+
+    public int getResponses() {
+        return responses;
+    }
+
+    public int getDistinctResponses() {
+        return distinctResponses;
+    }
+
+    public int getDistinctBodies() {
+        return distinctBodies;
+    }
+
+    public long getBytes() {
+        return bytes;
+    }
+
+    public long getBytesPerMapping() {
+        return mappings == 0 ? 0 : bytes / mappings;
+    }
+
+    @Override
+    public String toString() {
+        return "PrimingFootprint{" +
+                "mappings=" + mappings +
+                ", responses=" + responses +
+                ", distinctResponses=" + distinctResponses +
+                ", distinctBodies=" + distinctBodies +
+                ", bytes=" + bytes +
+                ", bytesPerMapping=" + getBytesPerMapping() +
+                '}';
+    }
+
+    private static long align(long size) {
+        return (size + 7) & ~7;
+    }
+
+    private static class Estimator {
+        private final Set<Object> seen = Collections.newSetFromMap(new IdentityHashMap<>());
+        private long bytes;
+        private int responses;
+        private int bodies;
+
+        private void add(long size) {
+            bytes += size;
+        }
+
+        private boolean first(Object object) {
+            return object != null && seen.add(object);
+        }
+
+        private void request(AppRequest request) {
+            if(!first(request)) return;
+
+            add(align(HEADER + 6 * REFERENCE));
+            value(request.getPath());
+            value(request.getMethod());
+            value(request.getHeaders());
+            value(request.getQueryParams());
+            body(request.getBody());
+        }
+
+        private void response(AppResponse response) {
+            if(!first(response)) return;
+
+            responses++;
+            add(align(HEADER + 4 + 5 * REFERENCE + 1));
+            value(response.getHeaders());
+            response.getDelay().ifPresent(delay -> {
+                if(first(delay)) add(align(HEADER + 8 + 4));
+            });
+            response.getDelayProfile().ifPresent(delayProfile -> {
+                if(first(delayProfile)) add(align(HEADER + 4 * REFERENCE));
+            });
+            response.getThrottle().ifPresent(throttle -> {
+                if(first(throttle)) add(align(HEADER + 8 + 4 + REFERENCE));
+            });
+            body(response.getBody());
+        }
+
+        private void body(BodyContent<?> body) {
+            if(!first(body)) return;
+
+            bodies++;
+            add(align(HEADER + 4 * REFERENCE));
+            value(body.getContent());
+        }
+
+        private void value(Object value) {
+            if(value instanceof Boolean || !first(value)) return;
+
+            if(value instanceof String) {
+                add(align(HEADER + 3 * 4 + REFERENCE) + align(16 + ((String) value).length()));
+            } else if(value instanceof Map) {
+                final Map<?, ?> map = (Map<?, ?>) value;
+                add(mapSize(map));
+                map.forEach((key, entryValue) -> {
+                    value(key);
+                    value(entryValue);
+                });
+            } else if(value instanceof Collection) {
+                final Collection<?> collection = (Collection<?>) value;
+                add(align(HEADER + 2 * 4 + REFERENCE) + align(16 + (long) REFERENCE * Math.max(collection.size(), value instanceof ArrayList ? 10 : 0)));
+                collection.forEach(this::value);
+            } else {
+                add(align(HEADER + 8));
+            }
+        }
+
+        private static long mapSize(Map<?, ?> map) {
+            if(map instanceof HashMap) {
+                final long entrySize = map instanceof LinkedHashMap ? align(HEADER + 4 + 5 * REFERENCE) : align(HEADER + 4 + 3 * REFERENCE);
+                final long table = map.isEmpty() ? 0 : align(16 + REFERENCE * Math.max(16, Integer.highestOneBit((int) (map.size() / 0.75f) * 2 - 1)));
+                return align(HEADER + 4 * REFERENCE + 4 * 4) + table + map.size() * entrySize;
+            }
+            if(map.isEmpty()) return 0;
+            return align(HEADER + 3 * REFERENCE) + align(16 + 2L * REFERENCE * map.size()) + align(16 + 2L * REFERENCE * map.size());
+        }
+    }
+}
@@ -0,0 +1,123 @@
+package com.jonnymatts.jzonbie.priming;
+
+import com.google.common.collect.ImmutableList;
+import com.google.common.collect.ImmutableMap;
+import com.google.common.collect.Interner;
+import com.google.common.collect.Interners;
+import com.jonnymatts.jzonbie.body.BodyContent;
+import com.jonnymatts.jzonbie.requests.AppRequest;
+import com.jonnymatts.jzonbie.responses.AppResponse;
+import com.jonnymatts.jzonbie.responses.defaults.DefaultAppResponse;
+import com.jonnymatts.jzonbie.responses.defaults.StaticDefaultAppResponse;
+import com.jonnymatts.jzonbie.responses.delay.DelayProfile;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+import static com.jonnymatts.jzonbie.util.Copier.copyBodyContent;
+import static com.jonnymatts.jzonbie.util.Copier.copyMap;
+import static java.util.Collections.unmodifiableList;
+import static java.util.Collections.unmodifiableMap;
+
+/**
+ * Compacts primed requests and responses before they are stored in a {@link PrimingContext}.
+ * <p>
+ * Paths, methods, header names and header values are interned, header and query param maps are
+ * replaced by immutable maps sized to their contents, and structurally equal responses and
+ * bodies are replaced by a single canonical instance. The pools only hold canonical instances
+ * weakly, so they do not keep removed primings alive.
+ * <p>
+ * Responses with a seeded {@link DelayProfile} are not shared. Each one gets its own copy of the
+ * profile, so every priming samples its delays from its own seeded generators.
+ * <p>
+ * Canonical instances are built from copies, so the caller's requests, responses and bodies can
+ * still be changed without affecting the priming. Canonical instances are shared between primings
+ * and handed out by {@link PrimingContext#getCurrentPriming()} and the call history, so they are
+ * read-only: their maps cannot be modified. Maps containing null keys or values are copied into
+ * unmodifiable maps, as immutable maps cannot hold them.
+ */
+class PrimingInterner {
+
+    private final Interner<String> strings = Interners.newWeakInterner();
+    private final Interner<BodyContent<?>> bodies = Interners.newWeakInterner();
+    private final Interner<AppResponse> responses = Interners.newWeakInterner();
+
+    AppRequest compact(AppRequest request) {
+        final AppRequest compacted = new AppRequest(intern(request.getMethod()), intern(request.getPath()));
+        compacted.setHeaders(compactHeaders(request.getHeaders()));
+        compacted.setQueryParams(compactQueryParams(request.getQueryParams()));
+        compacted.setBody(canonical(request.getBody()));
+        return compacted;
+    }
+
+    AppResponse canonical(AppResponse response) {
+        if(response == null) return null;
+
+        final AppResponse compacted = new AppResponse(response.getStatusCode());
+        compacted.setHeaders(compactHeaders(response.getHeaders()));
+        compacted.setBody(canonical(response.getBody()));
+        response.getDelay().ifPresent(compacted::setDelay);
+        response.getThrottle().ifPresent(compacted::setThrottle);
+        compacted.setTemplated(response.isTemplated());
+
+        final Optional<DelayProfile> delayProfile = response.getDelayProfile();
+        if(delayProfile.isPresent() && delayProfile.get().getSeed() != null) {
+            compacted.setDelayProfile(delayProfile.get().withSeed(delayProfile.get().getSeed()));
+            return compacted;
+        }
+        delayProfile.ifPresent(compacted::setDelayProfile);
+        return responses.intern(compacted);
+    }
+
+    DefaultAppResponse canonical(DefaultAppResponse defaultResponse) {
+        if(!(defaultResponse instanceof StaticDefaultAppResponse)) return defaultResponse;
+        return new StaticDefaultAppResponse(canonical(defaultResponse.getResponse()));
+    }
+
+    private BodyContent<?> canonical(BodyContent<?> body) {
+        return body == null ? null : bodies.intern(copyBodyContent(body));
+    }
+
+    private String intern(String string) {
+        return string == null ? null : strings.intern(string);
+    }
+
+    private Map<String, String> compactHeaders(Map<String, String> headers) {
+        if(headers == null) return null;
+        if(headers.isEmpty()) return ImmutableMap.of();
+
+        final ImmutableMap.Builder<String, String> builder = ImmutableMap.builderWithExpectedSize(headers.size());
+        for(Map.Entry<String, String> header : headers.entrySet()) {
+            if(header.getKey() == null || header.getValue() == null) return unmodifiableMap(copyMap(headers));
+            builder.put(intern(header.getKey()), intern(header.getValue()));
+        }
+        return builder.build();
+    }
+
+    private Map<String, List<String>> compactQueryParams(Map<String, List<String>> queryParams) {
+        if(queryParams == null) return null;
+        if(queryParams.isEmpty()) return ImmutableMap.of();
+
+        final ImmutableMap.Builder<String, List<String>> builder = ImmutableMap.builderWithExpectedSize(queryParams.size());
+        for(Map.Entry<String, List<String>> queryParam : queryParams.entrySet()) {
+            if(queryParam.getKey() == null || queryParam.getValue() == null) return copyQueryParams(queryParams);
+
+            final ImmutableList.Builder<String> values = ImmutableList.builderWithExpectedSize(queryParam.getValue().size());
+            for(String value : queryParam.getValue()) {
+                if(value == null) return copyQueryParams(queryParams);
+                values.add(intern(value));
+            }
+            builder.put(intern(queryParam.getKey()), values.build());
+        }
+        return builder.build();
+    }
+
+    private static Map<String, List<String>> copyQueryParams(Map<String, List<String>> queryParams) {
+        final Map<String, List<String>> copy = new HashMap<>(queryParams.size());
+        queryParams.forEach((key, values) -> copy.put(key, values == null ? null : unmodifiableList(new ArrayList<>(values))));
+        return unmodifiableMap(copy);
+    }
+}
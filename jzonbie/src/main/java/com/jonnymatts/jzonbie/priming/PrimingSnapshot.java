@@ -0,0 +1,51 @@
+package com.jonnymatts.jzonbie.priming;
+
+import java.util.List;
+
+/**
+ * Versioned view of the primed mappings of a {@link PrimingContext}.
+ * <p>
+ * The set of mappings in a snapshot never changes, and a new version is published whenever a
+ * mapping is added or removed. The response queues of the mappings are live though, so priming
+ * or consuming a response of an existing mapping is visible in every snapshot holding it and
+ * does not change the version. The version therefore only identifies which mappings are primed,
+ * not the responses queued on them.
+ */
+public class PrimingSnapshot {
+
+    private final long version;
+    private final SequenceTrie<PrimedMapping> mappings;
+
+    PrimingSnapshot(long version, SequenceTrie<PrimedMapping> mappings) {
+        this.version = version;
+        this.mappings = mappings;
+    }
+
+    static PrimingSnapshot initial() {
+        return new PrimingSnapshot(0, SequenceTrie.empty());
+    }
+
+    public long getVersion() {
+        return version;
+    }
+
+    public List<PrimedMapping> getPrimedMappings() {
+        return mappings.values();
+    }
+
+    public int size() {
+        return mappings.size();
+    }
+
+    PrimingSnapshot without(long sequence) {
+        return new PrimingSnapshot(version + 1, mappings.without(sequence));
+    }
+
+    PrimingSnapshot next(SequenceTrie<PrimedMapping> mappings) {
+        return new PrimingSnapshot(version + 1, mappings);
+    }
+
+    SequenceTrie<PrimedMapping> getMappings() {
+        return mappings;
+    }
+}
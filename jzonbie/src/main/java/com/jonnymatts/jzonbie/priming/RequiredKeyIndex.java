@@ -0,0 +1,67 @@
+package com.jonnymatts.jzonbie.priming;
+
+import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+
+import static java.util.Collections.emptyList;
+
+/**
+ * Inverted index from a required key, eg. a header or query param name, to the values that
+ * require it.
+ * <p>
+ * Looking up the keys an incoming map is missing returns the set of values requiring each
+ * missing key. A value contained in any of them cannot match the incoming map and can be
+ * skipped without comparing any values.
+ * <p>
+ * Lookups are safe to run concurrently with each other and with a single writer. Calls to
+ * {@link #add}, {@link #remove} and {@link #clear} must be serialized by the caller.
+ *
+ * @param <T> type of the indexed values
+ */
+public class RequiredKeyIndex<T> {
+
+    private final Map<String, Set<T>> valuesByKey = new ConcurrentHashMap<>();
+
+    public void add(T value, Collection<String> keys) {
+        for(String key : keys) {
+            valuesByKey.computeIfAbsent(key, k -> ConcurrentHashMap.newKeySet()).add(value);
+        }
+    }
+
+    public void remove(T value, Collection<String> keys) {
+        for(String key : keys) {
+            final Set<T> values = valuesByKey.get(key);
+            if(values == null) continue;
+
+            values.remove(value);
+            if(values.isEmpty()) valuesByKey.remove(key);
+        }
+    }
+
+    /**
+     * Returns the values requiring each indexed key that is not present in the given map.
+     *
+     * @param map incoming map, may be null
+     * @return one set of values per missing key
+     */
+    public List<Set<T>> missingFrom(Map<String, ?> map) {
+        if(valuesByKey.isEmpty()) return emptyList();
+
+        final List<Set<T>> missing = new ArrayList<>();
+        valuesByKey.forEach((key, values) -> {
+            if(map == null || !map.containsKey(key)) missing.add(values);
+        });
+        return missing;
+    }
+
+    public static <T> boolean excludes(List<Set<T>> missing, T value) {
+        for(Set<T> values : missing) {
+            if(values.contains(value)) return true;
+        }
+        return false;
+    }
+
+    public void clear() {
+        valuesByKey.clear();
+    }
+}
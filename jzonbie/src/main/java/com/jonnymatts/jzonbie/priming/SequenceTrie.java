@@ -0,0 +1,160 @@
+package com.jonnymatts.jzonbie.priming;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static java.lang.Integer.bitCount;
+
+/**
+ * Immutable map from non-negative sequence numbers to values, iterated in sequence order.
+ * <p>
+ * Values are stored in a trie with 32 way branching. Adding or removing a value copies only
+ * the nodes on the path to it and shares every other node with the original trie, so writers
+ * can publish a new version cheaply while readers keep using the old one.
+ *
+ * @param <V> type of the values
+ */
+public class SequenceTrie<V> {
+
+    private static final int BITS = 5;
+    private static final int MASK = (1 << BITS) - 1;
+    private static final SequenceTrie<?> EMPTY = new SequenceTrie<>(null, 0, 0);
+
+    private final Node root;
+    private final int shift;
+    private final int size;
+
+    private SequenceTrie(Node root, int shift, int size) {
+        this.root = root;
+        this.shift = shift;
+        this.size = size;
+    }
+
+    @SuppressWarnings("unchecked")
+    public static <V> SequenceTrie<V> empty() {
+        return (SequenceTrie<V>) EMPTY;
+    }
+
+    @SuppressWarnings("unchecked")
+    public V get(long sequence) {
+        if(sequence < 0 || !covers(shift, sequence)) return null;
+
+        Object current = root;
+        for(int level = shift; current != null; level -= BITS) {
+            current = ((Node) current).get(indexAt(sequence, level));
+            if(level == 0) return (V) current;
+        }
+        return null;
+    }
+
+    public SequenceTrie<V> with(long sequence, V value) {
+        if(sequence < 0) throw new IllegalArgumentException("Sequence must not be negative: " + sequence);
+        if(value == null) return without(sequence);
+
+        Node newRoot = root;
+        int newShift = shift;
+        while(!covers(newShift, sequence)) {
+            if(newRoot != null) newRoot = new Node(1, new Object[]{newRoot});
+            newShift += BITS;
+        }
+
+        final int newSize = get(sequence) == null ? size + 1 : size;
+        return new SequenceTrie<>(put(newRoot, newShift, sequence, value), newShift, newSize);
+    }
+
+    public SequenceTrie<V> without(long sequence) {
+        if(get(sequence) == null) return this;
+
+        return new SequenceTrie<>(remove(root, shift, sequence), shift, size - 1);
+    }
+
+    public int size() {
+        return size;
+    }
+
+    public List<V> values() {
+        final List<V> values = new ArrayList<>(size);
+        addValues(root, shift, values);
+        return values;
+    }
+
+    private static boolean covers(int shift, long sequence) {
+        return shift + BITS >= Long.SIZE || (sequence >>> (shift + BITS)) == 0;
+    }
+
+    private static int indexAt(long sequence, int shift) {
+        return (int) (sequence >>> shift) & MASK;
+    }
+
+    private static Node put(Node node, int shift, long sequence, Object value) {
+        final int index = indexAt(sequence, shift);
+        final Object child = shift == 0 ? value : put(node == null ? null : (Node) node.get(index), shift - BITS, sequence, value);
+        return node == null ? new Node(1 << index, new Object[]{child}) : node.with(index, child);
+    }
+
+    private static Node remove(Node node, int shift, long sequence) {
+        final int index = indexAt(sequence, shift);
+        final Object child = shift == 0 ? null : remove((Node) node.get(index), shift - BITS, sequence);
+        return child == null ? node.without(index) : node.with(index, child);
+    }
+
+    @SuppressWarnings("unchecked")
+    private void addValues(Node node, int shift, List<V> values) {
+        if(node == null) return;
+
+        for(Object child : node.children) {
+            if(shift == 0) values.add((V) child);
+            else addValues((Node) child, shift - BITS, values);
+        }
+    }
+
+    /**
+     * Trie node holding only its present children, in index order, with a bitmap of their indexes.
+     */
+    private static class Node {
+        private final int bitmap;
+        private final Object[] children;
+
+        private Node(int bitmap, Object[] children) {
+            this.bitmap = bitmap;
+            this.children = children;
+        }
+
+        private Object get(int index) {
+            final int bit = 1 << index;
+            return (bitmap & bit) == 0 ? null : children[position(bit)];
+        }
+
+        private Node with(int index, Object child) {
+            final int bit = 1 << index;
+            final int position = position(bit);
+
+            if((bitmap & bit) != 0) {
+                final Object[] newChildren = children.clone();
+                newChildren[position] = child;
+                return new Node(bitmap, newChildren);
+            }
+
+            final Object[] newChildren = new Object[children.length + 1];
+            System.arraycopy(children, 0, newChildren, 0, position);
+            newChildren[position] = child;
+            System.arraycopy(children, position, newChildren, position + 1, children.length - position);
+            return new Node(bitmap | bit, newChildren);
+        }
+
+        private Node without(int index) {
+            final int bit = 1 << index;
+            if(bitmap == bit) return null;
+
+            final int position = position(bit);
+            final Object[] newChildren = new Object[children.length - 1];
+            System.arraycopy(children, 0, newChildren, 0, position);
+            System.arraycopy(children, position + 1, newChildren, position, children.length - position - 1);
+            return new Node(bitmap & ~bit, newChildren);
+        }
+
+        private int position(int bit) {
+            return bitCount(bitmap & (bit - 1));
+        }
+    }
+}
@@ -9,7 +9,9 @@ import com.jonnymatts.jzonbie.history.FixedCapacityCache;
 import com.jonnymatts.jzonbie.priming.AppRequestFactory;
 import com.jonnymatts.jzonbie.priming.PrimingContext;
 import com.jonnymatts.jzonbie.responses.AppResponse;
+import com.jonnymatts.jzonbie.responses.delay.DelayProfile;
 
+import java.time.Duration;
 import java.util.Optional;
 
 public class AppRequestHandler implements RequestHandler {
@@ -35,6 +37,9 @@ public class AppRequestHandler implements RequestHandler {
 
         final Optional<AppResponse> primedResponseOpt = primingContext.getResponse(appRequest);
 
+        // Matching only reads the body if a priming needed it, but history outlives the request
+        appRequest.getBody();
+
         if(!primedResponseOpt.isPresent()) {
             failedRequests.add(appRequest);
             throw new PrimingNotFoundException(appRequest);
@@ -42,8 +47,14 @@ public class AppRequestHandler implements RequestHandler {
 
         final AppResponse zombieResponse = primedResponseOpt.get();
 
-        callHistory.add(new Exchange(appRequest, zombieResponse));
+        final Optional<DelayProfile> delayProfile = zombieResponse.getDelayProfile();
+        if(!delayProfile.isPresent()) {
+            callHistory.add(new Exchange(appRequest, zombieResponse));
+            return zombieResponse;
+        }
 
-        return zombieResponse;
+        final Duration delay = delayProfile.get().sample();
+        callHistory.add(new Exchange(appRequest, zombieResponse, delay));
+        return new SampledResponse(zombieResponse, delay);
     }
 }
\ No newline at end of file
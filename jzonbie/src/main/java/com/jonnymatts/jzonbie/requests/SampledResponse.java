@@ -0,0 +1,75 @@
+package com.jonnymatts.jzonbie.requests;
+
+import com.jonnymatts.jzonbie.Response;
+import com.jonnymatts.jzonbie.body.BodyContent;
+import com.jonnymatts.jzonbie.responses.AppResponse;
+
+import java.time.Duration;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+
+/**
+ * A primed response served with the delay sampled from its delay profile for a single exchange.
+ */
+public class SampledResponse implements Response<BodyContent<?>> {
+
+    private final AppResponse response;
+    private final Duration delay;
+
+    public SampledResponse(AppResponse response, Duration delay) {
+        this.response = response;
+        this.delay = delay;
+    }
+
+    public AppResponse getResponse() {
+        return response;
+    }
+
+    @Override
+    public int getStatusCode() {
+        return response.getStatusCode();
+    }
+
+    @Override
+    public Map<String, String> getHeaders() {
+        return response.getHeaders();
+    }
+
+    @Override
+    public BodyContent<?> getBody() {
+        return response.getBody();
+    }
+
+    @Override
+    public Optional<Duration> getDelay() {
+        return Optional.of(delay);
+    }
+
+    @Override
+    public boolean isTemplated() {
+        return response.isTemplated();
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) return true;
+        if (o == null || getClass() != o.getClass()) return false;
+        SampledResponse that = (SampledResponse) o;
+        return Objects.equals(response, that.response) &&
+                Objects.equals(delay, that.delay);
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(response, delay);
+    }
+
+    @Override
+    public String toString() {
+        return "SampledResponse{" +
+                "response=" + response +
+                ", delay=" + delay +
+                '}';
+    }
+}
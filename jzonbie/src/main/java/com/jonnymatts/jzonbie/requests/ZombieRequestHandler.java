@@ -5,14 +5,15 @@ import com.jonnymatts.jzonbie.Response;
 import com.jonnymatts.jzonbie.history.CallHistory;
 import com.jonnymatts.jzonbie.history.FixedCapacityCache;
 import com.jonnymatts.jzonbie.jackson.Deserializer;
-import com.jonnymatts.jzonbie.priming.PrimedMapping;
 import com.jonnymatts.jzonbie.priming.PrimingContext;
+import com.jonnymatts.jzonbie.priming.PrimingFileLoader;
 import com.jonnymatts.jzonbie.priming.ZombiePriming;
 import com.jonnymatts.jzonbie.responses.CurrentPrimingFileResponseFactory;
 import com.jonnymatts.jzonbie.responses.CurrentPrimingFileResponseFactory.FileResponse;
 import com.jonnymatts.jzonbie.ssl.HttpsSupport;
 import com.jonnymatts.jzonbie.verification.CountResult;
 
+import java.io.InputStream;
 import java.util.List;
 
 import static com.jonnymatts.jzonbie.responses.defaults.StaticDefaultAppResponse.staticDefault;
@@ -29,7 +30,7 @@ public class ZombieRequestHandler implements RequestHandler {
     private final Deserializer deserializer;
     private final String zombieHeaderName;
     private final CurrentPrimingFileResponseFactory fileResponseFactory;
-    private final PrimedMappingUploader primedMappingUploader;
+    private final PrimingFileLoader primingFileLoader;
     private final HttpsSupport httpsSupport;
 
     public ZombieRequestHandler(String zombieHeaderName,
@@ -38,7 +39,7 @@ public class ZombieRequestHandler implements RequestHandler {
                                 FixedCapacityCache<AppRequest> failedRequests,
                                 Deserializer deserializer,
                                 CurrentPrimingFileResponseFactory fileResponseFactory,
-                                PrimedMappingUploader primedMappingUploader,
+                                PrimingFileLoader primingFileLoader,
                                 HttpsSupport httpsSupport) {
         this.zombieHeaderName = zombieHeaderName;
         this.primingContext = primingContext;
@@ -46,7 +47,7 @@ public class ZombieRequestHandler implements RequestHandler {
         this.failedRequests = failedRequests;
         this.deserializer = deserializer;
         this.fileResponseFactory = fileResponseFactory;
-        this.primedMappingUploader = primedMappingUploader;
+        this.primingFileLoader = primingFileLoader;
         this.httpsSupport = httpsSupport;
     }
 
@@ -57,6 +58,8 @@ public class ZombieRequestHandler implements RequestHandler {
         switch(zombieHeaderValue) {
             case "priming":
                 return handlePrimingRequest(request);
+            case "priming-batch":
+                return handleBatchPrimingRequest(request);
             case "priming-default":
                 return handleDefaultPrimingRequest(request);
             case "priming-file":
@@ -67,6 +70,8 @@ public class ZombieRequestHandler implements RequestHandler {
                 return handleCurrentPrimingRequest();
             case "current-file":
                 return handleCurrentPrimingFileRequest();
+            case "footprint":
+                return handleFootprintRequest();
             case "history":
                 return handleHistoryRequest();
             case "failed":
@@ -90,6 +95,15 @@ public class ZombieRequestHandler implements RequestHandler {
         return new ZombieResponse(CREATED_201, zombiePriming);
     }
 
+    private ZombieResponse handleBatchPrimingRequest(Request request) {
+        final List<ZombiePriming> zombiePrimings = deserializer.deserializeCollection(request.getBody(), ZombiePriming.class);
+        zombiePrimings.forEach(this::validate);
+
+        primingContext.addAll(zombiePrimings);
+
+        return new ZombieResponse(CREATED_201, zombiePrimings);
+    }
+
     private ZombieResponse handleDefaultPrimingRequest(Request request) {
         final ZombiePriming zombiePriming = getZombiePriming(request);
 
@@ -99,17 +113,22 @@ public class ZombieRequestHandler implements RequestHandler {
     }
 
     private ZombieResponse handleFilePrimingRequest(Request request) {
-        final List<PrimedMapping> primedMappings = deserializer.deserializeCollection(request.getPrimingFileContent(), PrimedMapping.class);
+        final InputStream primingFile = request.getPrimingFile();
+        if(primingFile == null) throw new IllegalArgumentException("Priming file not present in request");
 
-        primedMappingUploader.upload(primedMappings);
+        final int loaded = primingFileLoader.load(primingFile);
 
-        return new ZombieResponse(CREATED_201, primedMappings);
+        return new ZombieResponse(CREATED_201, singletonMap("mappings", loaded));
     }
 
     private ZombieResponse handleCurrentPrimingRequest() {
         return new ZombieResponse(OK_200, primingContext.getCurrentPriming());
     }
 
+    private ZombieResponse handleFootprintRequest() {
+        return new ZombieResponse(OK_200, primingContext.getFootprint());
+    }
+
     private FileResponse handleCurrentPrimingFileRequest() {
         return fileResponseFactory.create(primingContext.getCurrentPriming());
     }
@@ -145,6 +164,11 @@ public class ZombieRequestHandler implements RequestHandler {
 
     private ZombiePriming getZombiePriming(Request request) {
         final ZombiePriming zombiePriming = deserializer.deserialize(request, ZombiePriming.class);
+        validate(zombiePriming);
+        return zombiePriming;
+    }
+
+    private void validate(ZombiePriming zombiePriming) {
         final AppRequest zombieRequest = zombiePriming.getRequest();
 
         if (zombieRequest.getMethod() == null) {
@@ -154,6 +178,5 @@ public class ZombieRequestHandler implements RequestHandler {
         if (zombieRequest.getPath() == null) {
             throw new IllegalArgumentException("Path cannot be null");
         }
-        return zombiePriming;
     }
 }
\ No newline at end of file
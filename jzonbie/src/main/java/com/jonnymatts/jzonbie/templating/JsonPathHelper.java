@@ -1,22 +1,58 @@
 package com.jonnymatts.jzonbie.templating;
 
+import com.github.jknack.handlebars.Context;
 import com.github.jknack.handlebars.Helper;
 import com.github.jknack.handlebars.Options;
+import com.google.common.cache.Cache;
+import com.google.common.cache.CacheBuilder;
+import com.google.common.util.concurrent.UncheckedExecutionException;
+import com.jayway.jsonpath.DocumentContext;
 import com.jayway.jsonpath.JsonPath;
 
 import java.io.IOException;
+import java.util.concurrent.ExecutionException;
 
 import static java.lang.String.format;
 
+/**
+ * Handlebars helper extracting a value from JSON with a JsonPath expression.
+ * <p>
+ * Compiled expressions are kept in a bounded cache shared by every template. When a template is
+ * applied to a {@link TransformationContext}, the JSON is parsed once per request however many
+ * expressions read it.
+ */
 public class JsonPathHelper implements Helper<String> {
+    private static final long MAXIMUM_PATHS = 1_000;
+
+    private final Cache<String, JsonPath> paths = CacheBuilder.newBuilder().maximumSize(MAXIMUM_PATHS).build();
 
     @Override
     public Object apply(String context, Options options) throws IOException {
         final String jsonPathString = options.param(0);
         try {
-            return JsonPath.<String>read(context, jsonPathString);
+            return document(context, options).read(compile(jsonPathString));
         } catch (Exception e) {
             throw new TransformResponseException(format("Could not extract '%s' from '%s'", jsonPathString, context), e);
         }
     }
-}
\ No newline at end of file
+
+    private JsonPath compile(String jsonPathString) throws Exception {
+        try {
+            return paths.get(jsonPathString, () -> JsonPath.compile(jsonPathString));
+        } catch (ExecutionException | UncheckedExecutionException e) {
+            throw (Exception) e.getCause();
+        }
+    }
+
+    private static DocumentContext document(String json, Options options) {
+        Context context = options.context;
+        while(context != null && context.parent() != null) {
+            context = context.parent();
+        }
+
+        if(context != null && context.model() instanceof TransformationContext) {
+            return ((TransformationContext) context.model()).document(json);
+        }
+        return JsonPath.parse(json);
+    }
+}
@@ -2,17 +2,52 @@ package com.jonnymatts.jzonbie.templating;
 
 import com.github.jknack.handlebars.Handlebars;
 import com.github.jknack.handlebars.Template;
+import com.google.common.cache.Cache;
+import com.google.common.cache.CacheBuilder;
+import com.google.common.util.concurrent.UncheckedExecutionException;
 
 import java.util.HashMap;
 import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.ExecutionException;
 
 import static java.lang.String.format;
 
+/**
+ * Applies response templates to requests.
+ * <p>
+ * Templates are compiled once and kept in a cache bounded to {@code maximumTemplates} entries,
+ * keyed by their source, so serving a templated response only applies its compiled templates.
+ */
 public class ResponseTransformer {
+    private static final long DEFAULT_MAXIMUM_TEMPLATES = 10_000;
+
     private final Handlebars handlebars;
+    private final Cache<String, Template> templates;
 
-    public ResponseTransformer(Handlebars handlebars) {
+    public ResponseTransformer(Handlebars handlebars, long maximumTemplates) {
         this.handlebars = handlebars;
+        this.templates = CacheBuilder.newBuilder().maximumSize(maximumTemplates).build();
+    }
+
+    public ResponseTransformer(Handlebars handlebars) {
+        this(handlebars, DEFAULT_MAXIMUM_TEMPLATES);
+    }
+
+    /**
+     * Compiles the templates of a response ahead of it being served.
+     *
+     * @param headers templated header values
+     * @param bodyString templated body
+     * @throws TransformResponseException if any template is invalid
+     */
+    public void compile(Map<String, String> headers, String bodyString) {
+        if(headers != null) {
+            headers.values().stream().filter(Objects::nonNull).forEach(this::compile);
+        }
+        if(bodyString != null) {
+            compile(bodyString);
+        }
     }
 
     public Map<String, String> transformHeaders(TransformationContext transformationContext, Map<String, String> headers) {
@@ -30,12 +65,19 @@ public class ResponseTransformer {
         return transformValue(transformationContext, bodyString);
     }
 
+    private Template compile(String value) {
+        try {
+            return templates.get(value, () -> handlebars.compileInline(value));
+        } catch (ExecutionException | UncheckedExecutionException e) {
+            throw new TransformResponseException(format("Invalid template: %s", value), e.getCause());
+        }
+    }
+
     private String transformValue(TransformationContext transformationContext, String value) {
         try {
-            final Template template = handlebars.compileInline(value);
-            return template.apply(transformationContext);
+            return compile(value).apply(transformationContext);
         } catch (Exception e) {
             throw new TransformResponseException(format("Could not transform: %s", value), e);
         }
     }
-}
\ No newline at end of file
+}
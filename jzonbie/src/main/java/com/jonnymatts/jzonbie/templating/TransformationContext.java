@@ -1,17 +1,19 @@
 package com.jonnymatts.jzonbie.templating;
 
+import com.jayway.jsonpath.DocumentContext;
+import com.jayway.jsonpath.JsonPath;
 import com.jonnymatts.jzonbie.pippo.PippoRequest;
 
 import java.util.List;
 import java.util.Map;
+import java.util.function.Supplier;
 
-import static java.lang.String.format;
 import static java.util.Arrays.asList;
 
 public class TransformationContext {
 
     public TransformationContext(PippoRequest request) {
-        this(request.getProtocol(), request.getUrl(), request.getPort(),request.getPath(), request.getQueryParams(), request.getHeaders(), request.getMethod(), request.getBody());
+        this.request = new RequestContext(request.getProtocol(), request.getUrl(), request.getPort(), request.getPath(), request.getQueryParams(), request.getHeaders(), request.getMethod(), request::getBody);
     }
 
     public TransformationContext(String protocol, String url, int port, String path, Map<String, List<String>> queryParams, Map<String, String> headers, String method, String body) {
@@ -20,35 +22,59 @@ public class TransformationContext {
 
     public RequestContext request;
 
+    private String parsedJson;
+    private DocumentContext parsedDocument;
+
     public RequestContext getRequest() {
         return request;
     }
 
+    /**
+     * Parses JSON read by a template, reusing the last parsed document while templates keep
+     * reading the same string, such as the request body.
+     */
+    DocumentContext document(String json) {
+        if(parsedDocument == null || json != parsedJson) {
+            parsedDocument = JsonPath.parse(json);
+            parsedJson = json;
+        }
+        return parsedDocument;
+    }
+
+    /**
+     * Request values available to templates.
+     * <p>
+     * Derived values, and the body, are only computed when a template first reads them and are
+     * then kept for the rest of the request, so a template only pays for the values it uses.
+     * A context belongs to a single request and is not thread safe.
+     */
     public static class RequestContext {
         private final String protocol;
         private final String url;
-        private final String baseUrl;
-        private final String host;
         private final int port;
         private final String path;
-        private final List<String> pathSegment;
         private final Map<String, List<String>> queryParam;
         private final Map<String, String> header;
         private final String method;
-        private final String body;
+        private Supplier<String> bodySupplier;
+        private String body;
+        private String host;
+        private String baseUrl;
+        private List<String> pathSegment;
 
         public RequestContext(String protocol, String url, int port, String path, Map<String, List<String>> queryParams, Map<String, String> headers, String method, String body) {
+            this(protocol, url, port, path, queryParams, headers, method, () -> body);
+        }
+
+        public RequestContext(String protocol, String url, int port, String path, Map<String, List<String>> queryParams, Map<String, String> headers, String method, Supplier<String> body) {
             this.protocol = protocol;
             this.url = url;
-            this.host = url.split("/")[2].split(":")[0];
             this.port = port;
-            this.baseUrl = format("%s://%s%s", protocol, host, port == 0 ? "" : ":" + port);
             this.path = path;
-            this.pathSegment = asList(path.substring(1).split("/"));
             this.queryParam = queryParams;
             this.header = headers;
             this.method = method;
-            this.body = body;
+            this.bodySupplier = body;
         }
 
         public String getProtocol() {
@@ -60,10 +86,22 @@ public class TransformationContext {
         }
 
         public String getBaseUrl() {
+            if(baseUrl == null) {
+                final String host = getHost();
+                final StringBuilder builder = new StringBuilder(protocol.length() + host.length() + 9).append(protocol).append("://").append(host);
+                if(port != 0) builder.append(':').append(port);
+                baseUrl = builder.toString();
+            }
             return baseUrl;
         }
 
         public String getHost() {
+            if(host == null) {
+                final int start = url.indexOf("//") + 2;
+                int end = start;
+                while(end < url.length() && url.charAt(end) != '/' && url.charAt(end) != ':') end++;
+                host = url.substring(start, end);
+            }
             return host;
         }
 
@@ -76,6 +114,9 @@ public class TransformationContext {
         }
 
         public List<String> getPathSegment() {
+            if(pathSegment == null) {
+                pathSegment = asList(path.substring(1).split("/"));
+            }
             return pathSegment;
         }
 
@@ -92,7 +133,11 @@ public class TransformationContext {
         }
 
         public String getBody() {
+            if(bodySupplier != null) {
+                body = bodySupplier.get();
+                bodySupplier = null;
+            }
             return body;
         }
     }
-}
\ No newline at end of file
+}
@@ -0,0 +1,73 @@
+package com.jonnymatts.jzonbie;
+
+import com.jonnymatts.jzonbie.jackson.Deserializer;
+import com.jonnymatts.jzonbie.priming.AppRequestFactory;
+import com.jonnymatts.jzonbie.requests.AppRequest;
+import org.junit.jupiter.api.Disabled;
+import org.junit.jupiter.api.Test;
+
+import java.io.InputStream;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Supplier;
+
+import static java.util.Arrays.asList;
+
+@Disabled("Run this only if you are changing the app request factory")
+class AppRequestFactoryPerformanceTest {
+
+    private static final int ITERATIONS = 1_000_000;
+
+    private final Deserializer deserializer = new Deserializer();
+    private final AppRequestFactory appRequestFactory = new AppRequestFactory(deserializer);
+
+    @Test
+    void directConstructionAgainstConversion() {
+        final Request request = request();
+
+        for (int round = 0; round < 3; round++) {
+            final long directNanos = time(() -> appRequestFactory.create(request));
+            final long conversionNanos = time(() -> {
+                final Map<String, Object> primedRequestMap = new HashMap<>();
+                primedRequestMap.put("path", request.getPath());
+                primedRequestMap.put("method", request.getMethod());
+                primedRequestMap.put("queryParams", request.getQueryParams());
+                primedRequestMap.put("headers", request.getHeaders());
+                return deserializer.deserialize(primedRequestMap, AppRequest.class);
+            });
+            System.out.println("direct " + directNanos + " ns, conversion " + conversionNanos + " ns per request");
+        }
+    }
+
+    private long time(Supplier<AppRequest> create) {
+        long blackhole = 0;
+        final long start = System.nanoTime();
+        for (int i = 0; i < ITERATIONS; i++) {
+            blackhole += create.get().getHeaders().size();
+        }
+        final long nanos = (System.nanoTime() - start) / ITERATIONS;
+        if (blackhole == 42) System.out.println();
+        return nanos;
+    }
+
+    private Request request() {
+        final Map<String, String> headers = new HashMap<>();
+        headers.put("Accept", "application/json");
+        headers.put("Content-Type", "application/json");
+        headers.put("Host", "localhost:8080");
+        headers.put("User-Agent", "Apache-HttpClient/4.5.7");
+        final Map<String, List<String>> queryParams = new HashMap<>();
+        queryParams.put("page", asList("1"));
+        queryParams.put("size", asList("50"));
+
+        return new Request() {
+            @Override public String getPath() { return "/tenants/1/orders"; }
+            @Override public String getMethod() { return "GET"; }
+            @Override public Map<String, String> getHeaders() { return headers; }
+            @Override public String getBody() { return null; }
+            @Override public Map<String, List<String>> getQueryParams() { return queryParams; }
+            @Override public InputStream getPrimingFile() { return null; }
+        };
+    }
+}
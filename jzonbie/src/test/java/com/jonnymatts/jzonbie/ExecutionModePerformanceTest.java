@@ -0,0 +1,124 @@
+package com.jonnymatts.jzonbie;
+
+import org.junit.jupiter.api.Disabled;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.net.InetSocketAddress;
+import java.nio.ByteBuffer;
+import java.nio.channels.SelectionKey;
+import java.nio.channels.Selector;
+import java.nio.channels.SocketChannel;
+import java.time.Duration;
+
+import static com.jonnymatts.jzonbie.ExecutionMode.PLATFORM_THREADS;
+import static com.jonnymatts.jzonbie.ExecutionMode.VIRTUAL_THREADS;
+import static com.jonnymatts.jzonbie.JzonbieOptions.options;
+import static com.jonnymatts.jzonbie.requests.AppRequest.get;
+import static com.jonnymatts.jzonbie.responses.AppResponse.ok;
+import static com.jonnymatts.jzonbie.responses.defaults.DynamicDefaultAppResponse.dynamicDefault;
+import static java.nio.charset.StandardCharsets.US_ASCII;
+
+/**
+ * Compares execution modes serving concurrent requests that block for a second in a dynamic
+ * default supplier. Requests are sent from a single selector thread so the client does not
+ * need a thread per request. Virtual threads need the test to run on Java 21 or newer.
+ */
+@Disabled("Run this only if you are changing the request execution mode")
+class ExecutionModePerformanceTest {
+
+    private static final int REQUESTS = 10_000;
+    private static final Duration BLOCKING_TIME = Duration.ofSeconds(1);
+    private static final Duration TIMEOUT = Duration.ofMinutes(5);
+    private static final byte[] REQUEST = "GET /blocking HTTP/1.1\r\nHost: localhost\r\nConnection: close\r\n\r\n".getBytes(US_ASCII);
+
+    @Test
+    void concurrentBlockingRequestsOnPlatformAndVirtualThreads() throws Exception {
+        for (ExecutionMode executionMode : new ExecutionMode[]{PLATFORM_THREADS, VIRTUAL_THREADS}) {
+            System.out.println(executionMode + ": " + measure(executionMode));
+        }
+    }
+
+    private Measurement measure(ExecutionMode executionMode) throws IOException {
+        final Jzonbie jzonbie = new Jzonbie(options().withExecutionMode(executionMode));
+        try {
+            jzonbie.prime(get("/blocking"), dynamicDefault(() -> {
+                try {
+                    Thread.sleep(BLOCKING_TIME.toMillis());
+                } catch (InterruptedException e) {
+                    throw new RuntimeException(e);
+                }
+                return ok();
+            }));
+            return send(new InetSocketAddress("localhost", jzonbie.getHttpPort()));
+        } finally {
+            jzonbie.stop();
+        }
+    }
+
+    private Measurement send(InetSocketAddress address) throws IOException {
+        final long start = System.nanoTime();
+        final ByteBuffer buffer = ByteBuffer.allocate(8192);
+        int succeeded = 0;
+        int remaining = REQUESTS;
+
+        try (Selector selector = Selector.open()) {
+            for (int i = 0; i < REQUESTS; i++) {
+                final SocketChannel channel = SocketChannel.open();
+                channel.configureBlocking(false);
+                channel.connect(address);
+                channel.register(selector, SelectionKey.OP_CONNECT, new StringBuilder());
+            }
+
+            while (remaining > 0 && System.nanoTime() - start < TIMEOUT.toNanos()) {
+                selector.select(1_000);
+                for (SelectionKey key : selector.selectedKeys()) {
+                    final SocketChannel channel = (SocketChannel) key.channel();
+                    final StringBuilder statusLine = (StringBuilder) key.attachment();
+                    try {
+                        if (key.isConnectable()) {
+                            channel.finishConnect();
+                            channel.write(ByteBuffer.wrap(REQUEST));
+                            key.interestOps(SelectionKey.OP_READ);
+                        } else if (key.isReadable()) {
+                            buffer.clear();
+                            final int read = channel.read(buffer);
+                            if (read > 0 && statusLine.length() < 12) {
+                                statusLine.append(new String(buffer.array(), 0, Math.min(read, 12 - statusLine.length()), US_ASCII));
+                            } else if (read < 0) {
+                                if (statusLine.toString().equals("HTTP/1.1 200")) succeeded++;
+                                channel.close();
+                                remaining--;
+                            }
+                        }
+                    } catch (IOException e) {
+                        channel.close();
+                        remaining--;
+                    }
+                }
+                selector.selectedKeys().clear();
+            }
+
+            for (SelectionKey key : selector.keys()) {
+                key.channel().close();
+            }
+        }
+
+        return new Measurement(succeeded, Duration.ofNanos(System.nanoTime() - start));
+    }
+
+    private static class Measurement {
+        private final int succeeded;
+        private final Duration elapsed;
+
+        private Measurement(int succeeded, Duration elapsed) {
+            this.succeeded = succeeded;
+            this.elapsed = elapsed;
+        }
+
+        @Override
+        public String toString() {
+            return succeeded + " of " + REQUESTS + " requests succeeded in " + elapsed.toMillis() + " ms";
+        }
+    }
+}
@@ -0,0 +1,92 @@
+package com.jonnymatts.jzonbie;
+
+import org.eclipse.jetty.client.HttpClient;
+import org.eclipse.jetty.client.HttpClientTransport;
+import org.eclipse.jetty.client.http.HttpClientTransportOverHTTP;
+import org.eclipse.jetty.http2.client.HTTP2Client;
+import org.eclipse.jetty.http2.client.http.HttpClientTransportOverHTTP2;
+import org.junit.jupiter.api.Disabled;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static com.jonnymatts.jzonbie.Http2Options.http2Options;
+import static com.jonnymatts.jzonbie.JzonbieOptions.options;
+import static com.jonnymatts.jzonbie.requests.AppRequest.get;
+import static com.jonnymatts.jzonbie.responses.AppResponse.ok;
+import static com.jonnymatts.jzonbie.responses.defaults.DefaultAppResponse.staticDefault;
+import static java.util.concurrent.TimeUnit.MILLISECONDS;
+
+/**
+ * Compares the throughput of requests multiplexed over a single HTTP/2 connection with
+ * the same requests sent over a pool of HTTP/1.1 connections. Responses are delayed so
+ * that throughput depends on how many requests can be in flight at once.
+ */
+@Disabled("Run this only if you are changing the HTTP/2 connectors")
+class Http2PerformanceTest {
+
+    private static final int REQUESTS = 20_000;
+    private static final int HTTP1_CONNECTIONS = 16;
+    private static final int HTTP2_CONCURRENT_STREAMS = 1000;
+    private static final Duration RESPONSE_DELAY = Duration.ofMillis(20);
+    private static final Duration TIMEOUT = Duration.ofMinutes(5);
+
+    @Test
+    void multiplexedHttp2ThroughputComparedToHttp1() throws Exception {
+        final Jzonbie jzonbie = new Jzonbie(options().withHttp2(http2Options().withMaxConcurrentStreams(HTTP2_CONCURRENT_STREAMS)));
+        try {
+            jzonbie.prime(get("/"), staticDefault(ok().withBody("body").withDelay(RESPONSE_DELAY)));
+            final String uri = "http://localhost:" + jzonbie.getHttpPort() + "/";
+
+            System.out.println("HTTP/1.1 over " + HTTP1_CONNECTIONS + " connections: " + measure(new HttpClientTransportOverHTTP(), HTTP1_CONNECTIONS, uri));
+            System.out.println("HTTP/2 over 1 connection: " + measure(new HttpClientTransportOverHTTP2(new HTTP2Client()), 1, uri));
+        } finally {
+            jzonbie.stop();
+        }
+    }
+
+    private Measurement measure(HttpClientTransport transport, int connections, String uri) throws Exception {
+        final HttpClient client = new HttpClient(transport, null);
+        client.setMaxConnectionsPerDestination(connections);
+        client.setMaxRequestsQueuedPerDestination(REQUESTS);
+        client.start();
+
+        try {
+            client.GET(uri);
+
+            final CountDownLatch latch = new CountDownLatch(REQUESTS);
+            final AtomicInteger succeeded = new AtomicInteger();
+            final long start = System.nanoTime();
+            for (int i = 0; i < REQUESTS; i++) {
+                client.newRequest(uri).send(result -> {
+                    if (result.isSucceeded() && result.getResponse().getStatus() == 200) {
+                        succeeded.incrementAndGet();
+                    }
+                    latch.countDown();
+                });
+            }
+            latch.await(TIMEOUT.toMillis(), MILLISECONDS);
+
+            return new Measurement(succeeded.get(), Duration.ofNanos(System.nanoTime() - start));
+        } finally {
+            client.stop();
+        }
+    }
+
+    private static class Measurement {
+        private final int succeeded;
+        private final Duration elapsed;
+
+        private Measurement(int succeeded, Duration elapsed) {
+            this.succeeded = succeeded;
+            this.elapsed = elapsed;
+        }
+
+        @Override
+        public String toString() {
+            return succeeded + " of " + REQUESTS + " requests succeeded in " + elapsed.toMillis() + " ms";
+        }
+    }
+}
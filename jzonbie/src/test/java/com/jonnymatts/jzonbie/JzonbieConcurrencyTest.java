@@ -1,6 +1,7 @@
 package com.jonnymatts.jzonbie;
 
 import com.google.common.base.Stopwatch;
+import com.google.common.base.Strings;
 import com.jonnymatts.jzonbie.junit.JzonbieExtension;
 import org.apache.http.HttpResponse;
 import org.apache.http.client.HttpClient;
@@ -9,12 +10,14 @@ import org.apache.http.client.methods.RequestBuilder;
 import org.apache.http.client.utils.HttpClientUtils;
 import org.apache.http.impl.client.HttpClientBuilder;
 import org.apache.http.impl.conn.PoolingHttpClientConnectionManager;
+import org.apache.http.util.EntityUtils;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 
 import java.io.IOException;
 import java.time.Duration;
+import java.util.ArrayList;
 import java.util.List;
 import java.util.concurrent.Callable;
 import java.util.concurrent.ExecutorService;
@@ -22,8 +25,12 @@ import java.util.concurrent.Executors;
 import java.util.concurrent.Future;
 import java.util.stream.IntStream;
 
+import static com.jonnymatts.jzonbie.JzonbieOptions.options;
+import static com.jonnymatts.jzonbie.ServerTuning.unitTestTuning;
 import static com.jonnymatts.jzonbie.requests.AppRequest.get;
 import static com.jonnymatts.jzonbie.responses.AppResponse.ok;
+import static com.jonnymatts.jzonbie.responses.Throttle.bytesPerSecond;
+import static com.jonnymatts.jzonbie.responses.defaults.StaticDefaultAppResponse.staticDefault;
 import static java.time.temporal.ChronoUnit.SECONDS;
 import static java.util.concurrent.TimeUnit.MILLISECONDS;
 import static java.util.stream.Collectors.toList;
@@ -32,6 +39,8 @@ import static org.assertj.core.api.Assertions.assertThat;
 @ExtendWith(JzonbieExtension.class)
 class JzonbieConcurrencyTest {
 
+    private static final int CONCURRENT_REQUESTS = 50;
+
     private HttpClient httpClient;
 
     @BeforeEach
@@ -90,6 +99,74 @@ class JzonbieConcurrencyTest {
         });
     }
 
+    @Test
+    void jzonbieServesMoreConcurrentDelayedResponsesThanItHasRequestThreads() throws Exception {
+        final Jzonbie jzonbie = new Jzonbie(options().withServerTuning(unitTestTuning()));
+        try {
+            jzonbie.prime(get("/delayed"), staticDefault(ok().withDelay(Duration.of(5, SECONDS))));
+
+            final List<String> got = getConcurrently(jzonbie, "/delayed");
+
+            assertThat(got).hasSize(CONCURRENT_REQUESTS).containsOnly("");
+        } finally {
+            jzonbie.stop();
+        }
+    }
+
+    @Test
+    void jzonbieServesMoreConcurrentThrottledResponsesThanItHasRequestThreads() throws Exception {
+        final String body = Strings.repeat("a", 5000);
+        final Jzonbie jzonbie = new Jzonbie(options().withServerTuning(unitTestTuning()));
+        try {
+            jzonbie.prime(get("/throttled"), staticDefault(ok().withBody(body).withThrottle(bytesPerSecond(1000))));
+
+            final List<String> got = getConcurrently(jzonbie, "/throttled");
+
+            assertThat(got).hasSize(CONCURRENT_REQUESTS).containsOnly(body);
+        } finally {
+            jzonbie.stop();
+        }
+    }
+
+    /**
+     * Sends more concurrent requests than the server has threads and checks that every request
+     * has been handled while none of their responses has finished, which is only possible if
+     * responses do not hold request threads while they are delayed or throttled.
+     */
+    private List<String> getConcurrently(Jzonbie jzonbie, String path) throws Exception {
+        final PoolingHttpClientConnectionManager connectionManager = new PoolingHttpClientConnectionManager();
+        connectionManager.setMaxTotal(CONCURRENT_REQUESTS);
+        connectionManager.setDefaultMaxPerRoute(CONCURRENT_REQUESTS);
+        final HttpClient client = HttpClientBuilder.create().setConnectionManager(connectionManager).build();
+        final ExecutorService executorService = Executors.newFixedThreadPool(CONCURRENT_REQUESTS);
+
+        try {
+            final List<Future<String>> futures = IntStream.range(0, CONCURRENT_REQUESTS)
+                    .mapToObj(i -> executorService.submit(() -> {
+                        final HttpResponse response = client.execute(RequestBuilder.get("http://localhost:" + jzonbie.getHttpPort() + path).build());
+                        assertThat(response.getStatusLine().getStatusCode()).isEqualTo(200);
+                        return EntityUtils.toString(response.getEntity());
+                    }))
+                    .collect(toList());
+
+            final Stopwatch stopwatch = Stopwatch.createStarted();
+            while(jzonbie.getHistory().size() < CONCURRENT_REQUESTS && stopwatch.elapsed(MILLISECONDS) < 30_000) {
+                Thread.sleep(10);
+            }
+            assertThat(jzonbie.getHistory()).hasSize(CONCURRENT_REQUESTS);
+            assertThat(futures).noneMatch(Future::isDone);
+
+            final List<String> got = new ArrayList<>();
+            for(Future<String> future : futures) {
+                got.add(future.get(30_000, MILLISECONDS));
+            }
+            return got;
+        } finally {
+            executorService.shutdownNow();
+            connectionManager.shutdown();
+        }
+    }
+
     private HttpUriRequest createRequest(int i, Jzonbie jzonbie) {
         return RequestBuilder.get("http://localhost:" + jzonbie.getHttpPort() + "/" + i).build();
     }
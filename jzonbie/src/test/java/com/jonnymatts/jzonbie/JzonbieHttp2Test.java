@@ -0,0 +1,136 @@
+package com.jonnymatts.jzonbie;
+
+import com.google.common.base.Strings;
+import com.google.common.io.Resources;
+import org.apache.http.HttpResponse;
+import org.apache.http.client.methods.RequestBuilder;
+import org.apache.http.impl.client.HttpClientBuilder;
+import org.apache.http.util.EntityUtils;
+import org.eclipse.jetty.client.HttpClient;
+import org.eclipse.jetty.client.api.ContentResponse;
+import org.eclipse.jetty.http.HttpVersion;
+import org.eclipse.jetty.http2.api.Session;
+import org.eclipse.jetty.http2.client.HTTP2Client;
+import org.eclipse.jetty.http2.client.http.HttpClientTransportOverHTTP2;
+import org.eclipse.jetty.http2.frames.SettingsFrame;
+import org.eclipse.jetty.util.FuturePromise;
+import org.eclipse.jetty.util.ssl.SslContextFactory;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+
+import java.net.InetSocketAddress;
+import java.time.Duration;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+
+import static com.jonnymatts.jzonbie.Http2Options.http2Options;
+import static com.jonnymatts.jzonbie.HttpsOptions.httpsOptions;
+import static com.jonnymatts.jzonbie.JzonbieOptions.options;
+import static com.jonnymatts.jzonbie.requests.AppRequest.get;
+import static com.jonnymatts.jzonbie.responses.AppResponse.ok;
+import static com.jonnymatts.jzonbie.responses.Throttle.bytesPerSecond;
+import static com.jonnymatts.jzonbie.responses.defaults.DefaultAppResponse.staticDefault;
+import static java.util.concurrent.TimeUnit.SECONDS;
+import static org.apache.http.HttpStatus.SC_OK;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.eclipse.jetty.http2.frames.SettingsFrame.MAX_CONCURRENT_STREAMS;
+import static org.junit.jupiter.api.Assumptions.assumeTrue;
+
+class JzonbieHttp2Test {
+
+    private static final Jzonbie http2Jzonbie = new Jzonbie(options()
+            .withHttps(httpsOptions().withKeystoreLocation(Resources.getResource("test.jks").toString()).withKeystorePassword("jzonbie"))
+            .withHttp2(http2Options().withMaxConcurrentStreams(16)));
+
+    private static HttpClient http2Client;
+
+    @BeforeAll
+    static void setUpClient() throws Exception {
+        http2Client = new HttpClient(new HttpClientTransportOverHTTP2(new HTTP2Client()), new SslContextFactory(true));
+        http2Client.start();
+    }
+
+    @AfterAll
+    static void tearDownClient() throws Exception {
+        http2Client.stop();
+    }
+
+    @AfterEach
+    void tearDown() throws Exception {
+        http2Jzonbie.reset();
+    }
+
+    @Test
+    void jzonbieServesPrimedResponsesOverCleartextHttp2() throws Exception {
+        http2Jzonbie.prime(get("/"), staticDefault(ok().withBody("body")));
+
+        final ContentResponse response = http2Client.GET("http://localhost:" + http2Jzonbie.getHttpPort() + "/");
+
+        assertThat(response.getVersion()).isEqualTo(HttpVersion.HTTP_2);
+        assertThat(response.getStatus()).isEqualTo(SC_OK);
+        assertThat(response.getContentAsString()).isEqualTo("body");
+    }
+
+    @Test
+    void jzonbieServesPrimedResponsesOverHttp2NegotiatedOverHttps() throws Exception {
+        assumeTrue(javaSupportsAlpn(), "HTTP/2 over TLS needs ALPN support from Java 9 or newer");
+
+        http2Jzonbie.prime(get("/"), staticDefault(ok().withBody("body")));
+
+        final ContentResponse response = http2Client.GET("https://localhost:" + http2Jzonbie.getHttpsPort() + "/");
+
+        assertThat(response.getVersion()).isEqualTo(HttpVersion.HTTP_2);
+        assertThat(response.getStatus()).isEqualTo(SC_OK);
+        assertThat(response.getContentAsString()).isEqualTo("body");
+    }
+
+    @Test
+    void jzonbieServesDelayedAndThrottledResponsesOverHttp2() throws Exception {
+        final String body = Strings.repeat("a", 1000);
+        http2Jzonbie.prime(get("/"), staticDefault(ok().withBody(body).withDelay(Duration.ofMillis(100)).withThrottle(bytesPerSecond(5000))));
+
+        final ContentResponse response = http2Client.GET("http://localhost:" + http2Jzonbie.getHttpPort() + "/");
+
+        assertThat(response.getVersion()).isEqualTo(HttpVersion.HTTP_2);
+        assertThat(response.getContentAsString()).isEqualTo(body);
+    }
+
+    @Test
+    void jzonbieStillServesPrimedResponsesOverHttp1() throws Exception {
+        http2Jzonbie.prime(get("/"), staticDefault(ok().withBody("body")));
+
+        final HttpResponse response = HttpClientBuilder.create().build()
+                .execute(RequestBuilder.get("http://localhost:" + http2Jzonbie.getHttpPort() + "/").build());
+
+        assertThat(response.getStatusLine().getProtocolVersion().toString()).isEqualTo("HTTP/1.1");
+        assertThat(response.getStatusLine().getStatusCode()).isEqualTo(SC_OK);
+        assertThat(EntityUtils.toString(response.getEntity())).isEqualTo("body");
+    }
+
+    @Test
+    void jzonbieLimitsConcurrentStreamsPerConnection() throws Exception {
+        final HTTP2Client client = new HTTP2Client();
+        client.start();
+
+        try {
+            final CompletableFuture<Map<Integer, Integer>> settings = new CompletableFuture<>();
+            final FuturePromise<Session> session = new FuturePromise<>();
+            client.connect(new InetSocketAddress("localhost", http2Jzonbie.getHttpPort()), new Session.Listener.Adapter() {
+                @Override
+                public void onSettings(Session session, SettingsFrame frame) {
+                    settings.complete(frame.getSettings());
+                }
+            }, session);
+
+            assertThat(settings.get(5, SECONDS)).containsEntry(MAX_CONCURRENT_STREAMS, 16);
+        } finally {
+            client.stop();
+        }
+    }
+
+    private static boolean javaSupportsAlpn() {
+        return !System.getProperty("java.specification.version").startsWith("1.");
+    }
+}
@@ -23,6 +23,7 @@ import java.security.cert.Certificate;
 
 import static com.jonnymatts.jzonbie.HttpsOptions.httpsOptions;
 import static com.jonnymatts.jzonbie.JzonbieOptions.options;
+import static com.jonnymatts.jzonbie.ServerTuning.unitTestTuning;
 import static com.jonnymatts.jzonbie.requests.AppRequest.get;
 import static com.jonnymatts.jzonbie.responses.AppResponse.ok;
 import static com.jonnymatts.jzonbie.responses.defaults.DefaultAppResponse.staticDefault;
@@ -98,6 +99,23 @@ class JzonbieHttpsTest {
         assertThat(response.getStatusLine().getStatusCode()).isEqualTo(SC_OK);
     }
 
+    @Test
+    void jzonbieServesPrimedResponsesOverHttpsWithServerTuning() throws Exception {
+        final Jzonbie tunedJzonbie = new Jzonbie(options()
+                .withHttps(httpsOptions().withKeystoreLocation(Resources.getResource("test.jks").toString()).withKeystorePassword("jzonbie"))
+                .withServerTuning(unitTestTuning().withOutputBufferSize(1024)));
+
+        try {
+            tunedJzonbie.prime(get("/"), ok());
+
+            final HttpResponse response = httpsClient.execute(RequestBuilder.get("https://localhost:" + tunedJzonbie.getHttpsPort() + "/").build());
+
+            assertThat(response.getStatusLine().getStatusCode()).isEqualTo(SC_OK);
+        } finally {
+            tunedJzonbie.stop();
+        }
+    }
+
     @Test
     void jzonbieCanSetCommonNameOfDefaultSslCertificate() throws Exception {
         new Jzonbie(options().withHttps(HttpsOptions.httpsOptions().withCommonName("notLocalHost")));
@@ -1,7 +1,9 @@
 package com.jonnymatts.jzonbie;
 
 import com.google.common.base.Stopwatch;
+import com.google.common.base.Strings;
 import com.jonnymatts.jzonbie.client.ApacheJzonbieHttpClient;
+import com.jonnymatts.jzonbie.history.Exchange;
 import com.jonnymatts.jzonbie.junit.JzonbieExtension;
 import com.jonnymatts.jzonbie.pippo.JzonbieRoute;
 import com.jonnymatts.jzonbie.priming.PrimedMapping;
@@ -9,6 +11,7 @@ import com.jonnymatts.jzonbie.requests.AppRequest;
 import com.jonnymatts.jzonbie.responses.AppResponse;
 import com.jonnymatts.jzonbie.responses.defaults.DefaultAppResponse;
 import com.jonnymatts.jzonbie.responses.defaults.DynamicDefaultAppResponse;
+import com.jonnymatts.jzonbie.templating.TransformResponseException;
 import com.jonnymatts.jzonbie.verification.VerificationException;
 import org.apache.http.HttpResponse;
 import org.apache.http.client.HttpClient;
@@ -24,11 +27,16 @@ import org.junit.jupiter.api.extension.ExtendWith;
 import java.io.File;
 import java.io.FileNotFoundException;
 import java.io.IOException;
+import java.io.InputStream;
+import java.net.Socket;
 import java.time.Duration;
 import java.util.List;
 import java.util.Objects;
 
 import static com.jonnymatts.jzonbie.JzonbieOptions.options;
+import static com.jonnymatts.jzonbie.ServerTuning.loadTestTuning;
+import static com.jonnymatts.jzonbie.ServerTuning.serverTuning;
+import static com.jonnymatts.jzonbie.ServerTuning.unitTestTuning;
 import static com.jonnymatts.jzonbie.body.ArrayBodyContent.arrayBody;
 import static com.jonnymatts.jzonbie.body.LiteralBodyContent.literalBody;
 import static com.jonnymatts.jzonbie.body.ObjectBodyContent.objectBody;
@@ -39,11 +47,14 @@ import static com.jonnymatts.jzonbie.requests.AppRequest.get;
 import static com.jonnymatts.jzonbie.requests.AppRequest.post;
 import static com.jonnymatts.jzonbie.responses.AppResponse.internalServerError;
 import static com.jonnymatts.jzonbie.responses.AppResponse.ok;
+import static com.jonnymatts.jzonbie.responses.Throttle.bytesPerSecond;
 import static com.jonnymatts.jzonbie.responses.defaults.DynamicDefaultAppResponse.dynamicDefault;
 import static com.jonnymatts.jzonbie.responses.defaults.StaticDefaultAppResponse.staticDefault;
+import static com.jonnymatts.jzonbie.responses.delay.DelayProfile.uniform;
 import static com.jonnymatts.jzonbie.verification.InvocationVerificationCriteria.equalTo;
 import static java.util.Collections.singletonList;
 import static java.util.Collections.singletonMap;
+import static java.util.concurrent.TimeUnit.MILLISECONDS;
 import static org.apache.http.HttpStatus.SC_NOT_FOUND;
 import static org.apache.http.HttpStatus.SC_OK;
 import static org.assertj.core.api.Assertions.*;
@@ -179,6 +190,15 @@ class JzonbieTest {
         assertPrimingFromExamplePrimingFile(currentPriming);
     }
 
+    @Test
+    void jzonbieCanBePrimedWithAnInitialPrimingDirectory() {
+        Jzonbie jzonbieWithInitialPrimings = new Jzonbie(options().withInitialPrimingFile(getExamplePrimingFile().getParentFile()));
+
+        final List<PrimedMapping> currentPriming = jzonbieWithInitialPrimings.getCurrentPriming();
+
+        assertPrimingFromExamplePrimingFile(currentPriming);
+    }
+
     @Test
     void jzonbieWithAMissingInitialPrimingFile() {
         assertThatExceptionOfType(RuntimeException.class).isThrownBy(
@@ -259,6 +279,140 @@ class JzonbieTest {
         assertThat(got).isEmpty();
     }
 
+    @Test
+    void dynamicDefaultServesTheCurrentStateOfTheSuppliedResponse(Jzonbie jzonbie) throws Exception {
+        final AppResponse response = ok().withHeader("Version", "1").withBody(literalBody("first"));
+        jzonbie.prime(get("/"), dynamicDefault(() -> response));
+
+        final HttpResponse first = client.execute(httpRequest);
+        assertThat(EntityUtils.toString(first.getEntity())).isEqualTo("first");
+
+        response.withHeader("Version", "2").setBody(literalBody("second"));
+
+        final HttpResponse second = client.execute(httpRequest);
+        assertThat(second.getFirstHeader("Version").getValue()).isEqualTo("2");
+        assertThat(EntityUtils.toString(second.getEntity())).isEqualTo("second");
+    }
+
+    @Test
+    void currentPrimingAndHistoryResponsesAreReadOnlyButCanBeCopied(Jzonbie jzonbie) throws Exception {
+        jzonbie.prime(get("/"), staticDefault(ok().withHeader("Version", "1")));
+        EntityUtils.consume(client.execute(httpRequest).getEntity());
+
+        final AppResponse primed = jzonbie.getCurrentPriming().get(0).getResponses().getDefault().get().getResponse();
+        final AppResponse called = jzonbie.getHistory().get(0).getResponse();
+
+        assertThatThrownBy(() -> primed.withHeader("Version", "2")).isInstanceOf(UnsupportedOperationException.class);
+        assertThatThrownBy(() -> called.withHeader("Version", "2")).isInstanceOf(UnsupportedOperationException.class);
+        assertThat(new AppResponse(primed).withHeader("Version", "2").getHeaders()).containsEntry("Version", "2");
+    }
+
+    @Test
+    void historyRecordsDelaySampledFromDelayProfile(Jzonbie jzonbie) throws Exception {
+        jzonbie.prime(get("/"), ok().withDelay(uniform(Duration.ofMillis(100), Duration.ofMillis(200))));
+
+        final Stopwatch stopwatch = Stopwatch.createStarted();
+        EntityUtils.consume(client.execute(httpRequest).getEntity());
+        stopwatch.stop();
+
+        final List<Exchange> got = jzonbie.getHistory();
+
+        assertThat(got).hasSize(1);
+        assertThat(got.get(0).getDelay()).hasValueSatisfying(delay -> {
+            assertThat(delay).isBetween(Duration.ofMillis(100), Duration.ofMillis(200));
+            assertThat(stopwatch.elapsed()).isGreaterThanOrEqualTo(delay);
+        });
+    }
+
+    @Test
+    void throttledResponseBodyIsTrickledAfterTimeToFirstByte(Jzonbie jzonbie) throws Exception {
+        final String body = Strings.repeat("a", 500);
+        jzonbie.prime(get("/"), ok().withHeader("Version", "1").withBody(body).withThrottle(bytesPerSecond(1000).withChunkSize(100).withTimeToFirstByte(Duration.ofMillis(200))));
+
+        final Stopwatch stopwatch = Stopwatch.createStarted();
+        final HttpResponse got = client.execute(httpRequest);
+        final long headersReceived = stopwatch.elapsed(MILLISECONDS);
+        final String gotBody = EntityUtils.toString(got.getEntity());
+        stopwatch.stop();
+
+        assertThat(got.getStatusLine().getStatusCode()).isEqualTo(SC_OK);
+        assertThat(got.getFirstHeader("Version").getValue()).isEqualTo("1");
+        assertThat(gotBody).isEqualTo(body);
+        assertThat(headersReceived).isLessThan(200);
+        assertThat(stopwatch.elapsed(MILLISECONDS)).isGreaterThanOrEqualTo(590);
+    }
+
+    @Test
+    void jzonbieServesRequestsInVirtualThreadExecutionMode() throws Exception {
+        final Jzonbie jzonbie = new Jzonbie(options().withExecutionMode(ExecutionMode.VIRTUAL_THREADS));
+
+        try {
+            jzonbie.prime(get("/"), ok().withBody("body"));
+
+            final HttpResponse got = client.execute(RequestBuilder.get("http://localhost:" + jzonbie.getHttpPort() + "/").build());
+
+            assertThat(got.getStatusLine().getStatusCode()).isEqualTo(SC_OK);
+            assertThat(EntityUtils.toString(got.getEntity())).isEqualTo("body");
+        } finally {
+            jzonbie.stop();
+        }
+    }
+
+    @Test
+    void jzonbieServesRequestsWithUnitTestServerTuning() throws Exception {
+        final Jzonbie jzonbie = new Jzonbie(options().withServerTuning(unitTestTuning()));
+
+        try {
+            jzonbie.prime(get("/"), ok().withBody("body"));
+
+            final HttpResponse got = client.execute(RequestBuilder.get("http://localhost:" + jzonbie.getHttpPort() + "/").build());
+
+            assertThat(got.getStatusLine().getStatusCode()).isEqualTo(SC_OK);
+            assertThat(EntityUtils.toString(got.getEntity())).isEqualTo("body");
+        } finally {
+            jzonbie.stop();
+        }
+    }
+
+    @Test
+    void jzonbieServesRequestsWithLoadTestServerTuning() throws Exception {
+        final Jzonbie jzonbie = new Jzonbie(options().withServerTuning(loadTestTuning()));
+
+        try {
+            jzonbie.prime(get("/"), ok().withBody(Strings.repeat("a", 100_000)));
+
+            final HttpResponse got = client.execute(RequestBuilder.get("http://localhost:" + jzonbie.getHttpPort() + "/").build());
+
+            assertThat(got.getStatusLine().getStatusCode()).isEqualTo(SC_OK);
+            assertThat(EntityUtils.toString(got.getEntity())).hasSize(100_000);
+        } finally {
+            jzonbie.stop();
+        }
+    }
+
+    @Test
+    void jzonbieClosesConnectionsThatAreIdleForTheTunedIdleTimeout() throws Exception {
+        final Jzonbie jzonbie = new Jzonbie(options().withServerTuning(serverTuning().withIdleTimeout(Duration.ofMillis(200))));
+
+        try (final Socket socket = new Socket("localhost", jzonbie.getHttpPort())) {
+            socket.setSoTimeout(5000);
+            final InputStream inputStream = socket.getInputStream();
+
+            final Stopwatch stopwatch = Stopwatch.createStarted();
+            assertThat(inputStream.read()).isEqualTo(-1);
+            assertThat(stopwatch.elapsed(MILLISECONDS)).isBetween(100L, 2000L);
+        } finally {
+            jzonbie.stop();
+        }
+    }
+
+    @Test
+    void jzonbieFailsToStartWhenTunedWithMoreMinimumThanMaximumThreads() throws Exception {
+        assertThatThrownBy(() -> new Jzonbie(options().withServerTuning(serverTuning().withMinThreads(20).withMaxThreads(10))))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessageContaining("Minimum threads (20)");
+    }
+
     @Test
     void stopDoesNotDelayIfNotConfiguredTo() {
         final Jzonbie jzonbie = new Jzonbie(options());
@@ -378,6 +532,15 @@ class JzonbieTest {
         }
     }
 
+    @Test
+    void primeThrowsExceptionIfTemplateIsInvalid(Jzonbie jzonbie) {
+        assertThatThrownBy(() -> jzonbie.prime(get("/templated/path"), ok().templated().withBody(literalBody("{{#if}}"))))
+                .isInstanceOf(TransformResponseException.class)
+                .hasMessageContaining("{{#if}}");
+
+        assertThat(jzonbie.getCurrentPriming()).isEmpty();
+    }
+
     @Test
     void getHttpsPortThrowsExceptionIfHttpsIsNotConfigured(Jzonbie jzonbie) {
         assertThatThrownBy(jzonbie::getHttpsPort)
@@ -1,6 +1,7 @@
 package com.jonnymatts.jzonbie;
 
 import com.flextrade.jfixture.JFixture;
+import com.jonnymatts.jzonbie.priming.MatchingStrategy;
 import com.jonnymatts.jzonbie.priming.PrimingContext;
 import com.jonnymatts.jzonbie.priming.ZombiePriming;
 import com.jonnymatts.jzonbie.requests.AppRequest;
@@ -14,11 +15,17 @@ import org.junit.jupiter.api.Test;
 import java.util.HashSet;
 import java.util.List;
 import java.util.Set;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
 import java.util.stream.Collectors;
 import java.util.stream.IntStream;
 
 import static com.jonnymatts.jzonbie.body.ObjectBodyContent.objectBody;
 import static com.jonnymatts.jzonbie.requests.AppRequest.get;
+import static com.jonnymatts.jzonbie.responses.defaults.StaticDefaultAppResponse.staticDefault;
+import static java.util.Collections.emptyList;
 
 @Disabled("Run this only if you are changing the priming context")
 class PrimingContextPerformanceTest {
@@ -81,4 +88,79 @@ class PrimingContextPerformanceTest {
         time = stopWatch.getTime();
         System.out.println(time + " ms elapsed getting " + indices.size() + " requests");
     }
-}
\ No newline at end of file
+
+    @Test
+    void getResponseTimeStaysFlatAsDistinctPathPrimingsGrow() {
+        for (int size : new int[]{1_000, 10_000, 100_000, 1_000_000}) {
+            final PrimingContext context = new PrimingContext();
+            IntStream.range(0, size).forEach(i -> context.addDefault(get("/tenants/" + i + "/orders").withHeader("X-Tenant-Id", "" + i), staticDefault(AppResponse.ok())));
+            IntStream.range(0, 100).forEach(i -> context.add(get("/tenants/" + i + "/orders/[0-9]+"), AppResponse.ok()));
+
+            final StopWatch stopWatch = new StopWatch();
+            stopWatch.start();
+            for (int i = 0; i < 1000; i++) {
+                final int index = RandomUtils.nextInt(0, size);
+                final AppRequest request = get("/tenants/" + index + "/orders").withHeader("X-Tenant-Id", "" + index);
+                context.getResponse(request).get();
+            }
+            stopWatch.stop();
+            System.out.println(stopWatch.getTime() + " ms elapsed getting 1000 requests from " + size + " primings");
+        }
+    }
+
+    @Test
+    void getResponseThroughputScalesWithThreads() throws Exception {
+        final PrimingContext context = new PrimingContext();
+        IntStream.range(0, 1000).forEach(i -> context.addDefault(get("/tenants/" + i + "/orders"), staticDefault(AppResponse.ok())));
+
+        for (int threads : new int[]{1, 2, 4, 8, 16}) {
+            final ExecutorService executor = Executors.newFixedThreadPool(threads);
+            final List<Callable<Void>> tasks = IntStream.range(0, threads).<Callable<Void>>mapToObj(t -> () -> {
+                for (int i = 0; i < 200_000; i++) {
+                    context.getResponse(get("/tenants/" + RandomUtils.nextInt(0, 1000) + "/orders")).get();
+                }
+                return null;
+            }).collect(Collectors.toList());
+
+            final StopWatch stopWatch = new StopWatch();
+            stopWatch.start();
+            for (Future<Void> future : executor.invokeAll(tasks)) {
+                future.get();
+            }
+            stopWatch.stop();
+            executor.shutdown();
+
+            final long requests = threads * 200_000L;
+            System.out.println(threads + " threads: " + (requests * 1000 / Math.max(1, stopWatch.getTime())) + " requests/s");
+        }
+    }
+
+    @Test
+    void sequentialAndParallelMatchingCrossover() {
+        final MatchingStrategy parallel = MatchingStrategy.parallel(0, Runtime.getRuntime().availableProcessors());
+        try {
+            for (int candidates : new int[]{1, 5, 50, 100, 250, 500, 1_000, 2_500, 5_000, 10_000, 50_000}) {
+                final long sequentialNanos = timeLastCandidateLookup(new PrimingContext(emptyList(), MatchingStrategy.sequential()), candidates);
+                final long parallelNanos = timeLastCandidateLookup(new PrimingContext(emptyList(), parallel), candidates);
+                System.out.println(candidates + " candidates: sequential " + sequentialNanos / 1000 + " us, parallel " + parallelNanos / 1000 + " us per lookup");
+            }
+        } finally {
+            parallel.shutdown();
+        }
+    }
+
+    private long timeLastCandidateLookup(PrimingContext context, int candidates) {
+        IntStream.range(0, candidates).forEach(i -> context.addDefault(get("/path").withHeader("X-Tenant-Id", "tenant-" + i + "-.*"), staticDefault(AppResponse.ok())));
+        final AppRequest request = get("/path").withHeader("X-Tenant-Id", "tenant-" + (candidates - 1) + "-id");
+        final int iterations = Math.max(100, 1_000_000 / candidates);
+
+        for (int i = 0; i < iterations; i++) {
+            context.getResponse(request).get();
+        }
+        final long start = System.nanoTime();
+        for (int i = 0; i < iterations; i++) {
+            context.getResponse(request).get();
+        }
+        return (System.nanoTime() - start) / iterations;
+    }
+}
@@ -0,0 +1,80 @@
+package com.jonnymatts.jzonbie;
+
+import com.jonnymatts.jzonbie.templating.JzonbieHandlebars;
+import com.jonnymatts.jzonbie.templating.ResponseTransformer;
+import com.jonnymatts.jzonbie.templating.TransformationContext;
+import com.jonnymatts.jzonbie.templating.TransformationContext.RequestContext;
+import org.junit.jupiter.api.Disabled;
+import org.junit.jupiter.api.Test;
+
+import java.lang.management.ManagementFactory;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Supplier;
+
+import static java.util.Collections.singletonList;
+import static java.util.Collections.singletonMap;
+
+@Disabled("Run this only if you are changing the transformation context")
+class TransformationContextPerformanceTest {
+
+    private static final int ITERATIONS = 1_000_000;
+
+    private final ResponseTransformer responseTransformer = new ResponseTransformer(new JzonbieHandlebars());
+    private final com.sun.management.ThreadMXBean threads = (com.sun.management.ThreadMXBean) ManagementFactory.getThreadMXBean();
+
+    private final Map<String, List<String>> queryParams = singletonMap("page", singletonList("1"));
+    private final Map<String, String> headers = singletonMap("Accept", "application/json");
+
+    @Test
+    void allocationsOfTemplateReadingOnlyPathAgainstEveryDerivedValue() {
+        for (int round = 0; round < 3; round++) {
+            final Measurement pathOnly = measure(() -> responseTransformer.transformBody(context(), "{{ request.path }}"));
+            final Measurement eager = measure(() -> {
+                final TransformationContext context = context();
+                final RequestContext request = context.getRequest();
+                request.getHost();
+                request.getBaseUrl();
+                request.getPathSegment();
+                request.getBody();
+                return responseTransformer.transformBody(context, "{{ request.path }}");
+            });
+            final Measurement derived = measure(() -> responseTransformer.transformBody(context(), "{{ request.baseUrl }}/{{ request.pathSegment.[1] }}"));
+
+            System.out.println("path only " + pathOnly + ", path after computing every value " + eager + ", derived values " + derived);
+        }
+    }
+
+    private TransformationContext context() {
+        return new TransformationContext("http", "http://localhost:8080/tenants/1/orders", 8080, "/tenants/1/orders", queryParams, headers, "GET", "{\"page\":1}");
+    }
+
+    private Measurement measure(Supplier<String> transform) {
+        long blackhole = 0;
+        final long thread = Thread.currentThread().getId();
+        final long startBytes = threads.getThreadAllocatedBytes(thread);
+        final long start = System.nanoTime();
+        for (int i = 0; i < ITERATIONS; i++) {
+            blackhole += transform.get().length();
+        }
+        final long nanos = (System.nanoTime() - start) / ITERATIONS;
+        final long bytes = (threads.getThreadAllocatedBytes(thread) - startBytes) / ITERATIONS;
+        if (blackhole == 42) System.out.println();
+        return new Measurement(nanos, bytes);
+    }
+
+    private static class Measurement {
+        private final long nanos;
+        private final long bytes;
+
+        private Measurement(long nanos, long bytes) {
+            this.nanos = nanos;
+            this.bytes = bytes;
+        }
+
+        @Override
+        public String toString() {
+            return nanos + " ns and " + bytes + " bytes per request";
+        }
+    }
+}
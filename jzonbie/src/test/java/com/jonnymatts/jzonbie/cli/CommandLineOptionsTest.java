@@ -1,12 +1,19 @@
 package com.jonnymatts.jzonbie.cli;
 
+import com.jonnymatts.jzonbie.Http2Options;
 import com.jonnymatts.jzonbie.HttpsOptions;
 import com.jonnymatts.jzonbie.JzonbieOptions;
+import com.jonnymatts.jzonbie.ServerTuning;
 import org.junit.jupiter.api.Test;
 import picocli.CommandLine;
 
 import java.io.File;
+import java.time.Duration;
 
+import static com.jonnymatts.jzonbie.ExecutionMode.PLATFORM_THREADS;
+import static com.jonnymatts.jzonbie.ExecutionMode.VIRTUAL_THREADS;
+import static com.jonnymatts.jzonbie.ServerTuning.Preset.LOAD_TEST;
+import static com.jonnymatts.jzonbie.ServerTuning.Preset.UNIT_TEST;
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 
@@ -20,6 +27,7 @@ class CommandLineOptionsTest {
         assertThat(commandLineOptions.httpPort).isNull();
         assertThat(commandLineOptions.httpPort).isNull();
         assertThat(commandLineOptions.httpsEnabled).isFalse();
+        assertThat(commandLineOptions.http2Enabled).isFalse();
         assertThat(commandLineOptions.httpsPort).isNull();
         assertThat(commandLineOptions.keystoreLocation).isNull();
         assertThat(commandLineOptions.keystorePassword).isNull();
@@ -111,6 +119,20 @@ class CommandLineOptionsTest {
         assertThat(commandLineOptions.commonName).isEqualTo("common-name");
     }
 
+    @Test
+    void http2Enabled() {
+        final CommandLineOptions commandLineOptions = getCommandLineOptions("--http2");
+
+        assertThat(commandLineOptions.http2Enabled).isTrue();
+    }
+
+    @Test
+    void http2MaxConcurrentStreams() {
+        final CommandLineOptions commandLineOptions = getCommandLineOptions("--http2-max-concurrent-streams", "1000");
+
+        assertThat(commandLineOptions.http2MaxConcurrentStreams).isEqualTo(1000);
+    }
+
     @Test
     void callHistoryCapacity() {
         final CommandLineOptions commandLineOptions = getCommandLineOptions("--call-history-capacity", "100");
@@ -131,6 +153,67 @@ class CommandLineOptionsTest {
         assertThat(commandLineOptions.initialPrimingFile).isEqualTo(new File("missing-file"));
     }
 
+    @Test
+    void parallelMatchingThreshold() {
+        final CommandLineOptions commandLineOptions = getCommandLineOptions("--parallel-matching-threshold", "500");
+
+        assertThat(commandLineOptions.parallelMatchingThreshold).isEqualTo(500);
+    }
+
+    @Test
+    void matchingParallelism() {
+        final CommandLineOptions commandLineOptions = getCommandLineOptions("--matching-parallelism", "4");
+
+        assertThat(commandLineOptions.matchingParallelism).isEqualTo(4);
+    }
+
+    @Test
+    void executionMode() {
+        final CommandLineOptions commandLineOptions = getCommandLineOptions("--execution-mode", "VIRTUAL_THREADS");
+
+        assertThat(commandLineOptions.executionMode).isEqualTo(VIRTUAL_THREADS);
+    }
+
+    @Test
+    void serverTuningPreset() {
+        final CommandLineOptions commandLineOptions = getCommandLineOptions("--server-tuning", "LOAD_TEST");
+
+        assertThat(commandLineOptions.serverTuningPreset).isEqualTo(LOAD_TEST);
+    }
+
+    @Test
+    void serverTuning() {
+        final CommandLineOptions commandLineOptions = getCommandLineOptions(
+                "--min-threads", "4",
+                "--max-threads", "16",
+                "--acceptors", "1",
+                "--selectors", "2",
+                "--accept-queue-size", "128",
+                "--idle-timeout", "5000",
+                "--output-buffer-size", "1024"
+        );
+
+        assertThat(commandLineOptions.minThreads).isEqualTo(4);
+        assertThat(commandLineOptions.maxThreads).isEqualTo(16);
+        assertThat(commandLineOptions.acceptors).isEqualTo(1);
+        assertThat(commandLineOptions.selectors).isEqualTo(2);
+        assertThat(commandLineOptions.acceptQueueSize).isEqualTo(128);
+        assertThat(commandLineOptions.idleTimeout).isEqualTo(5000L);
+        assertThat(commandLineOptions.outputBufferSize).isEqualTo(1024);
+    }
+
+    @Test
+    void toJzonbieOptionsAdjustsServerTuningPreset() {
+        final JzonbieOptions jzonbieOptions = CommandLineOptions.toJzonbieOptions(
+                CommandLineOptions.parse(new String[]{"--server-tuning", "UNIT_TEST", "--max-threads", "16"})
+        );
+
+        final ServerTuning serverTuning = jzonbieOptions.getServerTuning();
+        assertThat(serverTuning.getMinThreads()).isEqualTo(UNIT_TEST.tuning().getMinThreads());
+        assertThat(serverTuning.getMaxThreads()).contains(16);
+        assertThat(serverTuning.getIdleTimeout()).isEqualTo(UNIT_TEST.tuning().getIdleTimeout());
+    }
+
     @Test
     void toJzonbieOptions() {
         final JzonbieOptions jzonbieOptions = CommandLineOptions.toJzonbieOptions(
@@ -142,8 +225,20 @@ class CommandLineOptionsTest {
                                 "-k", "keystore",
                                 "-kp", "password",
                                 "-cn", "common-name",
+                                "--http2",
+                                "--http2-max-concurrent-streams", "1000",
                                 "--call-history-capacity", "100",
                                 "--failed-requests-capacity", "50",
+                                "--parallel-matching-threshold", "500",
+                                "--matching-parallelism", "4",
+                                "--execution-mode", "VIRTUAL_THREADS",
+                                "--min-threads", "4",
+                                "--max-threads", "16",
+                                "--acceptors", "1",
+                                "--selectors", "2",
+                                "--accept-queue-size", "128",
+                                "--idle-timeout", "5000",
+                                "--output-buffer-size", "1024",
                         }
                 )
         );
@@ -152,12 +247,27 @@ class CommandLineOptionsTest {
         assertThat(jzonbieOptions.getZombieHeaderName()).isEqualTo("name");
         assertThat(jzonbieOptions.getCallHistoryCapacity()).isEqualTo(100);
         assertThat(jzonbieOptions.getFailedRequestsCapacity()).isEqualTo(50);
+        assertThat(jzonbieOptions.getParallelMatchingThreshold()).isEqualTo(500);
+        assertThat(jzonbieOptions.getMatchingParallelism()).isEqualTo(4);
+        assertThat(jzonbieOptions.getExecutionMode()).isEqualTo(VIRTUAL_THREADS);
+
+        final ServerTuning serverTuning = jzonbieOptions.getServerTuning();
+        assertThat(serverTuning.getMinThreads()).contains(4);
+        assertThat(serverTuning.getMaxThreads()).contains(16);
+        assertThat(serverTuning.getAcceptors()).contains(1);
+        assertThat(serverTuning.getSelectors()).contains(2);
+        assertThat(serverTuning.getAcceptQueueSize()).contains(128);
+        assertThat(serverTuning.getIdleTimeout()).contains(Duration.ofMillis(5000));
+        assertThat(serverTuning.getOutputBufferSize()).contains(1024);
 
         final HttpsOptions httpsOptions = jzonbieOptions.getHttpsOptions().get();
         assertThat(httpsOptions.getPort()).isEqualTo(8001);
         assertThat(httpsOptions.getKeystoreLocation()).contains("keystore");
         assertThat(httpsOptions.getKeystorePassword()).contains("password");
         assertThat(httpsOptions.getCommonName()).isEqualTo("common-name");
+
+        final Http2Options http2Options = jzonbieOptions.getHttp2Options().get();
+        assertThat(http2Options.getMaxConcurrentStreams()).isEqualTo(1000);
     }
 
     @Test
@@ -167,7 +277,11 @@ class CommandLineOptionsTest {
         assertThat(jzonbieOptions.getHttpPort()).isZero();
         assertThat(jzonbieOptions.getZombieHeaderName()).isEqualTo("zombie");
         assertThat(jzonbieOptions.getHttpsOptions()).isEmpty();
+        assertThat(jzonbieOptions.getHttp2Options()).isEmpty();
         assertThat(jzonbieOptions.getCallHistoryCapacity()).isEqualTo(1000);
+        assertThat(jzonbieOptions.getExecutionMode()).isEqualTo(PLATFORM_THREADS);
+        assertThat(jzonbieOptions.getServerTuning().getMaxThreads()).isEmpty();
+        assertThat(jzonbieOptions.getServerTuning().getIdleTimeout()).isEmpty();
     }
 
     private CommandLineOptions getCommandLineOptions(String... args) {
@@ -0,0 +1,92 @@
+package com.jonnymatts.jzonbie.jetty;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+
+import static java.lang.Thread.State.WAITING;
+import static java.time.Duration.ofMillis;
+import static java.util.Arrays.asList;
+import static java.util.concurrent.TimeUnit.SECONDS;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class HashedWheelTimerTest {
+
+    private final HashedWheelTimer timer = new HashedWheelTimer(Thread::new, ofMillis(1), 8);
+
+    @AfterEach
+    void tearDown() {
+        timer.stop();
+    }
+
+    @Test
+    void scheduleRunsTasksInDelayOrderAfterTheirDelay() throws Exception {
+        final List<Integer> got = new CopyOnWriteArrayList<>();
+        final CountDownLatch latch = new CountDownLatch(3);
+        final long start = System.nanoTime();
+
+        timer.schedule(() -> { got.add(3); latch.countDown(); }, ofMillis(60));
+        timer.schedule(() -> { got.add(1); latch.countDown(); }, ofMillis(5));
+        timer.schedule(() -> { got.add(2); latch.countDown(); }, ofMillis(30));
+
+        assertThat(latch.await(5, SECONDS)).isTrue();
+        assertThat(Duration.ofNanos(System.nanoTime() - start)).isGreaterThanOrEqualTo(ofMillis(60));
+        assertThat(got).isEqualTo(asList(1, 2, 3));
+    }
+
+    @Test
+    void scheduleRunsTasksWithDelaysLongerThanTheWheel() throws Exception {
+        final CountDownLatch latch = new CountDownLatch(1);
+        final long start = System.nanoTime();
+
+        timer.schedule(latch::countDown, ofMillis(50));
+
+        assertThat(latch.await(5, SECONDS)).isTrue();
+        assertThat(Duration.ofNanos(System.nanoTime() - start)).isGreaterThanOrEqualTo(ofMillis(50));
+    }
+
+    @Test
+    void timerThreadParksWithoutTimeoutWhileNoTasksArePendingAndWakesForNextTask() throws Exception {
+        final CompletableFuture<Thread> worker = new CompletableFuture<>();
+        final HashedWheelTimer timer = new HashedWheelTimer(task -> {
+            final Thread thread = new Thread(task);
+            worker.complete(thread);
+            return thread;
+        }, ofMillis(1), 8);
+
+        try {
+            final CountDownLatch first = new CountDownLatch(1);
+            timer.schedule(first::countDown, ofMillis(5));
+            assertThat(first.await(5, SECONDS)).isTrue();
+
+            final long deadline = System.nanoTime() + SECONDS.toNanos(5);
+            while(worker.get().getState() != WAITING && System.nanoTime() < deadline) {
+                Thread.sleep(10);
+            }
+            assertThat(worker.get().getState()).isEqualTo(WAITING);
+
+            final CountDownLatch second = new CountDownLatch(1);
+            final long start = System.nanoTime();
+            timer.schedule(second::countDown, ofMillis(20));
+
+            assertThat(second.await(5, SECONDS)).isTrue();
+            assertThat(Duration.ofNanos(System.nanoTime() - start)).isGreaterThanOrEqualTo(ofMillis(20));
+        } finally {
+            timer.stop();
+        }
+    }
+
+    @Test
+    void scheduleThrowsExceptionOnceStopped() throws Exception {
+        timer.stop();
+
+        assertThatThrownBy(() -> timer.schedule(() -> {}, ofMillis(1)))
+                .isExactlyInstanceOf(IllegalStateException.class);
+    }
+}
@@ -0,0 +1,87 @@
+package com.jonnymatts.jzonbie.jetty;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+
+import static java.util.concurrent.TimeUnit.SECONDS;
+import static org.assertj.core.api.Assertions.assertThat;
+
+class VirtualThreadPoolTest {
+
+    private final VirtualThreadPool pool = new VirtualThreadPool(Thread::new);
+
+    @BeforeEach
+    void setUp() throws Exception {
+        pool.start();
+    }
+
+    @AfterEach
+    void tearDown() throws Exception {
+        pool.stop();
+    }
+
+    @Test
+    void executeRunsEveryTaskOnItsOwnThreadWithoutLimit() throws Exception {
+        final int tasks = 300;
+        final CountDownLatch running = new CountDownLatch(tasks);
+        final CountDownLatch release = new CountDownLatch(1);
+
+        for(int i = 0; i < tasks; i++) {
+            pool.execute(() -> {
+                running.countDown();
+                try {
+                    release.await();
+                } catch (InterruptedException ignored) {}
+            });
+        }
+
+        assertThat(running.await(5, SECONDS)).isTrue();
+        assertThat(pool.getThreads()).isEqualTo(tasks);
+        assertThat(pool.isLowOnThreads()).isFalse();
+
+        release.countDown();
+    }
+
+    @Test
+    void executeKeepsNoIdleThreads() throws Exception {
+        final CountDownLatch finished = new CountDownLatch(1);
+        pool.execute(finished::countDown);
+        finished.await(5, SECONDS);
+
+        final long deadline = System.nanoTime() + SECONDS.toNanos(5);
+        while(pool.getThreads() > 0 && System.nanoTime() < deadline) {
+            Thread.sleep(10);
+        }
+
+        assertThat(pool.getThreads()).isZero();
+    }
+
+    @Test
+    void createReturnsPoolOfVirtualThreadsOnlyOnJava21OrNewer() throws Exception {
+        final Optional<VirtualThreadPool> virtualThreadPool = VirtualThreadPool.create("virtual-");
+
+        assertThat(virtualThreadPool.isPresent()).isEqualTo(javaVersion() >= 21);
+        if(!virtualThreadPool.isPresent()) return;
+
+        final CompletableFuture<Thread> thread = new CompletableFuture<>();
+        virtualThreadPool.get().start();
+        try {
+            virtualThreadPool.get().execute(() -> thread.complete(Thread.currentThread()));
+
+            assertThat(Thread.class.getMethod("isVirtual").invoke(thread.get(5, SECONDS))).isEqualTo(true);
+            assertThat(thread.get().getName()).startsWith("virtual-");
+        } finally {
+            virtualThreadPool.get().stop();
+        }
+    }
+
+    private static int javaVersion() {
+        final String version = System.getProperty("java.specification.version");
+        return Integer.parseInt(version.startsWith("1.") ? version.substring(2) : version);
+    }
+}
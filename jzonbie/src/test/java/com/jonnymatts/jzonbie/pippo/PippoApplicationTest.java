@@ -10,10 +10,10 @@ import com.jonnymatts.jzonbie.jackson.JzonbieObjectMapper;
 import com.jonnymatts.jzonbie.priming.AppRequestFactory;
 import com.jonnymatts.jzonbie.priming.PrimedMapping;
 import com.jonnymatts.jzonbie.priming.PrimingContext;
+import com.jonnymatts.jzonbie.priming.PrimingFileLoader;
 import com.jonnymatts.jzonbie.priming.ZombiePriming;
 import com.jonnymatts.jzonbie.requests.AppRequest;
 import com.jonnymatts.jzonbie.requests.AppRequestHandler;
-import com.jonnymatts.jzonbie.requests.PrimedMappingUploader;
 import com.jonnymatts.jzonbie.requests.ZombieRequestHandler;
 import com.jonnymatts.jzonbie.responses.AppResponse;
 import com.jonnymatts.jzonbie.responses.CurrentPrimingFileResponseFactory;
@@ -30,6 +30,7 @@ import org.junit.jupiter.api.Test;
 import ro.pippo.core.Pippo;
 import ro.pippo.core.util.IoUtils;
 
+import java.net.ServerSocket;
 import java.time.Duration;
 import java.util.List;
 import java.util.Map;
@@ -42,6 +43,8 @@ import static com.jonnymatts.jzonbie.responses.AppResponse.*;
 import static com.jonnymatts.jzonbie.responses.defaults.StaticDefaultAppResponse.staticDefault;
 import static io.restassured.RestAssured.given;
 import static java.time.temporal.ChronoUnit.SECONDS;
+import static java.nio.charset.StandardCharsets.UTF_8;
+import static java.util.Collections.emptyList;
 import static java.util.Collections.singletonList;
 import static java.util.Collections.singletonMap;
 import static java.util.concurrent.TimeUnit.MILLISECONDS;
@@ -59,10 +62,10 @@ class PippoApplicationTest {
     private static final ObjectMapper objectMapper = new JzonbieObjectMapper();
     private static final Deserializer deserializer = new Deserializer(objectMapper);
     private static final AppRequestHandler appRequestHandler = new AppRequestHandler(primingContext, callHistory, failedRequests, new AppRequestFactory(deserializer));
-    private static final PrimedMappingUploader primedMappingUploader = new PrimedMappingUploader(primingContext);
-    private static final ZombieRequestHandler zombieRequestHandler = new ZombieRequestHandler("zombie", primingContext, callHistory, failedRequests, deserializer, new CurrentPrimingFileResponseFactory(objectMapper), primedMappingUploader, new HttpsSupport());
+    private static final PrimingFileLoader primingFileLoader = new PrimingFileLoader(deserializer, primingContext, 1);
+    private static final ZombieRequestHandler zombieRequestHandler = new ZombieRequestHandler("zombie", primingContext, callHistory, failedRequests, deserializer, new CurrentPrimingFileResponseFactory(objectMapper), primingFileLoader, new HttpsSupport());
     private static final ResponseTransformer responseTransformer = new ResponseTransformer(new JzonbieHandlebars());
-    private static final PippoResponder pippoResponder = new PippoResponder(responseTransformer, objectMapper);
+    private static final PippoResponder pippoResponder = new PippoResponder(responseTransformer, objectMapper, false);
 
     private AppRequest appRequest;
     private AppResponse appResponse;
@@ -71,7 +74,7 @@ class PippoApplicationTest {
 
     @BeforeAll
     static void beforeAll() {
-        final PippoApplication application = new PippoApplication("zombie", singletonList(JzonbieRoute.get("/ready", c -> c.getRouteContext().getResponse().ok())), appRequestHandler, zombieRequestHandler, pippoResponder);
+        final PippoApplication application = new PippoApplication("zombie", singletonList(JzonbieRoute.get("/ready", c -> c.getRouteContext().getResponse().ok())), appRequestHandler, zombieRequestHandler, pippoResponder, Readiness.ready());
         final Pippo pippo = new Pippo(application);
         pippo.start();
         RestAssured.port = pippo.getServer().getPort();
@@ -134,11 +137,7 @@ class PippoApplicationTest {
                 .post("/");
         pippoResponse.then().statusCode(201);
         pippoResponse.then().contentType(ContentType.JSON);
-        pippoResponse.then().body("[0].request.path", equalTo("/path"));
-        pippoResponse.then().body("[0].responses.default.static.statusCode", CoreMatchers.equalTo(200));
-        pippoResponse.then().body("[0].responses.default.static.body.object.key", equalTo("val"));
-        pippoResponse.then().body("[0].responses.primed[0].statusCode", CoreMatchers.equalTo(201));
-        pippoResponse.then().body("[0].responses.primed[0].body.object.key", equalTo("val"));
+        pippoResponse.then().body("mappings", CoreMatchers.equalTo(1));
 
         assertThat(primingContext.getCurrentPriming()).hasSize(1);
 
@@ -302,6 +301,30 @@ class PippoApplicationTest {
         assertThat(responseBody).containsOnly(entry("error", errorMessage));
     }
 
+    @Test
+    void testAppRequestWithMapBodyPrimingIsSentCompactly() throws Exception {
+        final AppResponse response = ok().contentType("application/json").withBody(objectBody(singletonMap("key", singletonList("val"))));
+
+        primingContext.addDefault(AppRequest.get("/path"), staticDefault(response));
+
+        for(int i = 0; i < 2; i++) {
+            final Response pippoResponse = given().get("/path");
+            pippoResponse.then().statusCode(200);
+            pippoResponse.then().body(equalTo("{\"key\":[\"val\"]}"));
+        }
+    }
+
+    @Test
+    void testAppRequestWithNonAsciiBodyPrimingIsSentInResponseEncoding() throws Exception {
+        final AppResponse response = ok().contentType("application/json").withBody(stringBody("caf\u00e9"));
+
+        primingContext.add(AppRequest.get("/path"), response);
+
+        final Response pippoResponse = given().get("/path");
+        pippoResponse.then().statusCode(200);
+        assertThat(pippoResponse.getBody().asByteArray()).isEqualTo("\"caf\u00e9\"".getBytes(UTF_8));
+    }
+
     @Test
     void testAppRequestWithLiteralBodyPriming() throws Exception {
         final String requestBody = "<jzonbie>message</jzonbie>";
@@ -407,6 +430,30 @@ class PippoApplicationTest {
                 .body(equalTo("{\"path\": \"/path\"}"));
     }
 
+    @Test
+    void requestsAreRejectedUntilReady() throws Exception {
+        final int port;
+        try(ServerSocket socket = new ServerSocket(0)) {
+            port = socket.getLocalPort();
+        }
+        final Readiness readiness = new Readiness();
+        final Pippo pippo = new Pippo(new PippoApplication("zombie", emptyList(), appRequestHandler, zombieRequestHandler, pippoResponder, readiness));
+        pippo.getServer().setPort(port);
+        pippo.start();
+
+        try {
+            given().port(port).get("/").then().statusCode(503).body("message", equalTo("Loading priming"));
+            given().port(port).header("zombie", "up").get("/").then().statusCode(503).body("message", equalTo("Loading priming"));
+            given().port(port).header("zombie", "reset").post("/").then().statusCode(503).body("message", equalTo("Loading priming"));
+
+            readiness.markReady();
+
+            given().port(port).header("zombie", "up").get("/").then().statusCode(200).body("message", equalTo("Up!"));
+        } finally {
+            pippo.stop();
+        }
+    }
+
     @Test
     void testUp() {
         final Response pippoResponse = given()
@@ -8,6 +8,7 @@ import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 import ro.pippo.core.FileItem;
 import ro.pippo.core.ParameterValue;
+import ro.pippo.core.util.IoUtils;
 
 import java.io.ByteArrayInputStream;
 import java.util.HashMap;
@@ -22,6 +23,8 @@ import static java.util.function.Function.identity;
 import static java.util.stream.Collectors.toMap;
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.mockito.Answers.RETURNS_DEEP_STUBS;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
 @ExtendWith(MockitoExtension.class)
@@ -45,7 +48,6 @@ class PippoRequestTest {
         when(request.getMethod()).thenReturn(method);
         when(request.getHttpServletRequest().getHeaderNames()).thenReturn(asEnumeration(headerNames.iterator()));
         headerNames.forEach(name -> when(request.getHeader(name)).thenReturn(name.toUpperCase()));
-        when(request.getBody()).thenReturn(body);
         when(request.getQueryParameters()).thenReturn(new HashMap<String, ParameterValue>(){{
             put("qVar1", new ParameterValue("qVal1", "qVal2"));
             put("qVar2", new ParameterValue("qVal1"));
@@ -81,11 +83,18 @@ class PippoRequestTest {
 
     @Test
     void getBodyReturnsTheCorrectBody() throws Exception {
+        when(request.getBody()).thenReturn(body);
+
         final String got = pippoRequest.getBody();
 
         assertThat(got).isEqualTo(body);
     }
 
+    @Test
+    void bodyIsNotReadUntilItIsRequested() throws Exception {
+        verify(request, never()).getBody();
+    }
+
     @Test
     void getQueryParamsReturnsTheCorrectQueryParams() throws Exception {
         final Map<String, List<String>> expectedMap = new HashMap<String, List<String>>(){{
@@ -100,19 +109,19 @@ class PippoRequestTest {
     }
 
     @Test
-    void getPrimingFileContentReturnsContentOfPrimingFile() throws Exception {
+    void getPrimingFileReturnsContentOfPrimingFile() throws Exception {
         when(request.getContentType()).thenReturn("multipart/form-data");
 
-        final String got = new PippoRequest(request).getPrimingFileContent();
+        final String got = IoUtils.toString(new PippoRequest(request).getPrimingFile());
 
         assertThat(got).isEqualTo(body);
     }
 
     @Test
-    void getPrimingFileContentReturnsNullIfPrimingFileIsNotPresent() throws Exception {
+    void getPrimingFileReturnsNullIfPrimingFileIsNotPresent() throws Exception {
         when(request.getContentType()).thenReturn("multipart/form-data");
 
-        final String got = new PippoRequest(request).getPrimingFileContent();
+        final String got = IoUtils.toString(new PippoRequest(request).getPrimingFile());
 
         assertThat(got).isEqualTo(body);
     }
@@ -0,0 +1,138 @@
+package com.jonnymatts.jzonbie.priming;
+
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.jonnymatts.jzonbie.Request;
+import com.jonnymatts.jzonbie.body.BodyContent;
+import com.jonnymatts.jzonbie.jackson.Deserializer;
+import com.jonnymatts.jzonbie.requests.AppRequest;
+import org.junit.jupiter.api.Test;
+
+import java.io.InputStream;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import static com.google.common.base.Strings.isNullOrEmpty;
+import static com.jonnymatts.jzonbie.body.ArrayBodyContent.arrayBody;
+import static com.jonnymatts.jzonbie.body.LiteralBodyContent.literalBody;
+import static com.jonnymatts.jzonbie.body.ObjectBodyContent.objectBody;
+import static com.jonnymatts.jzonbie.body.StringBodyContent.stringBody;
+import static java.util.Arrays.asList;
+import static java.util.Collections.emptyList;
+import static java.util.Collections.emptyMap;
+import static java.util.Collections.singletonMap;
+import static org.assertj.core.api.Assertions.assertThat;
+
+class AppRequestFactoryEquivalenceTest {
+
+    private static final TypeReference<List<Object>> LIST_TYPE_REFERENCE = new TypeReference<List<Object>>() {};
+
+    private final Deserializer deserializer = new Deserializer();
+    private final AppRequestFactory appRequestFactory = new AppRequestFactory(deserializer);
+
+    @Test
+    void createMatchesConvertedRequestForRequestWithHeadersAndQueryParams() throws Exception {
+        final Map<String, String> headers = new HashMap<>();
+        headers.put("Content-Type", "application/json");
+        headers.put("Trace-Id", "abc");
+        final Map<String, List<String>> queryParams = new HashMap<>();
+        queryParams.put("single", asList("value"));
+        queryParams.put("multiple", asList("value1", "value2"));
+        queryParams.put("empty", emptyList());
+
+        assertCreatedRequestIsEquivalent(new TestRequest("POST", "/path/1", headers, queryParams, "{\"key\":[1,2.5,{\"nested\":null}]}"));
+    }
+
+    @Test
+    void createMatchesConvertedRequestForEmptyRequest() throws Exception {
+        assertCreatedRequestIsEquivalent(new TestRequest("GET", "/", emptyMap(), emptyMap(), null));
+        assertCreatedRequestIsEquivalent(new TestRequest("GET", "/", emptyMap(), emptyMap(), ""));
+    }
+
+    @Test
+    void createMatchesConvertedRequestForNullFields() throws Exception {
+        assertCreatedRequestIsEquivalent(new TestRequest(null, null, null, null, null));
+    }
+
+    @Test
+    void createMatchesConvertedRequestForEveryBodyType() throws Exception {
+        final List<String> bodies = asList("[\"a\", 1, true]", "\"string\"", "<literal/>", "{}", "[]");
+
+        for(String body : bodies) {
+            assertCreatedRequestIsEquivalent(new TestRequest("PUT", "/path", singletonMap("header", "value"), emptyMap(), body));
+        }
+    }
+
+    private void assertCreatedRequestIsEquivalent(Request request) {
+        final AppRequest got = appRequestFactory.create(request);
+        final AppRequest expected = createByConversion(request);
+
+        assertThat(got).isEqualTo(expected);
+        assertThat(got.hashCode()).isEqualTo(expected.hashCode());
+        assertThat(got.toString()).isEqualTo(expected.toString());
+    }
+
+    private AppRequest createByConversion(Request request) {
+        final Map<String, Object> primedRequestMap = new HashMap<>();
+        primedRequestMap.put("path", request.getPath());
+        primedRequestMap.put("method", request.getMethod());
+        primedRequestMap.put("queryParams", request.getQueryParams());
+        primedRequestMap.put("headers", request.getHeaders());
+
+        return deserializer.deserialize(primedRequestMap, AppRequest.class).withBody(getBodyContent(request.getBody()));
+    }
+
+    private BodyContent<?> getBodyContent(String bodyString) {
+        if(isNullOrEmpty(bodyString)) return null;
+        if(bodyString.startsWith("{") && bodyString.endsWith("}")) return objectBody(deserializer.deserialize(bodyString));
+        if(bodyString.startsWith("[") && bodyString.endsWith("]")) return arrayBody(deserializer.deserialize(bodyString, LIST_TYPE_REFERENCE));
+        if(bodyString.startsWith("\"") && bodyString.endsWith("\"")) return stringBody(bodyString.substring(1, bodyString.length()-1));
+        return literalBody(bodyString);
+    }
+
+    private static class TestRequest implements Request {
+        private final String method;
+        private final String path;
+        private final Map<String, String> headers;
+        private final Map<String, List<String>> queryParams;
+        private final String body;
+
+        private TestRequest(String method, String path, Map<String, String> headers, Map<String, List<String>> queryParams, String body) {
+            this.method = method;
+            this.path = path;
+            this.headers = headers;
+            this.queryParams = queryParams;
+            this.body = body;
+        }
+
+        @Override
+        public String getPath() {
+            return path;
+        }
+
+        @Override
+        public String getMethod() {
+            return method;
+        }
+
+        @Override
+        public Map<String, String> getHeaders() {
+            return headers;
+        }
+
+        @Override
+        public String getBody() {
+            return body;
+        }
+
+        @Override
+        public Map<String, List<String>> getQueryParams() {
+            return queryParams;
+        }
+
+        @Override
+        public InputStream getPrimingFile() {
+            return null;
+        }
+    }
+}
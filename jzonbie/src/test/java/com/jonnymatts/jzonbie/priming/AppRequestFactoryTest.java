@@ -11,7 +11,6 @@ import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 
-import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 
@@ -19,12 +18,15 @@ import static com.jonnymatts.jzonbie.body.ArrayBodyContent.arrayBody;
 import static com.jonnymatts.jzonbie.body.LiteralBodyContent.literalBody;
 import static com.jonnymatts.jzonbie.body.ObjectBodyContent.objectBody;
 import static com.jonnymatts.jzonbie.body.StringBodyContent.stringBody;
-import static com.jonnymatts.jzonbie.requests.AppRequest.get;
+import static com.jonnymatts.jzonbie.requests.AppRequest.request;
 import static java.util.Arrays.asList;
 import static java.util.Collections.singletonMap;
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
 @ExtendWith(MockitoExtension.class)
@@ -42,20 +44,15 @@ class AppRequestFactoryTest {
     private final Map<String, Object> bodyMap = singletonMap("var", "val");
     private final Map<String, String> headers = singletonMap("hVar", "hVal");
     private final Map<String, List<String>> queryParams = singletonMap("qVar", asList("qVal1", "qVal2"));
-    private final AppRequest appRequest = get("/");
-
-    private HashMap<String, Object> expectedMap;
+    private AppRequest appRequest;
 
     private AppRequestFactory appRequestFactory;
 
     @BeforeEach
     void setUp() throws Exception {
-        expectedMap = new HashMap<String, Object>() {{
-            put("path", path);
-            put("method", requestMethod);
-            put("headers", headers);
-            put("queryParams", queryParams);
-        }};
+        appRequest = request(requestMethod, path);
+        appRequest.setHeaders(headers);
+        appRequest.setQueryParams(queryParams);
 
         requestBody = "{" + requestBody + "}";
 
@@ -73,7 +70,6 @@ class AppRequestFactoryTest {
         when(request.getBody()).thenReturn(requestBody);
 
         when(deserializer.deserialize(requestBody)).thenReturn(bodyMap);
-        when(deserializer.deserialize(expectedMap, AppRequest.class)).thenReturn(new AppRequest(appRequest));
 
         final AppRequest got = appRequestFactory.create(request);
 
@@ -88,8 +84,6 @@ class AppRequestFactoryTest {
         when(request.getQueryParams()).thenReturn(queryParams);
         when(request.getBody()).thenReturn(null);
 
-        when(deserializer.deserialize(expectedMap, AppRequest.class)).thenReturn(new AppRequest(appRequest));
-
         final AppRequest got = appRequestFactory.create(request);
 
         assertThat(got).isEqualTo(appRequest);
@@ -103,8 +97,6 @@ class AppRequestFactoryTest {
         when(request.getQueryParams()).thenReturn(queryParams);
         when(request.getBody()).thenReturn("");
 
-        when(deserializer.deserialize(expectedMap, AppRequest.class)).thenReturn(new AppRequest(appRequest));
-
         final AppRequest got = appRequestFactory.create(request);
 
         assertThat(got).isEqualTo(appRequest);
@@ -121,8 +113,6 @@ class AppRequestFactoryTest {
         when(request.getQueryParams()).thenReturn(queryParams);
         when(request.getBody()).thenReturn(bodyString);
 
-        when(deserializer.deserialize(expectedMap, AppRequest.class)).thenReturn(new AppRequest(appRequest));
-
         final AppRequest got = appRequestFactory.create(request);
 
         assertThat(got).isEqualTo(appRequest);
@@ -142,8 +132,6 @@ class AppRequestFactoryTest {
 
         when(deserializer.deserialize(eq(bodyString), any(TypeReference.class))).thenReturn(bodyList);
 
-        when(deserializer.deserialize(expectedMap, AppRequest.class)).thenReturn(new AppRequest(appRequest));
-
         final AppRequest got = appRequestFactory.create(request);
 
         assertThat(got).isEqualTo(appRequest);
@@ -160,10 +148,28 @@ class AppRequestFactoryTest {
         when(request.getQueryParams()).thenReturn(queryParams);
         when(request.getBody()).thenReturn(bodyString);
 
-        when(deserializer.deserialize(expectedMap, AppRequest.class)).thenReturn(new AppRequest(appRequest));
-
         final AppRequest got = appRequestFactory.create(request);
 
         assertThat(got).isEqualTo(appRequest);
     }
-}
\ No newline at end of file
+
+    @Test
+    void createOnlyReadsBodyWhenItIsFirstNeeded() throws Exception {
+        final String bodyString = "<jzonbie>message</jzonbie>";
+
+        when(request.getPath()).thenReturn(path);
+        when(request.getMethod()).thenReturn(requestMethod);
+        when(request.getHeaders()).thenReturn(headers);
+        when(request.getQueryParams()).thenReturn(queryParams);
+        when(request.getBody()).thenReturn(bodyString);
+
+        final AppRequest got = appRequestFactory.create(request);
+
+        verify(request, never()).getBody();
+
+        assertThat(got.getBody()).isEqualTo(literalBody(bodyString));
+        assertThat(got.getBody()).isEqualTo(literalBody(bodyString));
+
+        verify(request, times(1)).getBody();
+    }
+}
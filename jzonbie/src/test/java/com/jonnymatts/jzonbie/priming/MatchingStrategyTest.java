@@ -0,0 +1,64 @@
+package com.jonnymatts.jzonbie.priming;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+import static java.util.Arrays.asList;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class MatchingStrategyTest {
+
+    private final List<Integer> candidates = IntStream.range(0, 10_000).boxed().collect(Collectors.toList());
+
+    private MatchingStrategy parallel;
+
+    @AfterEach
+    void tearDown() throws Exception {
+        if(parallel != null) parallel.shutdown();
+    }
+
+    @Test
+    void sequentialReturnsIndexOfFirstMatchFromGivenIndex() throws Exception {
+        final MatchingStrategy sequential = MatchingStrategy.sequential();
+
+        assertThat(sequential.indexOfFirstMatch(candidates, 0, i -> i % 1000 == 999)).isEqualTo(999);
+        assertThat(sequential.indexOfFirstMatch(candidates, 1000, i -> i % 1000 == 999)).isEqualTo(1999);
+        assertThat(sequential.indexOfFirstMatch(candidates, 0, i -> false)).isEqualTo(-1);
+    }
+
+    @Test
+    void parallelReturnsIndexOfFirstMatchFromGivenIndex() throws Exception {
+        parallel = MatchingStrategy.parallel(0, 4);
+
+        assertThat(parallel.indexOfFirstMatch(candidates, 0, i -> i % 1000 == 999)).isEqualTo(999);
+        assertThat(parallel.indexOfFirstMatch(candidates, 1000, i -> i % 1000 == 999)).isEqualTo(1999);
+        assertThat(parallel.indexOfFirstMatch(candidates, 0, i -> false)).isEqualTo(-1);
+        assertThat(parallel.indexOfFirstMatch(candidates, candidates.size(), i -> true)).isEqualTo(-1);
+    }
+
+    @Test
+    void parallelMatchesOnDedicatedPoolOnlyAboveThreshold() throws Exception {
+        parallel = MatchingStrategy.parallel(100, 2);
+        final Set<String> threadNames = ConcurrentHashMap.newKeySet();
+
+        parallel.indexOfFirstMatch(asList(1, 2, 3), 0, i -> threadNames.add(Thread.currentThread().getName()) && false);
+        assertThat(threadNames).containsExactly(Thread.currentThread().getName());
+
+        threadNames.clear();
+        parallel.indexOfFirstMatch(candidates, 0, i -> threadNames.add(Thread.currentThread().getName()) && false);
+        assertThat(threadNames).isNotEmpty().allMatch(name -> name.startsWith("jzonbie-matching-"));
+    }
+
+    @Test
+    void parallelThrowsExceptionForInvalidConfiguration() throws Exception {
+        assertThatThrownBy(() -> MatchingStrategy.parallel(-1, 2)).isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> MatchingStrategy.parallel(100, 0)).isInstanceOf(IllegalArgumentException.class);
+    }
+}
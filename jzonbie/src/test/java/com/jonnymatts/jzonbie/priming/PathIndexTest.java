@@ -0,0 +1,122 @@
+package com.jonnymatts.jzonbie.priming;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class PathIndexTest {
+
+    private PathIndex<String> pathIndex;
+
+    @BeforeEach
+    void setUp() throws Exception {
+        pathIndex = new PathIndex<>();
+    }
+
+    @Test
+    void candidatesReturnsValueForEqualLiteralPath() throws Exception {
+        pathIndex.add("/api/users", "users");
+        pathIndex.add("/api/orders", "orders");
+
+        assertThat(pathIndex.candidates("/api/users")).containsExactly("users");
+    }
+
+    @Test
+    void candidatesDoesNotReturnLiteralPathsForDifferentPaths() throws Exception {
+        pathIndex.add("/api/users", "users");
+
+        assertThat(pathIndex.candidates("/api")).isEmpty();
+        assertThat(pathIndex.candidates("/api/users/1")).isEmpty();
+        assertThat(pathIndex.candidates("/api/users/")).isEmpty();
+    }
+
+    @Test
+    void candidatesReturnsRegexPathsWithMatchingLiteralPrefix() throws Exception {
+        pathIndex.add("/api/users/[0-9]+", "user");
+        pathIndex.add("/other/.*", "other");
+
+        assertThat(pathIndex.candidates("/api/users/1")).containsExactly("user");
+        assertThat(pathIndex.candidates("/api/users/1/orders")).containsExactly("user");
+    }
+
+    @Test
+    void candidatesReturnsLiteralPathsBeforeRegexPathsAndDeeperRegexPathsFirst() throws Exception {
+        pathIndex.add(".*", "any");
+        pathIndex.add("/api/.*", "api");
+        pathIndex.add("/api/users", "users");
+
+        assertThat(pathIndex.candidates("/api/users")).containsExactly("users", "api", "any");
+    }
+
+    @Test
+    void candidatesReturnsRegexPathsWithOptionalTrailingCharacter() throws Exception {
+        pathIndex.add("/api/?", "api");
+
+        assertThat(pathIndex.candidates("/api")).containsExactly("api");
+        assertThat(pathIndex.candidates("/api/")).containsExactly("api");
+    }
+
+    @Test
+    void candidatesReturnsRegexPathsWithTopLevelAlternationForAnyPath() throws Exception {
+        pathIndex.add("/api/users|/other", "alternation");
+        pathIndex.add("/api/(users|orders)", "group");
+
+        assertThat(pathIndex.candidates("/other")).containsExactly("alternation");
+        assertThat(pathIndex.candidates("/api/orders")).containsExactly("group", "alternation");
+    }
+
+    @Test
+    void candidatesReturnsNullPathsOnlyForNullPath() throws Exception {
+        pathIndex.add(null, "null");
+        pathIndex.add(".*", "any");
+
+        assertThat(pathIndex.candidates(null)).containsExactly("null");
+    }
+
+    @Test
+    void removeRemovesValueFromIndex() throws Exception {
+        pathIndex.add("/api/users", "users");
+        pathIndex.add("/api/.*", "api");
+
+        assertThat(pathIndex.remove("/api/users", "users")).isTrue();
+        assertThat(pathIndex.remove("/api/.*", "api")).isTrue();
+        assertThat(pathIndex.remove("/api/.*", "api")).isFalse();
+
+        assertThat(pathIndex.candidates("/api/users")).isEmpty();
+        assertThat(pathIndex.size()).isEqualTo(0);
+    }
+
+    @Test
+    void removePrunesNodesLeftEmpty() throws Exception {
+        pathIndex.add("/api/users", "users");
+        pathIndex.add("/api/users/1/orders", "orders");
+        pathIndex.add("/api/users/[0-9]+", "user");
+        final int nodes = pathIndex.nodeCount();
+
+        pathIndex.remove("/api/users/1/orders", "orders");
+
+        assertThat(pathIndex.nodeCount()).isEqualTo(nodes - 2);
+        assertThat(pathIndex.candidates("/api/users/1")).containsExactly("user");
+
+        pathIndex.remove("/api/users/[0-9]+", "user");
+        pathIndex.remove("/api/users", "users");
+
+        assertThat(pathIndex.nodeCount()).isEqualTo(1);
+    }
+
+    @Test
+    void removeKeepsNodesWithOtherValues() throws Exception {
+        for(int i = 0; i < 100; i++) {
+            pathIndex.add("/api/unique-" + i, "unique");
+            pathIndex.remove("/api/unique-" + i, "unique");
+        }
+        pathIndex.add("/api", "api");
+        pathIndex.add("/api/users", "users");
+
+        pathIndex.remove("/api/users", "users");
+
+        assertThat(pathIndex.nodeCount()).isEqualTo(3);
+        assertThat(pathIndex.candidates("/api")).containsExactly("api");
+    }
+}
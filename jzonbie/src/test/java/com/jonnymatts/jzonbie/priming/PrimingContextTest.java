@@ -3,22 +3,34 @@ package com.jonnymatts.jzonbie.priming;
 import com.jonnymatts.jzonbie.requests.AppRequest;
 import com.jonnymatts.jzonbie.responses.AppResponse;
 import com.jonnymatts.jzonbie.responses.defaults.DefaultAppResponse;
+import com.jonnymatts.jzonbie.responses.defaults.DefaultingQueue;
 import com.jonnymatts.jzonbie.responses.defaults.StaticDefaultAppResponse;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 
+import java.util.ArrayList;
 import java.util.List;
 import java.util.Optional;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.stream.IntStream;
 
 import static com.jonnymatts.jzonbie.body.ObjectBodyContent.objectBody;
 import static com.jonnymatts.jzonbie.defaults.StandardPriming.priming;
 import static com.jonnymatts.jzonbie.requests.AppRequest.get;
+import static com.jonnymatts.jzonbie.requests.AppRequest.post;
 import static com.jonnymatts.jzonbie.responses.AppResponse.internalServerError;
 import static com.jonnymatts.jzonbie.responses.AppResponse.ok;
 import static com.jonnymatts.jzonbie.responses.defaults.StaticDefaultAppResponse.staticDefault;
+import static java.util.Arrays.asList;
+import static java.util.Collections.emptyList;
 import static java.util.Collections.singletonList;
 import static java.util.Collections.singletonMap;
+import static java.util.stream.Collectors.toList;
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
 
 class PrimingContextTest {
 
@@ -141,6 +153,51 @@ class PrimingContextTest {
         assertThat(primedMapping.getResponses().getDefault().map(DefaultAppResponse::getResponse)).contains(zombiePriming.getResponse());
     }
 
+    @Test
+    void addThrowsExceptionAndDoesNotAddPrimingIfRequestContainsAnInvalidRegex() throws Exception {
+        final AppRequest invalidRequest = get("/path[");
+
+        assertThatThrownBy(() -> primingContext.add(invalidRequest, ok()))
+                .isInstanceOf(IllegalArgumentException.class);
+
+        assertThat(primingContext.getCurrentPriming()).isEmpty();
+    }
+
+    @Test
+    void addAllThrowsExceptionAndDoesNotAddAnyPrimingIfAnyResponseIsInvalid() throws Exception {
+        final AppResponse invalidResponse = internalServerError();
+        primingContext = new PrimingContext(emptyList(), MatchingStrategy.sequential(), appResponse -> {
+            if(appResponse.equals(invalidResponse)) throw new IllegalArgumentException("Invalid response");
+        });
+
+        assertThatThrownBy(() -> primingContext.addAll(asList(new ZombiePriming(get("/1"), ok()), new ZombiePriming(post("/2"), invalidResponse))))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessage("Invalid response");
+
+        assertThat(primingContext.getCurrentPriming()).isEmpty();
+    }
+
+    @Test
+    void addValidatesTheResponseInstanceThatIsServed() throws Exception {
+        final List<AppResponse> validated = new ArrayList<>();
+        primingContext = new PrimingContext(emptyList(), MatchingStrategy.sequential(), validated::add);
+
+        primingContext.add(get("/"), ok());
+
+        assertThat(validated).hasSize(1);
+        assertThat(primingContext.getResponse(get("/")).get()).isSameAs(validated.get(0));
+    }
+
+    @Test
+    void addDefaultValidatesStaticDefaultResponse() throws Exception {
+        final List<AppResponse> validated = new ArrayList<>();
+        primingContext = new PrimingContext(emptyList(), MatchingStrategy.sequential(), validated::add);
+
+        primingContext.addDefault(get("/path"), staticDefault(ok()));
+
+        assertThat(validated).containsExactly(ok());
+    }
+
     @Test
     void getResponseReturnsOptionalOfAppResponseIfPrimingExistsForAppRequest() throws Exception {
         primingContext.add(zombiePriming);
@@ -229,6 +286,154 @@ class PrimingContextTest {
         assertThat(got).contains(response);
     }
 
+    @Test
+    void getResponseMatchesPrimingAddedAfterRemovedPrimingThatRequiredHeaderMissingFromRequest() throws Exception {
+        primingContext.add(zombiePriming);
+        primingContext.getResponse(zombiePriming.getRequest());
+
+        final AppRequest copy = new AppRequest(zombiePriming.getRequest());
+        copy.setHeaders(singletonMap("key", "val"));
+        final AppResponse response = internalServerError();
+        primingContext.add(new ZombiePriming(copy, response));
+
+        final Optional<AppResponse> got = primingContext.getResponse(copy);
+
+        assertThat(got).contains(response);
+    }
+
+    @Test
+    void getResponseReturnsEachPrimedResponseOnceWhenCalledConcurrently() throws Exception {
+        final List<AppResponse> responses = IntStream.range(0, 1000).mapToObj(i -> ok().withHeader("index", "" + i)).collect(toList());
+        responses.forEach(response -> primingContext.add(zombiePriming.getRequest(), response));
+
+        final ExecutorService executor = Executors.newFixedThreadPool(8);
+        final List<Future<Optional<AppResponse>>> futures = executor.invokeAll(
+                IntStream.range(0, 1100).<Callable<Optional<AppResponse>>>mapToObj(i -> () -> primingContext.getResponse(zombiePriming.getRequest())).collect(toList())
+        );
+        executor.shutdown();
+
+        final List<AppResponse> got = new ArrayList<>();
+        for(Future<Optional<AppResponse>> future : futures) {
+            future.get().ifPresent(got::add);
+        }
+
+        assertThat(got).containsExactlyInAnyOrderElementsOf(responses);
+        assertThat(primingContext.getCurrentPriming()).isEmpty();
+    }
+
+    @Test
+    void addAllAddsEveryPrimingInOrderWithOneSnapshotPerMethod() throws Exception {
+        final long initialVersion = primingContext.getSnapshot().getVersion();
+
+        primingContext.addAll(asList(
+                new ZombiePriming(get("/1"), ok()),
+                new ZombiePriming(post("/2"), ok()),
+                new ZombiePriming(get("/1"), internalServerError()),
+                new ZombiePriming(get("/3"), ok())
+        ));
+
+        assertThat(primingContext.getSnapshot().getVersion()).isEqualTo(initialVersion + 2);
+        assertThat(primingContext.getCurrentPriming()).extracting(PrimedMapping::getRequest).containsExactly(get("/1"), post("/2"), get("/3"));
+        assertThat(primingContext.getResponse(get("/1"))).contains(ok());
+        assertThat(primingContext.getResponse(get("/1"))).contains(internalServerError());
+    }
+
+    @Test
+    void addMappingsAddsPrimedAndDefaultResponsesOfEveryMapping() throws Exception {
+        final DefaultingQueue queue = new DefaultingQueue();
+        queue.add(asList(ok(), internalServerError()));
+        queue.setDefault(staticDefault(ok().withHeader("default", "true")));
+
+        primingContext.addMappings(asList(new PrimedMapping(get("/1"), queue), new PrimedMapping(post("/2"), new DefaultingQueue())));
+
+        assertThat(primingContext.getCurrentPriming()).extracting(PrimedMapping::getRequest).containsExactly(get("/1"), post("/2"));
+        assertThat(primingContext.getResponse(get("/1"))).contains(ok());
+        assertThat(primingContext.getResponse(get("/1"))).contains(internalServerError());
+        assertThat(primingContext.getResponse(get("/1"))).contains(ok().withHeader("default", "true"));
+    }
+
+    @Test
+    void addStoresEqualResponsesOfDifferentPrimingsAsOneInstance() throws Exception {
+        primingContext.add(get("/1"), ok().withBody(objectBody(singletonMap("key", "value"))));
+        primingContext.add(get("/2"), ok().withBody(objectBody(singletonMap("key", "value"))));
+
+        assertThat(primingContext.getFootprint().getDistinctResponses()).isEqualTo(1);
+
+        final AppResponse got1 = primingContext.getResponse(get("/1")).get();
+        final AppResponse got2 = primingContext.getResponse(get("/2")).get();
+
+        assertThat(got1).isEqualTo(ok().withBody(objectBody(singletonMap("key", "value"))));
+        assertThat(got2).isSameAs(got1);
+    }
+
+    @Test
+    void addAllThrowsExceptionAndAddsNothingIfAnyRequestContainsAnInvalidRegex() throws Exception {
+        assertThatThrownBy(() -> primingContext.addAll(asList(new ZombiePriming(get("/1"), ok()), new ZombiePriming(get("/[invalid"), ok()))))
+                .isInstanceOf(IllegalArgumentException.class);
+
+        assertThat(primingContext.getCurrentPriming()).isEmpty();
+    }
+
+    @Test
+    void getResponseFindsPrimingByBodyWhenManyPrimingsDifferOnlyInBody() throws Exception {
+        IntStream.range(0, 1000).forEach(i -> primingContext.add(post("/orders").withBody(objectBody(singletonMap("id", i))), ok().withHeader("index", "" + i)));
+
+        final Optional<AppResponse> got = primingContext.getResponse(post("/orders").withBody(objectBody("{\"id\": 500.0}", json -> singletonMap("id", 500.0))));
+
+        assertThat(got).contains(ok().withHeader("index", "500"));
+        assertThat(primingContext.getCurrentPriming()).hasSize(999);
+    }
+
+    @Test
+    void getResponseChecksPrimingsWithExactBodyBeforePrimingsWithBodyPatterns() throws Exception {
+        final AppResponse patternResponse = internalServerError();
+        primingContext.add(post("/orders").withBody(objectBody(singletonMap("id", "[0-9]+"))), patternResponse);
+        primingContext.add(post("/orders").withBody(objectBody(singletonMap("id", "1"))), ok());
+
+        assertThat(primingContext.getResponse(post("/orders").withBody(objectBody(singletonMap("id", "1"))))).contains(ok());
+        assertThat(primingContext.getResponse(post("/orders").withBody(objectBody(singletonMap("id", "1"))))).contains(patternResponse);
+        assertThat(primingContext.getResponse(post("/orders").withBody(objectBody(singletonMap("id", "1"))))).isEmpty();
+    }
+
+    @Test
+    void getSnapshotReturnsNewVersionAfterEachChangeWithoutChangingEarlierSnapshots() throws Exception {
+        final PrimingSnapshot initial = primingContext.getSnapshot();
+
+        primingContext.add(zombiePriming);
+        final PrimingSnapshot primed = primingContext.getSnapshot();
+
+        primingContext.getResponse(zombiePriming.getRequest());
+        final PrimingSnapshot consumed = primingContext.getSnapshot();
+
+        assertThat(primed.getVersion()).isGreaterThan(initial.getVersion());
+        assertThat(consumed.getVersion()).isGreaterThan(primed.getVersion());
+        assertThat(initial.getPrimedMappings()).isEmpty();
+        assertThat(primed.getPrimedMappings()).extracting(PrimedMapping::getRequest).containsExactly(zombiePriming.getRequest());
+        assertThat(consumed.getPrimedMappings()).isEmpty();
+    }
+
+    @Test
+    void getSnapshotVersionIsUnchangedByPrimingAndConsumingResponsesOfExistingMappings() throws Exception {
+        primingContext.add(zombiePriming);
+        final PrimingSnapshot primed = primingContext.getSnapshot();
+
+        primingContext.add(zombiePriming);
+        primingContext.getResponse(zombiePriming.getRequest());
+
+        assertThat(primingContext.getSnapshot()).isSameAs(primed);
+        assertThat(primed.getPrimedMappings().get(0).getResponses().getPrimed()).hasSize(1);
+    }
+
+    @Test
+    void getSnapshotVersionIsUnchangedByDefaultResponses() throws Exception {
+        primingContext.addDefault(zombiePriming.getRequest(), staticDefault(zombiePriming.getResponse()));
+        final PrimingSnapshot primed = primingContext.getSnapshot();
+
+        primingContext.getResponse(zombiePriming.getRequest());
+
+        assertThat(primingContext.getSnapshot()).isSameAs(primed);
+    }
+
     @Test
     void defaultPrimingIsAdded() {
         primingContext = new PrimingContext(singletonList(priming(zombiePriming.getRequest(), zombiePriming.getResponse())));
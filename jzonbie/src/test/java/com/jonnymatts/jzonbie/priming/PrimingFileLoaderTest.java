@@ -0,0 +1,159 @@
+package com.jonnymatts.jzonbie.priming;
+
+import com.jonnymatts.jzonbie.jackson.DeserializationException;
+import com.jonnymatts.jzonbie.jackson.Deserializer;
+import com.jonnymatts.jzonbie.requests.AppRequest;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.ByteArrayInputStream;
+import java.io.File;
+import java.io.FileNotFoundException;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.stream.IntStream;
+
+import static com.jonnymatts.jzonbie.requests.AppRequest.get;
+import static com.jonnymatts.jzonbie.requests.AppRequest.post;
+import static com.jonnymatts.jzonbie.responses.AppResponse.ok;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class PrimingFileLoaderTest {
+
+    @TempDir Path directory;
+
+    private PrimingContext primingContext;
+    private PrimingFileLoader loader;
+
+    @BeforeEach
+    void setUp() throws Exception {
+        primingContext = new PrimingContext();
+        loader = new PrimingFileLoader(new Deserializer(), primingContext, 4);
+    }
+
+    @Test
+    void loadLoadsSingleFile() throws Exception {
+        final File file = write("primings.json", mapping("GET", "/1"), mapping("POST", "/2"));
+
+        final int got = loader.load(file);
+
+        assertThat(got).isEqualTo(2);
+        assertThat(primingContext.getCurrentPriming()).extracting(PrimedMapping::getRequest).containsExactly(get("/1"), post("/2"));
+        assertThat(primingContext.getResponse(get("/1"))).contains(ok());
+    }
+
+    @Test
+    void loadLoadsEveryJsonFileInDirectoryInOrderOfFileName() throws Exception {
+        write("b.json", mapping("GET", "/b"));
+        write("a.json", mapping("GET", "/a1"), mapping("GET", "/a2"));
+        write("c.txt", mapping("GET", "/c"));
+
+        final int got = loader.load(directory.toFile());
+
+        assertThat(got).isEqualTo(3);
+        assertThat(primingContext.getCurrentPriming()).extracting(PrimedMapping::getRequest).containsExactly(get("/a1"), get("/a2"), get("/b"));
+    }
+
+    @Test
+    void loadLoadsEveryFileMatchingGlob() throws Exception {
+        Files.createDirectories(directory.resolve("nested"));
+        write("nested/a.json", mapping("GET", "/a"));
+        write("nested/b.json", mapping("GET", "/b"));
+        write("c.json", mapping("GET", "/c"));
+
+        final int got = loader.load(new File(directory.toFile(), "nested/*.json"));
+
+        assertThat(got).isEqualTo(2);
+        assertThat(primingContext.getCurrentPriming()).extracting(PrimedMapping::getRequest).containsExactly(get("/a"), get("/b"));
+    }
+
+    @Test
+    void loadLoadsLargeFile() throws Exception {
+        final String[] mappings = IntStream.range(0, 20_000).mapToObj(i -> mapping("GET", "/" + i)).toArray(String[]::new);
+        final File file = write("large.json", mappings);
+        assertThat(file.length()).isGreaterThan(1024 * 1024);
+
+        final int got = loader.load(file);
+
+        assertThat(got).isEqualTo(20_000);
+        assertThat(primingContext.getResponse(get("/19999"))).contains(ok());
+    }
+
+    @Test
+    void loadThrowsExceptionIfGlobMatchesNoFiles() throws Exception {
+        assertThatThrownBy(() -> loader.load(new File(directory.toFile(), "*.json")))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessageContaining("No priming files match");
+    }
+
+    @Test
+    void loadThrowsExceptionIfFileIsMissing() throws Exception {
+        assertThatThrownBy(() -> loader.load(new File(directory.toFile(), "missing.json")))
+                .isInstanceOf(RuntimeException.class)
+                .hasCauseInstanceOf(FileNotFoundException.class);
+    }
+
+    @Test
+    void loadLoadsMoreFilesThanParallelismInOrderOfFileName() throws Exception {
+        IntStream.range(0, 10).forEach(i -> write("file" + i + ".json", mapping("GET", "/" + i)));
+
+        final int got = loader.load(directory.toFile());
+
+        assertThat(got).isEqualTo(10);
+        assertThat(primingContext.getCurrentPriming()).extracting(PrimedMapping::getRequest)
+                .containsExactly(IntStream.range(0, 10).mapToObj(i -> get("/" + i)).toArray(AppRequest[]::new));
+    }
+
+    @Test
+    void loadLoadsFileWithMoreMappingsThanOneBatchInOrder() throws Exception {
+        final String[] mappings = IntStream.range(0, 2500).mapToObj(i -> mapping("GET", "/" + i)).toArray(String[]::new);
+        final File file = write("primings.json", mappings);
+
+        final int got = loader.load(file);
+
+        assertThat(got).isEqualTo(2500);
+        assertThat(primingContext.getCurrentPriming()).extracting(PrimedMapping::getRequest)
+                .containsExactly(IntStream.range(0, 2500).mapToObj(i -> get("/" + i)).toArray(AppRequest[]::new));
+    }
+
+    @Test
+    void loadKeepsMappingsOfFilesBeforeMalformedFile() throws Exception {
+        write("a.json", mapping("GET", "/a"));
+        write("b.json", "{");
+        write("c.json", mapping("GET", "/c"));
+
+        assertThatThrownBy(() -> loader.load(directory.toFile())).isInstanceOf(DeserializationException.class);
+
+        assertThat(primingContext.getCurrentPriming()).extracting(PrimedMapping::getRequest).containsExactly(get("/a"));
+    }
+
+    @Test
+    void loadAddsMappingsStreamedBeforeMalformedMapping() throws Exception {
+        final String[] mappings = IntStream.range(0, 1500).mapToObj(i -> mapping("GET", "/" + i)).toArray(String[]::new);
+        final InputStream primingFile = new ByteArrayInputStream(("[" + String.join(",", mappings) + ",{\"request\":}]").getBytes());
+
+        assertThatThrownBy(() -> loader.load(primingFile)).isInstanceOf(DeserializationException.class);
+
+        assertThat(primingContext.getCurrentPriming()).extracting(PrimedMapping::getRequest)
+                .containsExactly(IntStream.range(0, 1500).mapToObj(i -> get("/" + i)).toArray(AppRequest[]::new));
+    }
+
+    private File write(String name, String... mappings) {
+        final Path file = directory.resolve(name);
+        try {
+            Files.write(file, ("[" + String.join(",", mappings) + "]").getBytes());
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        return file.toFile();
+    }
+
+    private static String mapping(String method, String path) {
+        return "{\"request\":{\"path\":\"" + path + "\",\"method\":\"" + method + "\"},\"responses\":{\"primed\":[{\"statusCode\":200}]}}";
+    }
+}
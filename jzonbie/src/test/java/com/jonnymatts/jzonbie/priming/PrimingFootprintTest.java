@@ -0,0 +1,64 @@
+package com.jonnymatts.jzonbie.priming;
+
+import com.jonnymatts.jzonbie.responses.AppResponse;
+import com.jonnymatts.jzonbie.responses.defaults.DefaultingQueue;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.function.IntFunction;
+import java.util.stream.IntStream;
+
+import static com.jonnymatts.jzonbie.body.ObjectBodyContent.objectBody;
+import static com.jonnymatts.jzonbie.requests.AppRequest.get;
+import static com.jonnymatts.jzonbie.responses.AppResponse.ok;
+import static com.jonnymatts.jzonbie.responses.defaults.StaticDefaultAppResponse.staticDefault;
+import static java.util.Collections.emptyList;
+import static java.util.Collections.singletonList;
+import static java.util.Collections.singletonMap;
+import static java.util.stream.Collectors.toList;
+import static org.assertj.core.api.Assertions.assertThat;
+
+class PrimingFootprintTest {
+
+    @Test
+    void ofCountsMappingsAndResponses() throws Exception {
+        final DefaultingQueue queue = new DefaultingQueue();
+        queue.add(ok());
+        queue.add(ok());
+        queue.setDefault(staticDefault(ok()));
+
+        final PrimingFootprint got = PrimingFootprint.of(singletonList(new PrimedMapping(get("/"), queue)));
+
+        assertThat(got.getMappings()).isEqualTo(1);
+        assertThat(got.getResponses()).isEqualTo(3);
+        assertThat(got.getDistinctResponses()).isEqualTo(3);
+        assertThat(got.getBytes()).isPositive();
+        assertThat(got.getBytesPerMapping()).isEqualTo(got.getBytes());
+    }
+
+    @Test
+    void ofCountsSharedResponsesOnce() throws Exception {
+        final AppResponse shared = ok().withBody(objectBody(singletonMap("key", "value")));
+
+        final PrimingFootprint sharedFootprint = PrimingFootprint.of(mappings(i -> shared));
+        final PrimingFootprint copiedFootprint = PrimingFootprint.of(mappings(i -> ok().withBody(objectBody(singletonMap("key", "value")))));
+
+        assertThat(sharedFootprint.getDistinctResponses()).isEqualTo(1);
+        assertThat(sharedFootprint.getDistinctBodies()).isEqualTo(1);
+        assertThat(copiedFootprint.getDistinctResponses()).isEqualTo(100);
+        assertThat(sharedFootprint.getBytesPerMapping()).isLessThan(copiedFootprint.getBytesPerMapping());
+    }
+
+    @Test
+    void ofReturnsZeroBytesPerMappingForNoMappings() throws Exception {
+        assertThat(PrimingFootprint.of(emptyList()).getBytesPerMapping()).isZero();
+    }
+
+    private List<PrimedMapping> mappings(IntFunction<AppResponse> response) {
+        return IntStream.range(0, 100).mapToObj(i -> {
+            final DefaultingQueue queue = new DefaultingQueue();
+            queue.add(response.apply(i));
+            return new PrimedMapping(get("/" + i), queue);
+        }).collect(toList());
+    }
+}
@@ -0,0 +1,121 @@
+package com.jonnymatts.jzonbie.priming;
+
+import com.jonnymatts.jzonbie.body.ObjectBodyContent;
+import com.jonnymatts.jzonbie.requests.AppRequest;
+import com.jonnymatts.jzonbie.responses.AppResponse;
+import com.jonnymatts.jzonbie.responses.delay.DelayProfile;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.HashMap;
+import java.util.Map;
+
+import static com.jonnymatts.jzonbie.body.ObjectBodyContent.objectBody;
+import static com.jonnymatts.jzonbie.requests.AppRequest.get;
+import static com.jonnymatts.jzonbie.responses.AppResponse.ok;
+import static com.jonnymatts.jzonbie.responses.defaults.StaticDefaultAppResponse.staticDefault;
+import static com.jonnymatts.jzonbie.responses.delay.DelayProfile.uniform;
+import static java.util.Collections.singletonMap;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.assertj.core.api.Assertions.entry;
+
+class PrimingInternerTest {
+
+    private final PrimingInterner interner = new PrimingInterner();
+
+    @Test
+    void compactReturnsEqualRequestWithImmutableMaps() throws Exception {
+        final AppRequest request = get("/path").withHeader("Trace-Id", "abc").withQueryParam("page", "1").withBody(singletonMap("key", "value"));
+
+        final AppRequest got = interner.compact(request);
+
+        assertThat(got).isEqualTo(request);
+        assertThatThrownBy(() -> got.getHeaders().put("header", "value")).isInstanceOf(UnsupportedOperationException.class);
+        assertThatThrownBy(() -> got.getQueryParams().put("param", null)).isInstanceOf(UnsupportedOperationException.class);
+    }
+
+    @Test
+    void compactInternsStringsOfEqualRequests() throws Exception {
+        final AppRequest got1 = interner.compact(get(new String("/path")).withHeader(new String("Trace-Id"), new String("abc")));
+        final AppRequest got2 = interner.compact(get(new String("/path")).withHeader(new String("Trace-Id"), new String("abc")));
+
+        assertThat(got1.getPath()).isSameAs(got2.getPath());
+        assertThat(got1.getHeaders().keySet().iterator().next()).isSameAs(got2.getHeaders().keySet().iterator().next());
+        assertThat(got1.getHeaders().values().iterator().next()).isSameAs(got2.getHeaders().values().iterator().next());
+    }
+
+    @Test
+    void compactCopiesMapsContainingNullValuesIntoUnmodifiableMaps() throws Exception {
+        final Map<String, String> headers = new HashMap<>();
+        headers.put("header", null);
+        final AppRequest request = get("/");
+        request.setHeaders(headers);
+
+        final AppRequest got = interner.compact(request);
+        headers.put("other", "value");
+
+        assertThat(got.getHeaders()).containsOnly(entry("header", null));
+        assertThatThrownBy(() -> got.getHeaders().put("header", "value")).isInstanceOf(UnsupportedOperationException.class);
+    }
+
+    @Test
+    void canonicalReturnsSameInstanceForEqualResponses() throws Exception {
+        final AppResponse got1 = interner.canonical(ok().withHeader("Version", "1").withBody(objectBody(singletonMap("key", "value"))));
+        final AppResponse got2 = interner.canonical(ok().withHeader("Version", "1").withBody(objectBody(singletonMap("key", "value"))));
+        final AppResponse got3 = interner.canonical(ok().withHeader("Version", "2").withBody(objectBody(singletonMap("key", "value"))));
+
+        assertThat(got1).isEqualTo(ok().withHeader("Version", "1").withBody(objectBody(singletonMap("key", "value"))));
+        assertThat(got2).isSameAs(got1);
+        assertThat(got3).isNotSameAs(got1);
+        assertThat(got3.getBody()).isSameAs(got1.getBody());
+    }
+
+    @Test
+    void canonicalDoesNotShareTheCallersBody() throws Exception {
+        final AppResponse response = ok().withBody(objectBody(new HashMap<>(singletonMap("key", "value"))));
+
+        final AppResponse got = interner.canonical(response);
+        ((ObjectBodyContent) response.getBody()).getContent().put("key", "changed");
+
+        assertThat(got.getBody()).isNotSameAs(response.getBody());
+        assertThat(got).isEqualTo(ok().withBody(objectBody(singletonMap("key", "value"))));
+        assertThat(interner.canonical(ok().withBody(objectBody(singletonMap("key", "value"))))).isSameAs(got);
+    }
+
+    @Test
+    void canonicalReturnsResponseWithUnmodifiableHeaders() throws Exception {
+        final AppResponse got = interner.canonical(ok().withHeader("Version", "1"));
+
+        assertThatThrownBy(() -> got.withHeader("Version", "2")).isInstanceOf(UnsupportedOperationException.class);
+        assertThat(new AppResponse(got).withHeader("Version", "2").getHeaders()).containsEntry("Version", "2");
+    }
+
+    @Test
+    void canonicalGivesEachResponseWithSeededDelayProfileItsOwnProfile() throws Exception {
+        final DelayProfile profile = uniform(Duration.ZERO, Duration.ofSeconds(1)).withSeed(42);
+
+        final AppResponse got1 = interner.canonical(ok().withDelay(profile));
+        final AppResponse got2 = interner.canonical(ok().withDelay(profile));
+
+        assertThat(got2).isEqualTo(got1).isNotSameAs(got1);
+        assertThat(got1.getDelayProfile().get()).isEqualTo(profile).isNotSameAs(profile);
+        assertThat(got2.getDelayProfile().get()).isNotSameAs(got1.getDelayProfile().get());
+        assertThat(got2.getDelayProfile().get().sample()).isEqualTo(got1.getDelayProfile().get().sample());
+    }
+
+    @Test
+    void canonicalReturnsSameInstanceForEqualResponsesWithUnseededDelayProfile() throws Exception {
+        final AppResponse got1 = interner.canonical(ok().withDelay(uniform(Duration.ZERO, Duration.ofSeconds(1))));
+        final AppResponse got2 = interner.canonical(ok().withDelay(uniform(Duration.ZERO, Duration.ofSeconds(1))));
+
+        assertThat(got2).isSameAs(got1);
+    }
+
+    @Test
+    void canonicalReturnsStaticDefaultWithCanonicalResponse() throws Exception {
+        final AppResponse response = interner.canonical(ok());
+
+        assertThat(interner.canonical(staticDefault(ok())).getResponse()).isSameAs(response);
+    }
+}
@@ -0,0 +1,59 @@
+package com.jonnymatts.jzonbie.priming;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.Set;
+
+import static com.jonnymatts.jzonbie.priming.RequiredKeyIndex.excludes;
+import static java.util.Arrays.asList;
+import static java.util.Collections.singletonList;
+import static java.util.Collections.singletonMap;
+import static org.assertj.core.api.Assertions.assertThat;
+
+class RequiredKeyIndexTest {
+
+    private RequiredKeyIndex<String> requiredKeyIndex;
+
+    @BeforeEach
+    void setUp() throws Exception {
+        requiredKeyIndex = new RequiredKeyIndex<>();
+        requiredKeyIndex.add("tenant", asList("X-Tenant-Id", "Authorization"));
+        requiredKeyIndex.add("authorized", singletonList("Authorization"));
+        requiredKeyIndex.add("anonymous", asList());
+    }
+
+    @Test
+    void missingFromExcludesValuesRequiringKeysAbsentFromMap() throws Exception {
+        final List<Set<String>> missing = requiredKeyIndex.missingFrom(singletonMap("Authorization", "token"));
+
+        assertThat(excludes(missing, "tenant")).isTrue();
+        assertThat(excludes(missing, "authorized")).isFalse();
+        assertThat(excludes(missing, "anonymous")).isFalse();
+    }
+
+    @Test
+    void missingFromExcludesEveryValueWithRequiredKeysForNullMap() throws Exception {
+        final List<Set<String>> missing = requiredKeyIndex.missingFrom(null);
+
+        assertThat(excludes(missing, "tenant")).isTrue();
+        assertThat(excludes(missing, "authorized")).isTrue();
+        assertThat(excludes(missing, "anonymous")).isFalse();
+    }
+
+    @Test
+    void removeStopsExcludingRemovedValue() throws Exception {
+        requiredKeyIndex.remove("tenant", asList("X-Tenant-Id", "Authorization"));
+
+        assertThat(requiredKeyIndex.missingFrom(singletonMap("Authorization", "token"))).isEmpty();
+        assertThat(excludes(requiredKeyIndex.missingFrom(null), "tenant")).isFalse();
+    }
+
+    @Test
+    void clearRemovesAllKeys() throws Exception {
+        requiredKeyIndex.clear();
+
+        assertThat(requiredKeyIndex.missingFrom(null)).isEmpty();
+    }
+}
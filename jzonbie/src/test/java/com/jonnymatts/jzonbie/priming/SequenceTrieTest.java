@@ -0,0 +1,83 @@
+package com.jonnymatts.jzonbie.priming;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class SequenceTrieTest {
+
+    @Test
+    void emptyTrieHasNoValues() throws Exception {
+        final SequenceTrie<String> trie = SequenceTrie.empty();
+
+        assertThat(trie.size()).isEqualTo(0);
+        assertThat(trie.values()).isEmpty();
+        assertThat(trie.get(0)).isNull();
+    }
+
+    @Test
+    void withReturnsNewTrieWithValueAndLeavesOriginalUnchanged() throws Exception {
+        final SequenceTrie<String> original = SequenceTrie.<String>empty().with(1, "one");
+
+        final SequenceTrie<String> got = original.with(2, "two");
+
+        assertThat(got.values()).containsExactly("one", "two");
+        assertThat(got.get(2)).isEqualTo("two");
+        assertThat(original.values()).containsExactly("one");
+        assertThat(original.get(2)).isNull();
+    }
+
+    @Test
+    void withReplacesValueForExistingSequence() throws Exception {
+        final SequenceTrie<String> got = SequenceTrie.<String>empty().with(1, "one").with(1, "uno");
+
+        assertThat(got.size()).isEqualTo(1);
+        assertThat(got.values()).containsExactly("uno");
+    }
+
+    @Test
+    void withoutReturnsNewTrieWithoutValueAndLeavesOriginalUnchanged() throws Exception {
+        final SequenceTrie<String> original = SequenceTrie.<String>empty().with(1, "one").with(2, "two");
+
+        final SequenceTrie<String> got = original.without(1);
+
+        assertThat(got.values()).containsExactly("two");
+        assertThat(got.size()).isEqualTo(1);
+        assertThat(original.values()).containsExactly("one", "two");
+    }
+
+    @Test
+    void withoutReturnsSameTrieIfSequenceIsNotPresent() throws Exception {
+        final SequenceTrie<String> trie = SequenceTrie.<String>empty().with(1, "one");
+
+        assertThat(trie.without(2)).isSameAs(trie);
+        assertThat(trie.without(Long.MAX_VALUE)).isSameAs(trie);
+    }
+
+    @Test
+    void valuesAreReturnedInSequenceOrderAcrossManyLevels() throws Exception {
+        SequenceTrie<Long> trie = SequenceTrie.empty();
+        final List<Long> expected = new ArrayList<>();
+        for(long sequence = 0; sequence < 100_000; sequence += 7) {
+            trie = trie.with(sequence, sequence);
+            expected.add(sequence);
+        }
+        trie = trie.with(Long.MAX_VALUE, Long.MAX_VALUE);
+        expected.add(Long.MAX_VALUE);
+
+        assertThat(trie.size()).isEqualTo(expected.size());
+        assertThat(trie.values()).containsExactlyElementsOf(expected);
+        assertThat(trie.get(7_000)).isEqualTo(7_000L);
+        assertThat(trie.get(7_001)).isNull();
+    }
+
+    @Test
+    void withThrowsExceptionForNegativeSequence() throws Exception {
+        assertThatThrownBy(() -> SequenceTrie.empty().with(-1, "value"))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+}
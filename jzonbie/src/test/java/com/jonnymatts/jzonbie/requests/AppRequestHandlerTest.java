@@ -16,8 +16,12 @@ import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 
+import java.time.Duration;
+
 import static com.jonnymatts.jzonbie.requests.AppRequest.get;
 import static com.jonnymatts.jzonbie.responses.AppResponse.ok;
+import static com.jonnymatts.jzonbie.responses.delay.DelayProfile.uniform;
+import static java.time.Duration.ofMillis;
 import static java.util.Optional.empty;
 import static java.util.Optional.of;
 import static org.assertj.core.api.Assertions.assertThat;
@@ -91,4 +95,18 @@ class AppRequestHandlerTest {
             verify(failedRequests).add(appRequest);
         }
     }
-}
\ No newline at end of file
+
+    @Test
+    void handleSamplesDelayProfileAndRecordsSampledDelayInCallHistory() throws Exception {
+        final AppResponse profiledResponse = ok().withDelay(uniform(ofMillis(10), ofMillis(20)).withSeed(42));
+        when(primingContext.getResponse(appRequest)).thenReturn(of(profiledResponse));
+
+        final Response got = appRequestHandler.handle(request);
+
+        assertThat(got).isInstanceOf(SampledResponse.class);
+        assertThat(((SampledResponse) got).getResponse()).isSameAs(profiledResponse);
+        final Duration delay = (Duration) got.getDelay().get();
+        assertThat(delay).isBetween(ofMillis(10), ofMillis(20));
+        verify(callHistory).add(new Exchange(appRequest, profiledResponse, delay));
+    }
+}
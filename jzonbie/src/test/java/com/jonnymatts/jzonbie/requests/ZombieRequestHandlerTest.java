@@ -10,6 +10,8 @@ import com.jonnymatts.jzonbie.history.FixedCapacityCache;
 import com.jonnymatts.jzonbie.jackson.Deserializer;
 import com.jonnymatts.jzonbie.priming.PrimedMapping;
 import com.jonnymatts.jzonbie.priming.PrimingContext;
+import com.jonnymatts.jzonbie.priming.PrimingFileLoader;
+import com.jonnymatts.jzonbie.priming.PrimingFootprint;
 import com.jonnymatts.jzonbie.priming.ZombiePriming;
 import com.jonnymatts.jzonbie.responses.AppResponse;
 import com.jonnymatts.jzonbie.responses.CurrentPrimingFileResponseFactory;
@@ -23,6 +25,8 @@ import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 
+import java.io.ByteArrayInputStream;
+import java.io.InputStream;
 import java.util.List;
 
 import static com.jonnymatts.jzonbie.requests.AppRequest.get;
@@ -50,9 +54,9 @@ class ZombieRequestHandlerTest {
     @Mock private AppRequest zombieRequest;
     @Mock private AppResponse zombieResponse;
     @Mock private FileResponse fileResponse;
-    @Mock private PrimedMappingUploader primedMappingUploader;
+    @Mock private PrimingFileLoader primingFileLoader;
 
-    private static final String primingFileContent = FIXTURE.create(String.class);
+    private static final InputStream primingFile = new ByteArrayInputStream(FIXTURE.create(String.class).getBytes());
 
     private List<AppRequest> appRequests;
     private List<AppResponse> appResponses;
@@ -104,7 +108,7 @@ class ZombieRequestHandlerTest {
         failedRequests = new FixedCapacityCache<>(100);
         failedRequests.add(appRequests.get(0));
 
-        zombieRequestHandler = new ZombieRequestHandler("zombie", primingContext, callHistory, failedRequests, deserializer, currentPrimingFileResponseFactory, primedMappingUploader, new HttpsSupport());
+        zombieRequestHandler = new ZombieRequestHandler("zombie", primingContext, callHistory, failedRequests, deserializer, currentPrimingFileResponseFactory, primingFileLoader, new HttpsSupport());
         defaultingQueue = new DefaultingQueue() {{
             add(appResponses);
         }};
@@ -128,6 +132,35 @@ class ZombieRequestHandlerTest {
         verify(primingContext).add(zombiePriming.getRequest(), zombiePriming.getResponse());
     }
 
+    @Test
+    void handleAddsAllRequestsToPrimingContextIfZombieHeaderHasBatchPrimingValue() throws JsonProcessingException {
+        final List<ZombiePriming> zombiePrimings = asList(zombiePriming1, zombiePriming2, zombiePriming3);
+        final String body = FIXTURE.create(String.class);
+        when(request.getHeaders()).thenReturn(singletonMap("zombie", "priming-batch"));
+        when(request.getBody()).thenReturn(body);
+        when(deserializer.deserializeCollection(body, ZombiePriming.class)).thenReturn(zombiePrimings);
+
+        final Response got = zombieRequestHandler.handle(request);
+
+        assertThat(got).isEqualTo(new ZombieResponse(CREATED_201, zombiePrimings));
+
+        verify(primingContext).addAll(zombiePrimings);
+    }
+
+    @Test
+    void handleThrowsExceptionAndDoesNotPrimeBatchIfMethodNotPresentInAnyPrimedRequest() throws JsonProcessingException {
+        final String body = FIXTURE.create(String.class);
+        when(request.getHeaders()).thenReturn(singletonMap("zombie", "priming-batch"));
+        when(request.getBody()).thenReturn(body);
+        when(deserializer.deserializeCollection(body, ZombiePriming.class)).thenReturn(asList(zombiePriming1, zombiePriming));
+
+        assertThatThrownBy(() -> zombieRequestHandler.handle(request))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessageContaining("Method cannot be null");
+
+        verifyZeroInteractions(primingContext);
+    }
+
     @Test
     void handleAddsDefaultRequestToPrimingContextIfZombieHeaderHasDefaultPrimingValue() throws JsonProcessingException {
         when(request.getHeaders()).thenReturn(singletonMap("zombie", "priming-default"));
@@ -145,14 +178,23 @@ class ZombieRequestHandlerTest {
     @Test
     void handleAddsPrimingFromFileToPrimingContextIfZombieHeaderHasPrimingFileValue() throws JsonProcessingException {
         when(request.getHeaders()).thenReturn(singletonMap("zombie", "priming-file"));
-        when(request.getPrimingFileContent()).thenReturn(primingFileContent);
-        when(deserializer.deserializeCollection(primingFileContent, PrimedMapping.class)).thenReturn(primedRequests);
+        when(request.getPrimingFile()).thenReturn(primingFile);
+        when(primingFileLoader.load(primingFile)).thenReturn(3);
 
         final Response got = zombieRequestHandler.handle(request);
 
-        assertThat(got).isEqualTo(new ZombieResponse(CREATED_201, primedRequests));
+        assertThat(got).isEqualTo(new ZombieResponse(CREATED_201, singletonMap("mappings", 3)));
+    }
+
+    @Test
+    void handleThrowsExceptionIfZombieHeaderHasPrimingFileValueAndPrimingFileIsNotPresent() throws Exception {
+        when(request.getHeaders()).thenReturn(singletonMap("zombie", "priming-file"));
+
+        assertThatThrownBy(() -> zombieRequestHandler.handle(request))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessageContaining("Priming file not present");
 
-        verify(primedMappingUploader).upload(primedRequests);
+        verifyZeroInteractions(primingFileLoader);
     }
 
     @Test
@@ -197,6 +239,17 @@ class ZombieRequestHandlerTest {
         assertThat(got).isEqualTo(fileResponse);
     }
 
+    @Test
+    void handleReturnsPrimingFootprintIfZombieHeaderHasFootprintValue() throws Exception {
+        final PrimingFootprint footprint = PrimingFootprint.of(primedRequests);
+        when(request.getHeaders()).thenReturn(singletonMap("zombie", "footprint"));
+        when(primingContext.getFootprint()).thenReturn(footprint);
+
+        final Response got = zombieRequestHandler.handle(request);
+
+        assertThat(got).isEqualTo(new ZombieResponse(OK_200, footprint));
+    }
+
     @Test
     void handleClearsPrimingContextCallHistoryAndFailedRequestsIfZombieHeaderHasResetValue() throws JsonProcessingException {
         when(request.getHeaders()).thenReturn(singletonMap("zombie", "reset"));
@@ -252,7 +305,7 @@ class ZombieRequestHandlerTest {
 
     @Test
     void zombieHeaderNameCanBeSet() throws JsonProcessingException {
-        zombieRequestHandler = new ZombieRequestHandler("name", primingContext, callHistory, failedRequests, deserializer, currentPrimingFileResponseFactory, primedMappingUploader, new HttpsSupport());
+        zombieRequestHandler = new ZombieRequestHandler("name", primingContext, callHistory, failedRequests, deserializer, currentPrimingFileResponseFactory, primingFileLoader, new HttpsSupport());
 
         when(request.getHeaders()).thenReturn(singletonMap("name", "history"));
 
@@ -37,7 +37,8 @@ class JzonbieHandlebarsTest {
                 new Data("header", "{{ request.header.header1 }}", "headerValue"),
                 new Data("queryParam", "{{ request.queryParam.param1.[0] }}", "paramValue"),
                 new Data("body", "{{{ request.body }}}", "{\"field\": \"value\"}"),
-                new Data("jsonPath", "{{jsonPath request.body '$.field'}}", "value")
+                new Data("jsonPath", "{{jsonPath request.body '$.field'}}", "value"),
+                new Data("repeated jsonPath", "{{jsonPath request.body '$.field'}} {{#each request.pathSegment}}{{jsonPath ../request.body '$.field'}}{{/each}}", "value valuevaluevalue")
         );
     }
 
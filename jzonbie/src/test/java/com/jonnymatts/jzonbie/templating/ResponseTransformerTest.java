@@ -11,7 +11,7 @@ import java.util.Map;
 import static java.util.Collections.singletonMap;
 import static org.assertj.core.api.Assertions.*;
 import static org.mockito.Answers.RETURNS_DEEP_STUBS;
-import static org.mockito.Mockito.lenient;
+import static org.mockito.Mockito.*;
 
 @ExtendWith(MockitoExtension.class)
 class ResponseTransformerTest {
@@ -50,6 +50,38 @@ class ResponseTransformerTest {
         assertThat(got).isEqualTo("url");
     }
 
+    @Test
+    void transformBodyCompilesEachTemplateOnce() throws Exception {
+        final JzonbieHandlebars handlebars = spy(new JzonbieHandlebars());
+        underTest = new ResponseTransformer(handlebars);
+
+        underTest.transformBody(transformationContext, "{{ request.url }}");
+        final String got = underTest.transformBody(transformationContext, "{{ request.url }}");
+
+        assertThat(got).isEqualTo("url");
+        verify(handlebars, times(1)).compileInline("{{ request.url }}");
+    }
+
+    @Test
+    void compileThrowsExceptionIfTemplateIsInvalid() {
+        assertThatThrownBy(() -> underTest.compile(singletonMap("header", "value"), "{{#if}}"))
+                .isInstanceOf(TransformResponseException.class)
+                .hasMessage("Invalid template: {{#if}}");
+    }
+
+    @Test
+    void compileCompilesTemplatesUsedWhenTransforming() throws Exception {
+        final JzonbieHandlebars handlebars = spy(new JzonbieHandlebars());
+        underTest = new ResponseTransformer(handlebars);
+
+        underTest.compile(singletonMap("header", "{{ request.method }}"), "{{ request.url }}");
+        underTest.transformHeaders(transformationContext, singletonMap("header", "{{ request.method }}"));
+        underTest.transformBody(transformationContext, "{{ request.url }}");
+
+        verify(handlebars, times(1)).compileInline("{{ request.method }}");
+        verify(handlebars, times(1)).compileInline("{{ request.url }}");
+    }
+
     @Test
     void transformBodyThrowsExceptionIfHandlebarsThrowsException() {
         assertThatThrownBy(() -> underTest.transformBody(transformationContext, null))
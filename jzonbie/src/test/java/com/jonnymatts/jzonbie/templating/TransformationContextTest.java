@@ -0,0 +1,51 @@
+package com.jonnymatts.jzonbie.templating;
+
+import com.jayway.jsonpath.DocumentContext;
+import com.jonnymatts.jzonbie.templating.TransformationContext.RequestContext;
+import org.junit.jupiter.api.Test;
+
+import java.util.function.Supplier;
+
+import static java.util.Arrays.asList;
+import static java.util.Collections.emptyMap;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.*;
+
+class TransformationContextTest {
+
+    @Test
+    @SuppressWarnings("unchecked")
+    void requestContextOnlyReadsBodyOnceWhenFirstUsed() throws Exception {
+        final Supplier<String> body = mock(Supplier.class);
+        when(body.get()).thenReturn("body");
+
+        final RequestContext underTest = new RequestContext("http", "http://hostname:8080/path", 8080, "/path", emptyMap(), emptyMap(), "GET", body);
+
+        verifyZeroInteractions(body);
+        assertThat(underTest.getBody()).isEqualTo("body");
+        assertThat(underTest.getBody()).isEqualTo("body");
+        verify(body, times(1)).get();
+    }
+
+    @Test
+    void documentReusesParsedDocumentWhileReadingTheSameString() throws Exception {
+        final String body = "{\"field\": \"value\"}";
+        final TransformationContext underTest = new TransformationContext("http", "http://hostname/path", 0, "/path", emptyMap(), emptyMap(), "POST", body);
+
+        final DocumentContext got = underTest.document(underTest.getRequest().getBody());
+
+        assertThat(underTest.document(underTest.getRequest().getBody())).isSameAs(got);
+        assertThat(underTest.document("{\"field\": \"other\"}")).isNotSameAs(got);
+        assertThat(got.<String>read("$.field")).isEqualTo("value");
+    }
+
+    @Test
+    void requestContextDerivesValuesFromUrlAndPath() throws Exception {
+        final RequestContext underTest = new RequestContext("https", "https://hostname/a/long/path", 0, "/a/long/path", emptyMap(), emptyMap(), "GET", "body");
+
+        assertThat(underTest.getHost()).isEqualTo("hostname");
+        assertThat(underTest.getBaseUrl()).isEqualTo("https://hostname");
+        assertThat(underTest.getPathSegment()).isEqualTo(asList("a", "long", "path"));
+        assertThat(underTest.getPathSegment()).isSameAs(underTest.getPathSegment());
+    }
+}